@@ -0,0 +1,22 @@
+package org.proton_di.benchmarks;
+
+import org.proton_di.inject.config.Inject;
+import org.proton_di.inject.config.InjectableObject;
+
+public class BenchmarkInjectableObject extends InjectableObject {
+	
+	@Inject
+	private BenchmarkSingleton singleton;
+	
+	@Inject
+	private BenchmarkMultiple multiple;
+
+	public BenchmarkSingleton getSingleton() {
+		return singleton;
+	}
+
+	public BenchmarkMultiple getMultiple() {
+		return multiple;
+	}
+	
+}
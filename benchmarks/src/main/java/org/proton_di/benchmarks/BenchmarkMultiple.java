@@ -0,0 +1,28 @@
+package org.proton_di.benchmarks;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.MULTIPLE)
+public class BenchmarkMultiple {
+	
+	@Inject
+	private BenchmarkSingleton field;
+	
+	private final BenchmarkSingleton constructor;
+	
+	@Inject
+	BenchmarkMultiple(BenchmarkSingleton constructor){
+		this.constructor = constructor;
+	}
+
+	public BenchmarkSingleton getField() {
+		return field;
+	}
+
+	public BenchmarkSingleton getConstructor() {
+		return constructor;
+	}
+	
+}
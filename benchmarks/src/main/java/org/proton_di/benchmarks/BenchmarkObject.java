@@ -0,0 +1,21 @@
+package org.proton_di.benchmarks;
+
+import org.proton_di.inject.config.Inject;
+
+public class BenchmarkObject {
+	
+	@Inject
+	private BenchmarkSingleton singleton;
+	
+	@Inject
+	private BenchmarkMultiple multiple;
+
+	public BenchmarkSingleton getSingleton() {
+		return singleton;
+	}
+
+	public BenchmarkMultiple getMultiple() {
+		return multiple;
+	}
+	
+}
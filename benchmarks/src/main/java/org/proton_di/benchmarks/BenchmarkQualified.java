@@ -0,0 +1,11 @@
+package org.proton_di.benchmarks;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier(LookupBenchmark.QUALIFIER)
+public class BenchmarkQualified {
+
+}
@@ -0,0 +1,79 @@
+package org.proton_di.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Optional;
+
+/**
+ * Runs benchmarks using the standard JMH command line options. Unless
+ * another format is set with <code>-rf</code>, results are written as JSON
+ * to <code>target/jmh-result.json</code> so they can be compared
+ * across releases.<br>
+ * 
+ * The synthetic graphs used by {@link WiringBenchmark} are compiled before
+ * the run and added to the class path inherited by each fork, since the
+ * benchmark wires them through the public API.
+ * 
+ * @author Luke Stevens
+ */
+public class BenchmarkRunner {
+	
+	private static final String RESULT = "target" + File.separator + "jmh-result.json";
+	private static final String CLASS_PATH = "java.class.path";
+	
+	private BenchmarkRunner(){/* Hide public constructor in static class */}
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		if(cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListWithParams() || cmd.shouldListProfilers() || cmd.shouldListResultFormats()){
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+		if(!cmd.getResultFormat().hasValue()){
+			new File(RESULT).getParentFile().mkdirs();
+			options.resultFormat(ResultFormatType.JSON).result(RESULT);
+		}
+		addGraphs(values(cmd.getParameter("depth"), "5", "20"), values(cmd.getParameter("width"), "10", "100"));
+		new Runner(options.build()).run();
+	}
+	
+	/**
+	 * Compiles every combination of graph sizes and appends them to the class
+	 * path, which JMH passes on to each forked JVM.
+	 * @param depths The depths of the graphs to compile
+	 * @param widths The widths of the graphs to compile
+	 */
+	private static void addGraphs(Collection<String> depths, Collection<String> widths){
+		StringBuilder classpath = new StringBuilder(System.getProperty(CLASS_PATH));
+		for(String depth : depths){
+			for(String width : widths){
+				Path graph = SyntheticClasses.graph(Integer.parseInt(depth), Integer.parseInt(width));
+				classpath.append(File.pathSeparator).append(graph);
+			}
+		}
+		System.setProperty(CLASS_PATH, classpath.toString());
+	}
+	
+	/**
+	 * @param parameter The values of a parameter given on the command line
+	 * @param defaults The values used by the benchmark when none are given
+	 * @return The values the benchmark will run with
+	 */
+	private static Collection<String> values(Optional<Collection<String>> parameter, String... defaults){
+		return parameter.hasValue()? parameter.get() : Arrays.asList(defaults);
+	}
+
+}
@@ -0,0 +1,9 @@
+package org.proton_di.benchmarks;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SINGLETON)
+public class BenchmarkSingleton {
+
+}
@@ -0,0 +1,53 @@
+package org.proton_di.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+
+/**
+ * Compares creating a MULTIPLE dependency through the reflective
+ * {@link Injector#newInstance(Class)} path against the supplier
+ * registered for it, which invokes a pre-resolved constructor.
+ * 
+ * @author Luke Stevens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+	
+	Injector injector;
+	Supplier<Object> supplier;
+	
+	@Setup
+	public void setup(){
+		injector = InjectionManager.getRootInjector();
+		supplier = injector.getSupplier(BenchmarkMultiple.class);
+	}
+	
+	@Benchmark
+	public Object reflectiveNewInstance(){
+		return injector.newInstance(BenchmarkMultiple.class);
+	}
+	
+	@Benchmark
+	public Object constructorSupplier(){
+		return supplier.get();
+	}
+
+}
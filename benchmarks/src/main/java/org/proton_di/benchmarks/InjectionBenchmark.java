@@ -0,0 +1,53 @@
+package org.proton_di.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.InjectableObject;
+
+/**
+ * Measures injecting a singleton and a MULTIPLE dependency into
+ * an existing object, and constructing an {@link InjectableObject}
+ * with the same fields.
+ * 
+ * @author Luke Stevens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectionBenchmark {
+	
+	Injector injector;
+	
+	@Setup
+	public void setup(){
+		injector = InjectionManager.getRootInjector();
+	}
+	
+	@Benchmark
+	public Object injectDependencies(){
+		BenchmarkObject o = new BenchmarkObject();
+		injector.injectDependencies(o);
+		return o;
+	}
+	
+	@Benchmark
+	public Object injectableObject(){
+		return new BenchmarkInjectableObject();
+	}
+
+}
@@ -0,0 +1,65 @@
+package org.proton_di.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+
+/**
+ * Measures {@link Injector#getDependency(Class)} throughput for a
+ * singleton and a MULTIPLE dependency in the root injector, a singleton
+ * in a qualified injector, and a root singleton retrieved through a
+ * qualified injector.
+ * 
+ * @author Luke Stevens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+	
+	static final String QUALIFIER = "benchmark";
+	
+	Injector root;
+	Injector qualified;
+	
+	@Setup
+	public void setup(){
+		root = InjectionManager.getRootInjector();
+		qualified = InjectionManager.getInjector(QUALIFIER);
+	}
+	
+	@Benchmark
+	public Object root(){
+		return root.getDependency(BenchmarkSingleton.class);
+	}
+	
+	@Benchmark
+	public Object rootMultiple(){
+		return root.getDependency(BenchmarkMultiple.class);
+	}
+	
+	@Benchmark
+	public Object qualifiedHit(){
+		return qualified.getDependency(BenchmarkQualified.class);
+	}
+	
+	@Benchmark
+	public Object qualifiedFallback(){
+		return qualified.getDependency(BenchmarkSingleton.class);
+	}
+
+}
@@ -0,0 +1,58 @@
+package org.proton_di.benchmarks;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.proton_di.scanner.ClassPath;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+
+/**
+ * Measures {@link ClassPath} construction on synthetic class paths.
+ * Every scan uses a new class loader, so classes are always loaded
+ * from scratch.
+ * 
+ * @author Luke Stevens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScanBenchmark {
+	
+	@Param({"1000", "10000", "50000"})
+	int classes;
+	
+	@Param({"REFLECTION", "BYTECODE"})
+	String mode;
+	
+	Path classpath;
+	
+	@Setup
+	public void setup(){
+		classpath = SyntheticClasses.classpath(classes);
+		System.setProperty("proton.scan.mode", mode);
+	}
+	
+	@Benchmark
+	public int scan() throws IOException {
+		try(URLClassLoader loader = SyntheticClasses.newClassLoader(classpath)){
+			return new ClassPath(new ResourceRootFactory(classpath.toString(), loader)).getClasses().size();
+		}
+	}
+
+}
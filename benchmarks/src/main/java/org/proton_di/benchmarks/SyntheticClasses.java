@@ -0,0 +1,190 @@
+package org.proton_di.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates and compiles synthetic classes for benchmarks. Each set
+ * of classes is compiled once into <code>target/synthetic</code>
+ * and reused by later runs.
+ * 
+ * @author Luke Stevens
+ */
+public class SyntheticClasses {
+	
+	private static final Path ROOT = Paths.get("target", "synthetic");
+	private static final String COMPLETE = ".complete";
+	private static final int CLASSES_PER_PACKAGE = 100;
+	private static final int BATCH_SIZE = 2000;
+	
+	private SyntheticClasses(){/* Hide public constructor in static class */}
+	
+	/**
+	 * Gets a directory of plain classes to scan, split into packages of
+	 * 100 classes. Every tenth class is annotated with <code>@Dependency</code>.
+	 * @param count The number of classes to generate
+	 * @return The directory containing the compiled classes
+	 */
+	public static Path classpath(int count){
+		Map<String, String> sources = new LinkedHashMap<>();
+		for(int i = 0; i < count; i++){
+			String pkg = "synthetic.scan.p" + (i / CLASSES_PER_PACKAGE);
+			String name = "C" + i;
+			String annotation = i % 10 == 0? "@org.proton_di.dependency.Dependency(type = org.proton_di.dependency.InstanceType.SINGLETON)\n" : "";
+			sources.put(pkg + "." + name, "package " + pkg + ";\n" + annotation + "public class " + name + " {\n\tprivate int value = " + i + ";\n}\n");
+		}
+		return compile("scan-" + count, sources);
+	}
+	
+	/**
+	 * Gets a directory of singleton dependency classes forming a layered graph,
+	 * all qualified by {@link #graphQualifier(int, int)}. Each class in a layer
+	 * takes two classes from the layer below as constructor parameters, so every
+	 * class depends on the whole layer below it within a few layers.
+	 * @param depth The number of layers
+	 * @param width The number of classes in each layer
+	 * @return The directory containing the compiled classes
+	 */
+	public static Path graph(int depth, int width){
+		Map<String, String> sources = new LinkedHashMap<>();
+		for(int layer = 0; layer < depth; layer++){
+			for(int i = 0; i < width; i++){
+				sources.put(graphClassName(depth, width, layer, i), graphSource(depth, width, layer, i));
+			}
+		}
+		return compile("graph-" + depth + "x" + width, sources);
+	}
+	
+	/**
+	 * @param depth The number of layers in the graph
+	 * @param width The number of classes in each layer
+	 * @return The qualifier of every class in the graph
+	 */
+	public static String graphQualifier(int depth, int width){
+		return "graph-" + depth + "x" + width;
+	}
+	
+	/**
+	 * @param depth The number of layers in the graph
+	 * @param width The number of classes in each layer
+	 * @param layer The layer of the class in the graph
+	 * @param index The index of the class in its layer
+	 * @return The fully qualified name of a generated graph class
+	 */
+	public static String graphClassName(int depth, int width, int layer, int index){
+		return graphPackage(depth, width) + ".L" + layer + "N" + index;
+	}
+	
+	/**
+	 * @param depth The number of layers in the graph
+	 * @param width The number of classes in each layer
+	 * @return The package of every class in the graph, so graphs
+	 * of different sizes can be on the class path together
+	 */
+	private static String graphPackage(int depth, int width){
+		return "synthetic.graph.d" + depth + "w" + width;
+	}
+	
+	/**
+	 * @param depth The number of layers in the graph
+	 * @param width The number of classes in each layer
+	 * @param layer The layer of the class in the graph
+	 * @param index The index of the class in its layer
+	 * @return The source of a single graph class
+	 */
+	private static String graphSource(int depth, int width, int layer, int index){
+		String name = "L" + layer + "N" + index;
+		StringBuilder source = new StringBuilder("package " + graphPackage(depth, width) + ";\n")
+				.append("@org.proton_di.dependency.Dependency(type = org.proton_di.dependency.InstanceType.SINGLETON)\n")
+				.append("@org.proton_di.configuration.Qualifier(\"" + graphQualifier(depth, width) + "\")\n")
+				.append("public class " + name + " {\n");
+		if(layer > 0){
+			String first = "L" + (layer - 1) + "N" + index;
+			String second = "L" + (layer - 1) + "N" + ((index + 1) % width);
+			source.append("\t@org.proton_di.inject.config.Inject\n")
+				.append("\tpublic " + name + "(" + first + " first, " + second + " second){}\n");
+		}
+		return source.append("}\n").toString();
+	}
+	
+	/**
+	 * Creates a new class loader for a directory of compiled classes,
+	 * so classes are loaded fresh by each loader.
+	 * @param dir The directory of compiled classes
+	 * @return A class loader for the directory, delegating to the
+	 * benchmark class loader for Proton classes
+	 */
+	public static URLClassLoader newClassLoader(Path dir){
+		try{
+			URL[] urls = { dir.toUri().toURL() };
+			return new URLClassLoader(urls, SyntheticClasses.class.getClassLoader());
+		} catch(MalformedURLException e){
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Compiles a set of generated sources, unless they have already
+	 * been compiled by a previous run.
+	 * @param name The name of the directory to compile into
+	 * @param sources The source of each class, by fully qualified name
+	 * @return The directory containing the compiled classes
+	 */
+	private static Path compile(String name, Map<String, String> sources){
+		Path dir = ROOT.resolve(name).toAbsolutePath();
+		Path classes = dir.resolve("classes");
+		if(Files.exists(dir.resolve(COMPLETE))) return classes;
+		
+		try{
+			Path src = dir.resolve("src");
+			List<File> files = new ArrayList<>();
+			for(Map.Entry<String, String> source : sources.entrySet()){
+				Path file = src.resolve(source.getKey().replace('.', File.separatorChar) + ".java");
+				Files.createDirectories(file.getParent());
+				Files.write(file, source.getValue().getBytes(StandardCharsets.UTF_8));
+				files.add(file.toFile());
+			}
+			Files.createDirectories(classes);
+			
+			JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+			if(compiler == null) throw new IllegalStateException("Benchmarks must be run on a JDK to generate synthetic classes");
+			
+			try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)){
+				List<String> options = Arrays.asList("-proc:none", "-nowarn",
+						"-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes,
+						"-d", classes.toString());
+				
+				// Layered graphs reference earlier classes, so each batch is compiled in order
+				for(int i = 0; i < files.size(); i += BATCH_SIZE){
+					List<File> batch = files.subList(i, Math.min(i + BATCH_SIZE, files.size()));
+					if(!compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(batch)).call()){
+						throw new IllegalStateException("Failed to compile synthetic classes in " + src);
+					}
+				}
+			}
+			
+			Files.createFile(dir.resolve(COMPLETE));
+			return classes;
+		} catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package org.proton_di.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+
+/**
+ * Measures wiring a qualified Injector for generated dependency graphs
+ * of varying depth and width, using {@link InjectionManager#getInjector(String)}.
+ * The container is started before each measurement, so the class path has
+ * already been scanned and each operation covers sorting the graph and
+ * creating every singleton.<br>
+ * 
+ * An Injector is only wired once per JVM, so every measurement runs in
+ * a new fork. The graph classes must be on the class path of each fork,
+ * which {@link BenchmarkRunner} ensures.
+ * 
+ * @author Luke Stevens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class WiringBenchmark {
+	
+	@Param({"5", "20"})
+	int depth;
+	
+	@Param({"10", "100"})
+	int width;
+	
+	String qualifier;
+	
+	@Setup
+	public void setup() throws ClassNotFoundException {
+		qualifier = SyntheticClasses.graphQualifier(depth, width);
+		
+		// Fails if the graph was not added to the class path by BenchmarkRunner
+		Class.forName(SyntheticClasses.graphClassName(depth, width, 0, 0));
+		InjectionManager.init();
+	}
+	
+	@Benchmark
+	public Injector wire(){
+		return InjectionManager.getInjector(qualifier);
+	}
+
+}
@@ -0,0 +1,143 @@
+package org.proton_di.codegen;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.proton_di.configuration.Configuration;
+import org.proton_di.dependency.Order;
+
+/**
+ * The base class for classes generated by the {@link WiringProcessor}
+ * for each class annotated with <code>@</code>{@link Configuration}.<br>
+ * 
+ * Each method of the configuration class is described by a {@link Method},
+ * and invoked by its index with a plain Java call. These are only generated
+ * for configuration classes whose constructor and methods generated code
+ * can all reach, so classes with private methods are loaded reflectively instead.
+ * 
+ * @author Luke Stevens
+ */
+public abstract class GeneratedConfiguration {
+	
+	private final Class<?> type;
+	private final List<Method> methods;
+	
+	/**
+	 * Constructs a new GeneratedConfiguration
+	 * @param type The configuration class
+	 * @param methods The methods declared by the configuration class
+	 */
+	protected GeneratedConfiguration(Class<?> type, Method...methods) {
+		this.type = type;
+		this.methods = Collections.unmodifiableList(Arrays.asList(methods));
+	}
+	
+	/**
+	 * @return A new instance of the configuration class
+	 */
+	public abstract Object construct();
+	
+	/**
+	 * Invokes a method of the configuration class
+	 * @param index The index of the method in {@link #getMethods()}
+	 * @param configuration The configuration instance, ignored for static methods
+	 * @param args The arguments to pass to the method
+	 * @return The value returned by the method
+	 * @throws IndexOutOfBoundsException If there is no method at the index
+	 */
+	public abstract Object invoke(int index, Object configuration, Object[] args);
+	
+	/**
+	 * @return The configuration class
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+	
+	/**
+	 * @return All methods declared by the configuration class
+	 */
+	public List<Method> getMethods() {
+		return methods;
+	}
+	
+	/**
+	 * A description of a single method declared by
+	 * a configuration class
+	 */
+	public static final class Method {
+		
+		private final String name;
+		private final Class<?> returnType;
+		private final Type genericReturnType;
+		private final Type[] parameterTypes;
+		private final int order;
+		private final boolean isStatic;
+		
+		/**
+		 * Constructs a new Method
+		 * @param name The name of the method
+		 * @param returnType The class returned by the method
+		 * @param genericReturnType The generic type returned by the method
+		 * @param parameterTypes The generic types of all parameters
+		 * @param order The value of <code>@</code>{@link Order} on the method,
+		 * or <code>Integer.MAX_VALUE</code> if not present
+		 * @param isStatic True if the method is static
+		 */
+		public Method(String name, Class<?> returnType, Type genericReturnType, Type[] parameterTypes,
+				int order, boolean isStatic) {
+			this.name = name;
+			this.returnType = returnType;
+			this.genericReturnType = genericReturnType;
+			this.parameterTypes = parameterTypes;
+			this.order = order;
+			this.isStatic = isStatic;
+		}
+		
+		/**
+		 * @return The name of the method
+		 */
+		public String getName() {
+			return name;
+		}
+		
+		/**
+		 * @return The class returned by the method
+		 */
+		public Class<?> getReturnType() {
+			return returnType;
+		}
+		
+		/**
+		 * @return The generic type returned by the method
+		 */
+		public Type getGenericReturnType() {
+			return genericReturnType;
+		}
+		
+		/**
+		 * @return The generic types of all parameters
+		 */
+		public Type[] getParameterTypes() {
+			return parameterTypes;
+		}
+		
+		/**
+		 * @return The value of <code>@</code>{@link Order} on the method,
+		 * or <code>Integer.MAX_VALUE</code> if not present
+		 */
+		public int getOrder() {
+			return order;
+		}
+		
+		/**
+		 * @return True if the method is static
+		 */
+		public boolean isStatic() {
+			return isStatic;
+		}
+	}
+
+}
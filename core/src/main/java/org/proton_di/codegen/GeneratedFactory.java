@@ -0,0 +1,88 @@
+package org.proton_di.codegen;
+
+import java.lang.reflect.Type;
+
+import org.proton_di.dependency.Dependency;
+
+/**
+ * The base class for factories generated by the {@link WiringProcessor}
+ * for each class annotated with <code>@</code>{@link Dependency}.<br>
+ * 
+ * A factory describes the injection points of its class, so they do not
+ * need to be read reflectively, and constructs and injects into instances
+ * with plain Java calls. Factories are only generated for classes whose
+ * injection constructor and fields generated code can reach, so classes
+ * with private injection points are wired reflectively instead.
+ * 
+ * @author Luke Stevens
+ */
+public abstract class GeneratedFactory<T> {
+	
+	private static final Type[] NONE = {};
+	
+	private final Class<T> type;
+	private final Type[] constructorTypes;
+	private final Type[] fieldTypes;
+	private final Class<?>[] assignableClasses;
+	
+	/**
+	 * Constructs a new GeneratedFactory
+	 * @param type The dependency class created by this factory
+	 * @param constructorTypes The generic parameter types of the injection constructor
+	 * @param fieldTypes The generic types of all fields annotated with <code>@Inject</code>,
+	 * including those of superclasses
+	 * @param assignableClasses The superclasses and interfaces of the dependency class
+	 */
+	protected GeneratedFactory(Class<T> type, Type[] constructorTypes, Type[] fieldTypes, Class<?>[] assignableClasses) {
+		this.type = type;
+		this.constructorTypes = constructorTypes == null? NONE : constructorTypes;
+		this.fieldTypes = fieldTypes == null? NONE : fieldTypes;
+		this.assignableClasses = assignableClasses;
+	}
+	
+	/**
+	 * Creates a new instance using the injection constructor
+	 * @param args The arguments for each of the {@link #getConstructorTypes()}
+	 * @return The new instance
+	 */
+	public abstract T construct(Object[] args);
+	
+	/**
+	 * Sets every field annotated with <code>@Inject</code>
+	 * @param instance The instance to inject into
+	 * @param values The values for each of the {@link #getFieldTypes()}
+	 */
+	public abstract void inject(T instance, Object[] values);
+	
+	/**
+	 * @return The dependency class created by this factory
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+	
+	/**
+	 * @return The generic parameter types of the injection constructor,
+	 * or an empty array for the default constructor
+	 */
+	public Type[] getConstructorTypes() {
+		return constructorTypes;
+	}
+	
+	/**
+	 * @return The generic types of all fields annotated with
+	 * <code>@Inject</code>, in the order expected by {@link #inject(Object, Object[])}
+	 */
+	public Type[] getFieldTypes() {
+		return fieldTypes;
+	}
+	
+	/**
+	 * @return The superclasses and interfaces of the dependency
+	 * class, or null if they could not be referenced from generated code
+	 */
+	public Class<?>[] getAssignableClasses() {
+		return assignableClasses;
+	}
+
+}
@@ -0,0 +1,83 @@
+package org.proton_di.codegen;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A ParameterizedType created by generated code to describe
+ * the generic type of a field, parameter or configured method,
+ * e.g. <code>List&lt;Handler&gt;</code>, without reading
+ * it reflectively.
+ * 
+ * @author Luke Stevens
+ */
+public final class GeneratedType implements ParameterizedType {
+	
+	/**
+	 * A type argument that is neither a class nor a parameterized type,
+	 * e.g. a wildcard or type variable, which can't be injected
+	 */
+	public static final Type UNKNOWN = new Type(){
+		@Override
+		public String getTypeName() {
+			return "?";
+		}
+	};
+	
+	private final Class<?> rawType;
+	private final Type[] arguments;
+	
+	private GeneratedType(Class<?> rawType, Type[] arguments) {
+		this.rawType = rawType;
+		this.arguments = arguments;
+	}
+	
+	/**
+	 * @param rawType The declared class, e.g. <code>List</code>
+	 * @param arguments The type arguments, e.g. <code>Handler</code>
+	 * @return A ParameterizedType of the raw type and its arguments
+	 */
+	public static GeneratedType of(Class<?> rawType, Type...arguments){
+		return new GeneratedType(rawType, arguments);
+	}
+
+	@Override
+	public Type[] getActualTypeArguments() {
+		return arguments.clone();
+	}
+
+	@Override
+	public Type getRawType() {
+		return rawType;
+	}
+
+	@Override
+	public Type getOwnerType() {
+		return rawType.getDeclaringClass();
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if(!(o instanceof ParameterizedType)) return false;
+		ParameterizedType other = (ParameterizedType) o;
+		return rawType.equals(other.getRawType())
+				&& Objects.equals(getOwnerType(), other.getOwnerType())
+				&& Arrays.equals(arguments, other.getActualTypeArguments());
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(arguments) ^ Objects.hashCode(getOwnerType()) ^ rawType.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", rawType.getTypeName() + "<", ">");
+		for(Type argument : arguments) joiner.add(argument.getTypeName());
+		return joiner.toString();
+	}
+
+}
@@ -0,0 +1,123 @@
+package org.proton_di.codegen;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+
+/**
+ * A Class to represent the merged wiring generated at compile time
+ * by the {@link WiringProcessor}.<br>
+ * 
+ * Every {@link WiringRegistry} visible to the context class loader of the
+ * thread starting the container is loaded and merged, or those visible to
+ * the system class loader if it has none. Dependencies and configurations
+ * without generated code, or all of them if the property <code>proton.codegen</code>
+ * is set to false, are wired using reflection instead.<br>
+ * 
+ * Only factories and field injectors are generated. The graph is still resolved
+ * and the injectors created at runtime, as classes from other compilations,
+ * such as libraries on the class path, can only be found then.
+ * 
+ * @author Luke Stevens
+ */
+public class GeneratedWiring {
+	
+	private static final Logger LOGGER = Logger.getLogger(GeneratedWiring.class.getName());
+	private static final GeneratedWiring INSTANCE = new GeneratedWiring();
+	
+	/**
+	 * @return Gets the single GeneratedWiring instance
+	 */
+	public static GeneratedWiring getInstance(){
+		return INSTANCE;
+	}
+	
+	private final Map<Class<?>, GeneratedFactory<?>> factories = new HashMap<>();
+	private final Map<Class<?>, GeneratedConfiguration> configurations = new HashMap<>();
+	
+	/**
+	 * Loads and merges all generated registries on the class path.
+	 * Any registry that can't be loaded is logged and skipped, so the
+	 * classes it lists are wired using reflection.
+	 */
+	@SuppressWarnings("try")
+	private GeneratedWiring(){
+		if("false".equals(System.getProperty("proton.codegen"))) return;
+		
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		try(StartupTimer timer = StartupRecorder.start(Type.PHASE, "Load generated wiring")){
+			Iterator<WiringRegistry> registries = ServiceLoader.load(WiringRegistry.class, loader == null? ClassLoader.getSystemClassLoader() : loader).iterator();
+			while(hasNext(registries)){
+				try{
+					add(registries.next());
+				} catch(ServiceConfigurationError | LinkageError e){
+					LOGGER.log(Level.WARNING, "Ignoring generated wiring that could not be loaded, using reflection instead", e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param registries The registries found by the service loader
+	 * @return True if there is another registry to load, or false if
+	 * the service files themselves could not be read
+	 */
+	private static boolean hasNext(Iterator<WiringRegistry> registries){
+		try{
+			return registries.hasNext();
+		} catch(ServiceConfigurationError e){
+			LOGGER.log(Level.WARNING, "Failed to list generated wiring, using reflection for the remaining classes", e);
+			return false;
+		}
+	}
+	
+	/**
+	 * Merges a single registry, only once all of its factories
+	 * and configurations have been loaded
+	 * @param registry The registry to merge
+	 */
+	private void add(WiringRegistry registry){
+		List<GeneratedFactory<?>> loadedFactories = registry.getFactories();
+		List<GeneratedConfiguration> loadedConfigurations = registry.getConfigurations();
+		for(GeneratedFactory<?> factory : loadedFactories){
+			factories.put(factory.getType(), factory);
+		}
+		for(GeneratedConfiguration configuration : loadedConfigurations){
+			configurations.put(configuration.getType(), configuration);
+		}
+	}
+	
+	/**
+	 * @return True if any generated wiring has been found on the class path
+	 */
+	public boolean isPresent(){
+		return !factories.isEmpty() || !configurations.isEmpty();
+	}
+	
+	/**
+	 * @param c The dependency class
+	 * @return The factory generated for the class, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> GeneratedFactory<T> getFactory(Class<T> c){
+		return (GeneratedFactory<T>) factories.get(c);
+	}
+	
+	/**
+	 * @param c The configuration class
+	 * @return The class generated for the configuration, or null if there is none
+	 */
+	public GeneratedConfiguration getConfiguration(Class<?> c){
+		return configurations.get(c);
+	}
+
+}
@@ -0,0 +1,601 @@
+package org.proton_di.codegen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.proton_di.configuration.Configuration;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.Order;
+import org.proton_di.inject.config.Inject;
+
+/**
+ * An annotation processor that generates a {@link GeneratedFactory} for
+ * every class annotated with <code>@</code>{@link Dependency}, and a
+ * {@link GeneratedConfiguration} for every class annotated with
+ * <code>@</code>{@link Configuration}, along with a {@link WiringRegistry}
+ * listing them.<br>
+ *
+ * This is registered as a service alongside the dependency index processor,
+ * but only runs when the compiler option <code>-Aproton.codegen=true</code>
+ * is set. Classes that generated code cannot fully handle, e.g. those injecting
+ * type variables or with private injection points, are skipped and wired
+ * using reflection at runtime.
+ *
+ * @author Luke Stevens
+ */
+public class WiringProcessor extends AbstractProcessor {
+
+	/**
+	 * The compiler option that enables code generation
+	 */
+	public static final String OPTION = "proton.codegen";
+
+	/**
+	 * The package generated registries are written to
+	 */
+	public static final String REGISTRY_PACKAGE = "org.proton_di.generated";
+
+	private static final String SERVICE = "META-INF/services/" + WiringRegistry.class.getName();
+
+	private final Set<String> registries = new TreeSet<>();
+	private final Set<String> compiledTypes = new HashSet<>();
+	private final List<Element> originatingElements = new ArrayList<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return new HashSet<>(Arrays.asList(Dependency.class.getName(), Configuration.class.getName()));
+	}
+
+	@Override
+	public Set<String> getSupportedOptions() {
+		return Collections.singleton(OPTION);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if(!"true".equals(processingEnv.getOptions().get(OPTION))) return false;
+
+		if(roundEnv.processingOver()){
+			writeServices();
+			return false;
+		}
+
+		for(Element e : roundEnv.getRootElements()){
+			if(e instanceof TypeElement) compiledTypes.add(((TypeElement) e).getQualifiedName().toString());
+		}
+
+		List<String> factories = new ArrayList<>();
+		for(Element e : roundEnv.getElementsAnnotatedWith(Dependency.class)){
+			if(e instanceof TypeElement) record(writeFactory((TypeElement) e), factories, e);
+		}
+
+		List<String> configurations = new ArrayList<>();
+		for(Element e : roundEnv.getElementsAnnotatedWith(Configuration.class)){
+			if(e instanceof TypeElement) record(writeConfiguration((TypeElement) e), configurations, e);
+		}
+
+		if(!factories.isEmpty() || !configurations.isEmpty()) writeRegistry(factories, configurations);
+		return false;
+	}
+
+	/**
+	 * Records a generated class to be listed in the registry
+	 * @param name The name of the generated class, or null if it was skipped
+	 * @param generated The list of generated classes to add it to
+	 * @param origin The element the class was generated from
+	 */
+	private void record(String name, List<String> generated, Element origin){
+		if(name == null) return;
+		generated.add(name);
+		originatingElements.add(origin);
+	}
+
+	/**
+	 * Writes the factory for a dependency class
+	 * @param type The dependency class
+	 * @return The qualified name of the factory, or null if generated
+	 * code can't call the constructor or set every field
+	 */
+	private String writeFactory(TypeElement type){
+		String pkg = getPackage(type);
+		if(!isInstantiable(type, pkg)) return null;
+
+		ExecutableElement constructor = getInjectionConstructor(type);
+		if(constructor == null || !isAccessible(constructor, type, pkg) || !constructor.getThrownTypes().stream().allMatch(this::isUnchecked)) return null;
+
+		// Fields are injected in the same order as reflection, declared fields before superclass fields
+		List<VariableElement> fields = new ArrayList<>();
+		for(TypeElement t = type; t != null; t = getSuperclass(t)){
+			for(VariableElement f : ElementFilter.fieldsIn(t.getEnclosedElements())){
+				if(f.getAnnotation(Inject.class) != null && !f.getModifiers().contains(Modifier.STATIC)) fields.add(f);
+			}
+		}
+
+		StringJoiner constructorTypes = new StringJoiner(", ", "new java.lang.reflect.Type[]{", "}");
+		StringJoiner args = new StringJoiner(", ");
+		List<? extends VariableElement> parameters = constructor.getParameters();
+		for(int i = 0; i < parameters.size(); i++){
+			TypeMirror t = parameters.get(i).asType();
+			String literal = injectionType(t, pkg);
+			if(literal == null) return null;
+			constructorTypes.add(literal);
+			args.add(cast(t) + "args[" + i + "]");
+		}
+
+		StringJoiner fieldTypes = new StringJoiner(", ", "new java.lang.reflect.Type[]{", "}");
+		StringBuilder assignments = new StringBuilder();
+		for(int i = 0; i < fields.size(); i++){
+			VariableElement f = fields.get(i);
+			String literal = injectionType(f.asType(), pkg);
+			if(literal == null) return null;
+			fieldTypes.add(literal);
+
+			TypeElement declaring = (TypeElement) f.getEnclosingElement();
+			if(!isAccessible(f, declaring, pkg) || f.getModifiers().contains(Modifier.FINAL)) return null;
+			assignments.append("\t\t((").append(declaring.getQualifiedName()).append(") instance).").append(f.getSimpleName())
+				.append(" = ").append(cast(f.asType())).append("values[").append(i).append("];\n");
+		}
+
+		String name = getGeneratedName(type, "_ProtonFactory");
+		String typeName = type.getQualifiedName().toString();
+
+		StringBuilder source = header(pkg);
+		source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+			.append("public final class ").append(name).append(" extends org.proton_di.codegen.GeneratedFactory<").append(typeName).append("> {\n\n")
+			.append("\tpublic ").append(name).append("() {\n")
+			.append("\t\tsuper(").append(typeName).append(".class,\n")
+			.append("\t\t\t").append(constructorTypes).append(",\n")
+			.append("\t\t\t").append(fieldTypes).append(",\n")
+			.append("\t\t\t").append(assignableClasses(type, pkg)).append(");\n")
+			.append("\t}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic ").append(typeName).append(" construct(Object[] args) {\n")
+			.append("\t\treturn new ").append(typeName).append("(").append(args).append(");\n")
+			.append("\t}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic void inject(").append(typeName).append(" instance, Object[] values) {\n")
+			.append(assignments)
+			.append("\t}\n\n")
+			.append("}\n");
+
+		return writeSource(pkg, name, source, type);
+	}
+
+	/**
+	 * Writes the generated class for a configuration class
+	 * @param type The configuration class
+	 * @return The qualified name of the generated class, or null if generated
+	 * code can't call the default constructor and every method
+	 */
+	private String writeConfiguration(TypeElement type){
+		String pkg = getPackage(type);
+		if(!isAccessible(type, pkg) || type.getKind().isInterface()) return null;
+
+		ExecutableElement constructor = getDefaultConstructor(type);
+		if(!isInstantiable(type, pkg) || constructor == null || !isAccessible(constructor, type, pkg)
+				|| !constructor.getThrownTypes().stream().allMatch(this::isUnchecked)) return null;
+
+		StringJoiner methods = new StringJoiner(",\n");
+		StringBuilder cases = new StringBuilder();
+		List<ExecutableElement> declared = ElementFilter.methodsIn(type.getEnclosedElements());
+		for(int i = 0; i < declared.size(); i++){
+			ExecutableElement m = declared.get(i);
+			TypeMirror returnType = m.getReturnType();
+			String genericReturnType = returnType.getKind() == TypeKind.VOID? "void.class" : injectionType(returnType, pkg);
+			if(genericReturnType == null) return null;
+
+			StringJoiner parameterTypes = new StringJoiner(", ", "new java.lang.reflect.Type[]{", "}");
+			StringJoiner args = new StringJoiner(", ");
+			List<? extends VariableElement> parameters = m.getParameters();
+			for(int j = 0; j < parameters.size(); j++){
+				TypeMirror t = parameters.get(j).asType();
+				String literal = injectionType(t, pkg);
+				if(literal == null) return null;
+				parameterTypes.add(literal);
+				args.add(cast(t) + "args[" + j + "]");
+			}
+
+			Order order = m.getAnnotation(Order.class);
+			boolean isStatic = m.getModifiers().contains(Modifier.STATIC);
+			if(!isAccessible(m, type, pkg) || !m.getThrownTypes().stream().allMatch(this::isUnchecked)) return null;
+			methods.add("\t\t\tnew Method(\"" + m.getSimpleName() + "\", " + name(returnType) + ".class, " + genericReturnType + ", "
+					+ parameterTypes + ", " + (order == null? Integer.MAX_VALUE : order.value()) + ", " + isStatic + ")");
+
+			String target = isStatic? type.getQualifiedName().toString() : "((" + type.getQualifiedName() + ") configuration)";
+			String call = target + "." + m.getSimpleName() + "(" + args + ")";
+			cases.append("\t\t\tcase ").append(i).append(": ")
+				.append(returnType.getKind() == TypeKind.VOID? call + "; return null;\n" : "return " + call + ";\n");
+		}
+
+		String name = getGeneratedName(type, "_ProtonConfiguration");
+		String typeName = type.getQualifiedName().toString();
+
+		StringBuilder source = header(pkg);
+		source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+			.append("public final class ").append(name).append(" extends org.proton_di.codegen.GeneratedConfiguration {\n\n")
+			.append("\tpublic ").append(name).append("() {\n")
+			.append("\t\tsuper(").append(typeName).append(".class").append(methods.length() > 0? ",\n" + methods : "").append(");\n")
+			.append("\t}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic Object construct() {\n")
+			.append("\t\treturn new ").append(typeName).append("();\n")
+			.append("\t}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic Object invoke(int index, Object configuration, Object[] args) {\n")
+			.append("\t\tswitch(index) {\n")
+			.append(cases)
+			.append("\t\t\tdefault: throw new IndexOutOfBoundsException(\"No method \" + index + \" in \" + ").append(typeName).append(".class.getName());\n")
+			.append("\t\t}\n")
+			.append("\t}\n\n")
+			.append("}\n");
+
+		return writeSource(pkg, name, source, type);
+	}
+
+	/**
+	 * Writes a registry listing generated factories and configurations.
+	 * Each round with new classes writes its own registry, named by a
+	 * hash of the classes it contains.
+	 * @param factories The qualified names of all factories
+	 * @param configurations The qualified names of all configurations
+	 */
+	private void writeRegistry(List<String> factories, List<String> configurations){
+		Collections.sort(factories);
+		Collections.sort(configurations);
+
+		CRC32 hash = new CRC32();
+		for(String name : factories) hash.update(name.getBytes(StandardCharsets.UTF_8));
+		for(String name : configurations) hash.update(name.getBytes(StandardCharsets.UTF_8));
+		String name = "ProtonWiring_" + Long.toHexString(hash.getValue());
+
+		StringBuilder source = header(REGISTRY_PACKAGE);
+		source.append("public final class ").append(name).append(" implements org.proton_di.codegen.WiringRegistry {\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic java.util.List<org.proton_di.codegen.GeneratedFactory<?>> getFactories() {\n")
+			.append("\t\treturn java.util.Arrays.<org.proton_di.codegen.GeneratedFactory<?>>asList(").append(instances(factories)).append(");\n")
+			.append("\t}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic java.util.List<org.proton_di.codegen.GeneratedConfiguration> getConfigurations() {\n")
+			.append("\t\treturn java.util.Arrays.<org.proton_di.codegen.GeneratedConfiguration>asList(").append(instances(configurations)).append(");\n")
+			.append("\t}\n\n")
+			.append("}\n");
+
+		String registry = writeSource(REGISTRY_PACKAGE, name, source, originatingElements.toArray(new Element[0]));
+		if(registry != null) registries.add(registry);
+	}
+
+	/**
+	 * Writes the service file listing every generated registry,
+	 * merged with the service file left by a previous compilation
+	 */
+	private void writeServices(){
+		if(registries.isEmpty()) return;
+		mergeExistingServices();
+
+		try{
+			Element[] origins = originatingElements.toArray(new Element[0]);
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE, origins);
+			try(Writer writer = resource.openWriter()){
+				for(String registry : registries){
+					writer.write(registry + "\n");
+				}
+			}
+		} catch(IOException e){
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Adds the registries listed by a service file left by a previous
+	 * compilation, e.g. an incremental build compiling only some classes,
+	 * to those generated in this run. Registries that no longer exist are dropped.
+	 */
+	private void mergeExistingServices(){
+		try{
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+			try(Reader in = existing.openReader(true); BufferedReader reader = new BufferedReader(in)){
+				for(String line = reader.readLine(); line != null; line = reader.readLine()){
+					int comment = line.indexOf('#');
+					String registry = (comment < 0? line : line.substring(0, comment)).trim();
+					if(!registry.isEmpty() && processingEnv.getElementUtils().getTypeElement(registry) != null) registries.add(registry);
+				}
+			}
+		} catch(IOException | IllegalArgumentException e){
+			// No service file has been written yet, so there is nothing to merge
+		}
+	}
+
+	/**
+	 * Writes a single generated source file
+	 * @param pkg The package of the generated class
+	 * @param name The simple name of the generated class
+	 * @param source The source code of the class
+	 * @param origins The elements the class was generated from
+	 * @return The qualified name of the class, or null if it could not be written
+	 */
+	private String writeSource(String pkg, String name, CharSequence source, Element...origins){
+		String qualifiedName = pkg.isEmpty()? name : pkg + "." + name;
+
+		// Sources generated by an earlier build may be passed to the compiler again, and can't be recreated
+		if(compiledTypes.contains(qualifiedName)) return qualifiedName;
+
+		try{
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, origins);
+			try(Writer writer = file.openWriter()){
+				writer.write(source.toString());
+			}
+			return qualifiedName;
+		} catch(IOException e){
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * @param pkg The package of the generated class
+	 * @return The start of a generated source file
+	 */
+	private StringBuilder header(String pkg){
+		StringBuilder source = new StringBuilder();
+		if(!pkg.isEmpty()) source.append("package ").append(pkg).append(";\n\n");
+		source.append("// Generated by ").append(getClass().getName()).append("\n");
+		return source;
+	}
+
+	/**
+	 * @param classes The qualified names of generated classes
+	 * @return A comma separated list constructing each class
+	 */
+	private String instances(List<String> classes){
+		StringJoiner joiner = new StringJoiner(", ");
+		for(String c : classes) joiner.add("new " + c + "()");
+		return joiner.toString();
+	}
+
+	/**
+	 * Gets the constructor used to create a dependency, matching
+	 * the constructor chosen by reflection
+	 * @param type The dependency class
+	 * @return The constructor annotated with <code>@Inject</code>, otherwise
+	 * the default constructor, or null if there is no single match
+	 */
+	private ExecutableElement getInjectionConstructor(TypeElement type){
+		ExecutableElement injection = null;
+		for(ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())){
+			if(c.getAnnotation(Inject.class) == null) continue;
+			if(injection != null) return null;
+			injection = c;
+		}
+		return injection == null? getDefaultConstructor(type) : injection;
+	}
+
+	/**
+	 * @param type A class
+	 * @return The constructor with no parameters, or null if there is none
+	 */
+	private ExecutableElement getDefaultConstructor(TypeElement type){
+		for(ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())){
+			if(c.getParameters().isEmpty()) return c;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the expression for the superclasses and interfaces of a class,
+	 * matching the order they are found by reflection
+	 * @param type The class
+	 * @param pkg The package the expression is used in
+	 * @return An array of class literals, or null if any are not accessible
+	 */
+	private String assignableClasses(TypeElement type, String pkg){
+		StringJoiner classes = new StringJoiner(", ", "new Class<?>[]{", "}");
+		for(TypeMirror t : type.getInterfaces()){
+			if(!isAccessible(t, pkg)) return "null";
+			classes.add(name(t) + ".class");
+		}
+		for(TypeElement superclass = getSuperclass(type); superclass != null; superclass = getSuperclass(superclass)){
+			if(!isAccessible(superclass, pkg)) return "null";
+			classes.add(superclass.getQualifiedName() + ".class");
+			for(TypeMirror t : superclass.getInterfaces()){
+				if(!isAccessible(t, pkg)) return "null";
+				classes.add(name(t) + ".class");
+			}
+		}
+		return classes.toString();
+	}
+
+	/**
+	 * Gets the expression for the generic type of a field, parameter or
+	 * method, equivalent to the type read by reflection
+	 * @param t The type
+	 * @param pkg The package the expression is used in
+	 * @return A class literal or {@link GeneratedType}, or null if the type
+	 * can't be injected or isn't accessible
+	 */
+	private String injectionType(TypeMirror t, String pkg){
+		switch(t.getKind()){
+			case DECLARED:
+				if(!isAccessible(t, pkg)) return null;
+				List<? extends TypeMirror> arguments = ((DeclaredType) t).getTypeArguments();
+				if(arguments.isEmpty()) return name(t) + ".class";
+
+				StringJoiner type = new StringJoiner(", ", "org.proton_di.codegen.GeneratedType.of(" + name(t) + ".class, ", ")");
+				for(TypeMirror argument : arguments){
+					String literal = typeArgument(argument, pkg);
+					if(literal == null) return null;
+					type.add(literal);
+				}
+				return type.toString();
+			case ARRAY:
+				TypeMirror component = ((ArrayType) t).getComponentType();
+				if(component.getKind() == TypeKind.DECLARED && !((DeclaredType) component).getTypeArguments().isEmpty()) return null;
+				if(component.getKind() == TypeKind.ARRAY) return injectionType(component, pkg) == null? null : name(t) + ".class";
+				return component.getKind().isPrimitive() || isAccessible(component, pkg)? name(t) + ".class" : null;
+			default:
+				return t.getKind().isPrimitive()? name(t) + ".class" : null;
+		}
+	}
+
+	/**
+	 * @param t A type argument
+	 * @param pkg The package the expression is used in
+	 * @return The expression for the argument, which is {@link GeneratedType#UNKNOWN}
+	 * for wildcards, type variables and generic arrays, or null if it isn't accessible
+	 */
+	private String typeArgument(TypeMirror t, String pkg){
+		if(t.getKind() == TypeKind.DECLARED || t.getKind() == TypeKind.ARRAY){
+			String literal = injectionType(t, pkg);
+			if(literal != null || t.getKind() == TypeKind.DECLARED) return literal;
+		}
+		return "org.proton_di.codegen.GeneratedType.UNKNOWN";
+	}
+
+	/**
+	 * @param t A type
+	 * @return The cast to the erasure of the type, boxing primitives
+	 */
+	private String cast(TypeMirror t){
+		String name = t.getKind().isPrimitive()? processingEnv.getTypeUtils().boxedClass((PrimitiveType) t).getQualifiedName().toString() : name(t);
+		return "(" + name + ") ";
+	}
+
+	/**
+	 * @param t A type
+	 * @return The qualified source name of the erasure of the type, e.g. <code>java.util.List</code>
+	 */
+	private String name(TypeMirror t){
+		switch(t.getKind()){
+			case DECLARED: return ((TypeElement) ((DeclaredType) t).asElement()).getQualifiedName().toString();
+			case ARRAY: return name(((ArrayType) t).getComponentType()) + "[]";
+			case TYPEVAR: return name(processingEnv.getTypeUtils().erasure(t));
+			default: return t.getKind().name().toLowerCase();
+		}
+	}
+
+	/**
+	 * @param t A thrown type
+	 * @return True if the type is a RuntimeException or Error
+	 */
+	private boolean isUnchecked(TypeMirror t){
+		Types types = processingEnv.getTypeUtils();
+		Elements elements = processingEnv.getElementUtils();
+		return types.isAssignable(t, elements.getTypeElement(RuntimeException.class.getName()).asType())
+				|| types.isAssignable(t, elements.getTypeElement(Error.class.getName()).asType());
+	}
+
+	/**
+	 * @param type A class
+	 * @param pkg The package of the generated class
+	 * @return True if generated code can create a new instance of the class
+	 */
+	private boolean isInstantiable(TypeElement type, String pkg){
+		if(type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+		if(type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) return false;
+		return isAccessible(type, pkg);
+	}
+
+	/**
+	 * @param t A type
+	 * @param pkg The package of the generated class
+	 * @return True if the type can be referenced from the package
+	 */
+	private boolean isAccessible(TypeMirror t, String pkg){
+		return t.getKind() == TypeKind.DECLARED && isAccessible((TypeElement) ((DeclaredType) t).asElement(), pkg);
+	}
+
+	/**
+	 * @param type A class
+	 * @param pkg The package of the generated class
+	 * @return True if the class, and every class it is nested in,
+	 * can be referenced from the package
+	 */
+	private boolean isAccessible(TypeElement type, String pkg){
+		for(Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()){
+			NestingKind nesting = ((TypeElement) e).getNestingKind();
+			if(nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) return false;
+			if(!isAccessible(e, (TypeElement) e, pkg)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param member A class, constructor, field or method
+	 * @param declaring The class declaring the member
+	 * @param pkg The package of the generated class
+	 * @return True if the member can be referenced from the package
+	 */
+	private boolean isAccessible(Element member, TypeElement declaring, String pkg){
+		Set<Modifier> modifiers = member.getModifiers();
+		if(modifiers.contains(Modifier.PRIVATE)) return false;
+		return modifiers.contains(Modifier.PUBLIC) || getPackage(declaring).equals(pkg);
+	}
+
+	/**
+	 * @param type A class
+	 * @return The superclass, or null for <code>java.lang.Object</code> and interfaces
+	 */
+	private TypeElement getSuperclass(TypeElement type){
+		TypeMirror superclass = type.getSuperclass();
+		return superclass.getKind() == TypeKind.DECLARED? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+	}
+
+	/**
+	 * @param e An element
+	 * @return The name of the package containing the element
+	 */
+	private String getPackage(Element e){
+		return processingEnv.getElementUtils().getPackageOf(e).getQualifiedName().toString();
+	}
+
+	/**
+	 * @param type The class code is generated for
+	 * @param suffix The suffix of the generated class
+	 * @return The simple name of the generated class, e.g. <code>Outer_Inner_ProtonFactory</code>
+	 */
+	private String getGeneratedName(TypeElement type, String suffix){
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String pkg = getPackage(type);
+		return (pkg.isEmpty()? binaryName : binaryName.substring(pkg.length() + 1)).replace('$', '_') + suffix;
+	}
+
+}
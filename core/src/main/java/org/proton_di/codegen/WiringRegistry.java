@@ -0,0 +1,25 @@
+package org.proton_di.codegen;
+
+import java.util.List;
+
+/**
+ * The factories and configurations generated by the {@link WiringProcessor}
+ * for a single compilation. Each registry is listed as a service in
+ * <code>META-INF/services/org.proton_di.codegen.WiringRegistry</code>
+ * and loaded by {@link GeneratedWiring}.
+ * 
+ * @author Luke Stevens
+ */
+public interface WiringRegistry {
+	
+	/**
+	 * @return The factory generated for every dependency class
+	 */
+	public List<GeneratedFactory<?>> getFactories();
+	
+	/**
+	 * @return The class generated for every configuration class
+	 */
+	public List<GeneratedConfiguration> getConfigurations();
+
+}
@@ -23,4 +23,17 @@ public @interface Dependency {
 	 */
 	InstanceType type();
 	
+	/**
+	 * The number of idle instances kept for a POOLED dependency
+	 * when no pool size is given
+	 */
+	int DEFAULT_POOL_SIZE = 8;
+	
+	/**
+	 * @return The maximum number of idle instances kept for
+	 * reuse when the type is {@link InstanceType#POOLED}.
+	 * Ignored for all other types.
+	 */
+	int poolSize() default DEFAULT_POOL_SIZE;
+	
 }
@@ -0,0 +1,113 @@
+package org.proton_di.dependency;
+
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.dependency.scope.Scope;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+import org.proton_di.dependency.suppliers.LazySingletonSupplier;
+import org.proton_di.dependency.suppliers.MultipleInstanceSupplier;
+import org.proton_di.dependency.suppliers.PooledSupplier;
+import org.proton_di.dependency.suppliers.ScopedSupplier;
+import org.proton_di.dependency.suppliers.SingletonSupplier;
+import org.proton_di.dependency.suppliers.ThreadSupplier;
+
+/**
+ * An enum to determine the instantiation type e.g. Whether the
+ * same instance should be returned whenever used, or
+ * whether a new instance should be created.
+ * 
+ * @author Luke Stevens
+ */
+public enum InstanceType {
+
+	/**
+	 * Indicates that the same instance of a dependency
+	 * should be used every time it is injected.
+	 */
+	SINGLETON() {
+		
+		@Override
+		public DependencySupplier createSupplier(Class<?> dependency) {
+			return new SingletonSupplier(dependency);
+		}
+		
+	}, 
+	
+	/**
+	 * Indicates that the same instance of a dependency
+	 * should be used every time it is injected, but that
+	 * it should not be created until it is first used.
+	 */
+	LAZY_SINGLETON {
+		
+		@Override
+		public DependencySupplier createSupplier(Class<?> dependency) {
+			return new LazySingletonSupplier(dependency);
+		}
+		
+	},
+	
+	/**
+	 * Indicates that a new instance of a dependency
+	 * should be created every time it is injected.
+	 */
+	MULTIPLE {
+		
+		@Override
+		public DependencySupplier createSupplier(Class<?> dependency) {
+			return new MultipleInstanceSupplier(dependency);
+		}
+		
+	},
+	
+	/**
+	 * Indicates that one instance of a dependency should
+	 * be created for each thread, and reused whenever it
+	 * is injected on that thread.
+	 */
+	THREAD {
+		
+		@Override
+		public DependencySupplier createSupplier(Class<?> dependency) {
+			return new ThreadSupplier(dependency);
+		}
+		
+	},
+	
+	/**
+	 * Indicates that one instance of a dependency should
+	 * be created for each open {@link Scope}, and closed
+	 * with the scope if it is <code>AutoCloseable</code>.
+	 */
+	SCOPED {
+		
+		@Override
+		public DependencySupplier createSupplier(Class<?> dependency) {
+			return new ScopedSupplier(dependency);
+		}
+		
+	},
+	
+	/**
+	 * Indicates that instances of a dependency should be
+	 * reused from a bounded {@link Pool}, with the pool size
+	 * set by {@link Dependency#poolSize()}. Instances are
+	 * acquired and released using an injected <code>Pool</code>.
+	 */
+	POOLED {
+		
+		@Override
+		public DependencySupplier createSupplier(Class<?> dependency) {
+			return new PooledSupplier(dependency);
+		}
+		
+	};
+	
+	/**
+	 * Creates the supplier for a dependency. 
+	 * @param dependency The class to create the supplier for
+	 * @return A lambda function that either creates a new instance
+	 * or returns the existing singleton instance when called.
+	 */
+	public abstract DependencySupplier createSupplier(Class<?> dependency);
+
+}
@@ -0,0 +1,28 @@
+package org.proton_di.dependency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation for declaring the position of a dependency when
+ * every implementation of a class is injected as a <code>List</code>,
+ * <code>Set</code> or array. Dependencies with a lower value come first,
+ * and dependencies without an order come last.<br>
+ * 
+ * This can annotate a dependency class, or a method in a
+ * configuration class.
+ * 
+ * @author Luke Stevens
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value={ElementType.TYPE, ElementType.METHOD})
+public @interface Order {
+	
+	/**
+	 * @return The position of the dependency, lowest first
+	 */
+	int value();
+
+}
@@ -0,0 +1,18 @@
+package org.proton_di.dependency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation for declaring the method used to reset
+ * an instance of a {@link InstanceType#POOLED} dependency
+ * when it is released back to its pool. The method must
+ * take no parameters.
+ * 
+ * @author Luke Stevens
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value={ElementType.METHOD})
+public @interface Reset {}
@@ -23,6 +23,17 @@ public class DependencyCreationException extends RuntimeException {
 		this("Dependency creation of " + c.getName() + " failed. " + message);
 	}
 	
+	/**
+	 * Creates a new Exception with a message in the form;
+	 * <code>"Dependency creation of <i>c</i> failed. Root cause: <i>e</i></code>"
+	 * @param e The root exception that caused the error
+	 * @param c The class that failed dependency creation
+	 */
+	public DependencyCreationException(Throwable e, Class<?> c){
+		this("Root cause: " + e.getMessage(), c);
+		initCause(e);
+	}
+	
 	/**
 	 * Creates a new exception with a specific message
 	 * @param message The reason for the exception 
@@ -0,0 +1,22 @@
+package org.proton_di.dependency.exceptions;
+
+/**
+ * An exception to be thrown if an instance is released
+ * to a pool it was not acquired from, or released more
+ * than once.
+ *
+ * @author Luke Stevens
+ */
+public class PoolException extends RuntimeException {
+
+	private static final long serialVersionUID = -6180412247035338154L;
+
+	/**
+	 * Creates a new exception with a specific message
+	 * @param message The reason for the exception
+	 */
+	public PoolException(String message) {
+		super(message);
+	}
+
+}
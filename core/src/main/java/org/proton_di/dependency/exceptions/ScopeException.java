@@ -0,0 +1,31 @@
+package org.proton_di.dependency.exceptions;
+
+/**
+ * An exception to be thrown if a scoped dependency
+ * is used outside of a scope, or a scope cannot
+ * be closed cleanly.
+ *
+ * @author Luke Stevens
+ */
+public class ScopeException extends RuntimeException {
+
+	private static final long serialVersionUID = 4129571658203915736L;
+
+	/**
+	 * Creates a new exception with a specific message
+	 * @param message The reason for the exception
+	 */
+	public ScopeException(String message) {
+		super(message);
+	}
+	
+	/**
+	 * Creates a new exception with a specific message and cause
+	 * @param message The reason for the exception
+	 * @param cause The exception that caused the error
+	 */
+	public ScopeException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -4,11 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.proton_di.dependency.suppliers.DependencySupplier;
-import org.proton_di.scanner.ClassPath;
+import org.proton_di.scanner.index.DependencyIndex;
 
 public abstract class AbstractDependencyLoader implements DependencyLoader {
 	
-	final ClassPath classpath = ClassPath.getInstance();
+	final DependencyIndex index = DependencyIndex.getInstance();
 	final List<DependencySupplier> dependencySuppliers = new ArrayList<>();
 
 	@Override
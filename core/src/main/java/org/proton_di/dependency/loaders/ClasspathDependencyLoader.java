@@ -23,7 +23,7 @@ public class ClasspathDependencyLoader extends AbstractDependencyLoader {
 
 	@Override
 	List<Class<?>> getClasses() {
-		return classpath.getClassesWithAnnotation(Dependency.class);
+		return index.getClassesWithAnnotation(Dependency.class);
 	}
 
 	@Override
@@ -0,0 +1,145 @@
+package org.proton_di.dependency.loaders;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.proton_di.codegen.GeneratedConfiguration;
+import org.proton_di.codegen.GeneratedWiring;
+import org.proton_di.configuration.Configuration;
+import org.proton_di.configuration.ConfigurationException;
+import org.proton_di.dependency.suppliers.ConfiguredDependencySupplier;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+import org.proton_di.dependency.suppliers.GeneratedDependencySupplier;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.InjectionTools;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+
+/**
+ * A ClasspathDependencyLoader that loads dependencies from the
+ * classes annotated with <code>@</code>{@link Configuration}.
+ * 
+ * @author Luke Stevens
+ */
+public class ConfigurationDependencyLoader extends AbstractDependencyLoader {
+	
+	final InjectionTools tools = new InjectionTools();
+	String qualifier;
+	
+	public ConfigurationDependencyLoader() {
+		this(InjectionManager.ROOT_QUALIFIER);
+	}
+	
+	public ConfigurationDependencyLoader(String qualifier) {
+		this.qualifier = qualifier;
+	}
+
+	@Override
+	List<Class<?>> getClasses() {
+		return index.getClassesWithAnnotation(Configuration.class);
+	}
+
+	@Override
+	boolean shouldLoad(Class<?> c) {
+		return c.getAnnotation(Configuration.class).qualifier().equals(qualifier);
+	}
+
+	/**
+	 * Loads all external dependencies from a single
+	 * configuration class.
+	 * @param configClass The configuration class to load external
+	 * dependencies from.
+	 */
+	@Override
+	@SuppressWarnings("try")
+	void loadClass(Class<?> c) {
+		if(c.isInterface()) {
+			throw new ConfigurationException("The configuration class must not be abstract or an interface", c);
+		}
+		
+		try(StartupTimer timer = StartupRecorder.start(Type.CONFIGURATION, c.getName())){
+			GeneratedConfiguration generated = GeneratedWiring.getInstance().getConfiguration(c);
+			if(generated != null){
+				loadGenerated(generated);
+				return;
+			}
+			
+			Object config = tools.construct(c, new Class<?>[0], new Object[0]);
+					
+			for(Method m : c.getDeclaredMethods()){
+				dependencySuppliers.add(new ConfiguredDependencySupplier(m, config));
+			}
+		}
+	}
+	
+	/**
+	 * Loads all external dependencies from a configuration class
+	 * using the class generated for it
+	 * @param generated The class generated for the configuration class
+	 */
+	private void loadGenerated(GeneratedConfiguration generated){
+		Object config = generated.construct();
+		
+		for(int i = 0; i < generated.getMethods().size(); i++){
+			dependencySuppliers.add(new GeneratedDependencySupplier(generated, i, config));
+		}
+	}
+	
+	/**
+	 * Creates an instance of a configuration class, using the
+	 * class generated for it if there is one.
+	 * @param c The configuration class
+	 * @return A new instance of the configuration class
+	 */
+	public Object newConfiguration(Class<?> c){
+		GeneratedConfiguration generated = GeneratedWiring.getInstance().getConfiguration(c);
+		return generated != null? generated.construct() : tools.construct(c, new Class<?>[0], new Object[0]);
+	}
+	
+	/**
+	 * Loads the dependency defined by a single method in a configuration
+	 * class, for when the method is already known, e.g. from a wiring plan.
+	 * The method is invoked through the class generated for the configuration
+	 * if it can be, otherwise reflectively.
+	 * @param c The configuration class
+	 * @param config An instance of the configuration class
+	 * @param name The name of the method
+	 * @param parameterTypes The parameter types of the method
+	 * @return The DependencySupplier for the method
+	 * @throws ConfigurationException If the method does not exist
+	 */
+	public DependencySupplier loadMethod(Class<?> c, Object config, String name, Class<?>[] parameterTypes){
+		GeneratedConfiguration generated = GeneratedWiring.getInstance().getConfiguration(c);
+		if(generated != null){
+			List<GeneratedConfiguration.Method> methods = generated.getMethods();
+			for(int i = 0; i < methods.size(); i++){
+				GeneratedConfiguration.Method m = methods.get(i);
+				if(m.getName().equals(name) && Arrays.equals(getRawTypes(m), parameterTypes)){
+					return new GeneratedDependencySupplier(generated, i, config);
+				}
+			}
+		}
+		
+		try{
+			return new ConfiguredDependencySupplier(c.getDeclaredMethod(name, parameterTypes), config);
+		} catch(NoSuchMethodException e){
+			throw new ConfigurationException("Method " + name + " does not exist", c);
+		}
+	}
+	
+	/**
+	 * @param m A method described by a generated configuration
+	 * @return The raw class of each parameter of the method
+	 */
+	private Class<?>[] getRawTypes(GeneratedConfiguration.Method m){
+		java.lang.reflect.Type[] types = m.getParameterTypes();
+		Class<?>[] classes = new Class<?>[types.length];
+		for(int i = 0; i < types.length; i++){
+			classes[i] = tools.getRawType(types[i]);
+		}
+		return classes;
+	}
+
+}
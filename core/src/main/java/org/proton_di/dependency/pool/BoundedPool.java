@@ -0,0 +1,137 @@
+package org.proton_di.dependency.pool;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.exceptions.PoolException;
+
+/**
+ * A lock-free {@link Pool} holding at most a fixed number of idle
+ * instances.<br>
+ * 
+ * Idle instances are stored in an array of slots, and each thread
+ * starts searching the slots from a different position to reduce
+ * contention. When no instance is idle a new one is created, and when
+ * every slot is full a released instance is discarded.<br>
+ * 
+ * Acquiring and releasing an instance only touches the slots, so
+ * nothing is allocated or locked. Instances are not tracked while
+ * in use, so releasing an instance twice, or to the wrong pool, lets
+ * it be acquired by two callers at once.<br>
+ * 
+ * Setting the property <code>proton.pool.debug</code> to true tracks
+ * acquired instances by identity in pools created afterwards, so
+ * misuse is rejected with a {@link PoolException}. Instances which
+ * are never released are then never garbage collected.
+ * 
+ * @author Luke Stevens
+ */
+public class BoundedPool<T> implements Pool<T> {
+	
+	private final AtomicReferenceArray<T> idle;
+	private final Set<Acquired> acquired = Boolean.getBoolean("proton.pool.debug")? ConcurrentHashMap.newKeySet() : null;
+	private final Supplier<? extends T> factory;
+	private final Consumer<? super T> reset;
+	
+	/**
+	 * Constructs a new, empty BoundedPool
+	 * @param size The maximum number of idle instances to keep
+	 * @param factory Creates a new instance when none are idle
+	 * @param reset Resets an instance when it is released
+	 */
+	public BoundedPool(int size, Supplier<? extends T> factory, Consumer<? super T> reset){
+		this.idle = new AtomicReferenceArray<>(size);
+		this.factory = factory;
+		this.reset = reset;
+	}
+	
+	@Override
+	public T acquire(){
+		int size = idle.length();
+		int start = start(size);
+		for(int i = 0; i < size; i++){
+			int slot = (start + i) % size;
+			if(idle.get(slot) == null) continue;
+			
+			T instance = idle.getAndSet(slot, null);
+			if(instance != null) return checkOut(instance);
+		}
+		return checkOut(factory.get());
+	}
+	
+	/**
+	 * @throws PoolException If <code>proton.pool.debug</code> is set and the
+	 * instance was not acquired from this pool, or has already been released
+	 */
+	@Override
+	public void release(T instance){
+		if(instance == null) return;
+		if(acquired != null && !acquired.remove(new Acquired(instance))){
+			throw new PoolException("Instance of " + instance.getClass().getName() + " was not acquired from this pool, or has already been released.");
+		}
+		reset.accept(instance);
+		
+		int size = idle.length();
+		int start = start(size);
+		for(int i = 0; i < size; i++){
+			if(idle.compareAndSet((start + i) % size, null, instance)) return;
+		}
+	}
+	
+	/**
+	 * @return The number of idle instances currently in the pool
+	 */
+	public int getIdleCount(){
+		int count = 0;
+		for(int i = 0; i < idle.length(); i++){
+			if(idle.get(i) != null) count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * Records that an instance is in use, if acquired instances are tracked
+	 * @param instance The acquired instance
+	 * @return The instance
+	 */
+	private T checkOut(T instance){
+		if(acquired != null) acquired.add(new Acquired(instance));
+		return instance;
+	}
+	
+	/**
+	 * @param size The number of slots
+	 * @return The slot for the current thread to start searching from
+	 */
+	private int start(int size){
+		int hash = Long.hashCode(Thread.currentThread().getId());
+		return ((hash ^ (hash >>> 16)) & 0x7fffffff) % size;
+	}
+	
+	/**
+	 * An acquired instance, compared by identity so instances
+	 * which are equal to each other are tracked separately
+	 */
+	private static final class Acquired {
+		
+		private final Object instance;
+		
+		Acquired(Object instance){
+			this.instance = instance;
+		}
+		
+		@Override
+		public int hashCode(){
+			return System.identityHashCode(instance);
+		}
+		
+		@Override
+		public boolean equals(Object o){
+			return o instanceof Acquired && ((Acquired) o).instance == instance;
+		}
+	}
+
+}
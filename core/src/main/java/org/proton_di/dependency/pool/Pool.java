@@ -0,0 +1,79 @@
+package org.proton_di.dependency.pool;
+
+import org.proton_di.dependency.InstanceType;
+
+/**
+ * A handle to the pool of instances of a {@link InstanceType#POOLED}
+ * dependency, which can be injected into fields declared as
+ * <code>Pool&lt;T&gt;</code>.<br>
+ * 
+ * Instances should be released once finished with so they can
+ * be reused, most simply by using a lease;
+ * <pre>
+ * try(Pool.Lease&lt;Serializer&gt; lease = pool.lease()){
+ *     lease.get().write(value);
+ * }
+ * </pre>
+ * 
+ * @author Luke Stevens
+ */
+public interface Pool<T> {
+	
+	/**
+	 * Takes an idle instance from the pool, or creates
+	 * a new instance if none are idle.
+	 * @return An instance for the sole use of the caller
+	 * until it is released.
+	 */
+	T acquire();
+	
+	/**
+	 * Resets an instance and returns it to the pool. If the
+	 * pool is already full the instance is discarded.
+	 * @param instance An instance previously acquired from this pool
+	 */
+	void release(T instance);
+	
+	/**
+	 * @return A lease on an acquired instance, which releases
+	 * the instance when closed.
+	 */
+	default Lease<T> lease(){
+		return new Lease<>(this, acquire());
+	}
+	
+	/**
+	 * An instance acquired from a pool, which is
+	 * released back to the pool when closed.
+	 */
+	final class Lease<T> implements AutoCloseable {
+		
+		private final Pool<T> pool;
+		private final T instance;
+		private boolean released;
+		
+		Lease(Pool<T> pool, T instance){
+			this.pool = pool;
+			this.instance = instance;
+		}
+		
+		/**
+		 * @return The leased instance
+		 */
+		public T get(){
+			return instance;
+		}
+		
+		/**
+		 * Releases the instance back to the pool. Closing
+		 * a lease more than once has no effect.
+		 */
+		@Override
+		public void close(){
+			if(released) return;
+			released = true;
+			pool.release(instance);
+		}
+	}
+
+}
@@ -0,0 +1,206 @@
+package org.proton_di.dependency.scope;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.exceptions.ScopeException;
+import org.proton_di.inject.Injector;
+
+/**
+ * An explicitly opened scope, e.g. for a single request, in which
+ * one instance of each {@link InstanceType#SCOPED} dependency is
+ * shared.<br>
+ * 
+ * A scope is bound to the thread that opens it until it is closed.
+ * Work for the same scope on other threads can be run within it using
+ * {@link #run(Runnable)} or {@link #call(Callable)}, which allows a scope
+ * to be attached to whichever threads a request framework uses.
+ * Closing a scope closes every instance created in it which implements
+ * <code>AutoCloseable</code>, and unbinds it from every thread.<br>
+ * 
+ * Scopes can instead be kept by a request framework, by creating them
+ * with {@link #create()} and setting a {@link ScopeResolver} to find
+ * the scope for the current request.
+ * 
+ * <pre>
+ * try(Scope scope = Scope.open()){
+ *     handler.handle(request);
+ * }
+ * </pre>
+ * 
+ * @author Luke Stevens
+ */
+public class Scope implements AutoCloseable {
+	
+	private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+	private static volatile ScopeResolver resolver;
+	
+	private final Map<Injector, ScopedInstances> instances = new ConcurrentHashMap<>();
+	private final CopyOnWriteArrayList<ScopedInstances> order = new CopyOnWriteArrayList<>();
+	private final Scope parent;
+	private volatile boolean closed;
+	
+	private Scope(Scope parent){
+		this.parent = parent;
+	}
+	
+	/**
+	 * Opens a new scope, bound to the calling thread until closed.
+	 * If a scope is already open on this thread, it is restored
+	 * when the new scope is closed.
+	 * @return The new scope
+	 */
+	public static Scope open(){
+		Scope scope = new Scope(bound());
+		CURRENT.set(scope);
+		return scope;
+	}
+	
+	/**
+	 * Creates a new scope which is not bound to any thread, to
+	 * be returned by a {@link ScopeResolver} or used with
+	 * {@link #run(Runnable)} and {@link #call(Callable)}.
+	 * @return The new scope
+	 */
+	public static Scope create(){
+		return new Scope(null);
+	}
+	
+	/**
+	 * @return The scope given by the {@link ScopeResolver} if one is set,
+	 * otherwise the scope bound to the calling thread, or null if no scope is open
+	 */
+	public static Scope current(){
+		ScopeResolver custom = resolver;
+		if(custom != null){
+			Scope scope = custom.current();
+			if(scope != null) return scope;
+		}
+		return bound();
+	}
+	
+	/**
+	 * Sets how the current scope is found, e.g. from the context of
+	 * a request framework. The scope bound to the thread is still
+	 * used whenever the resolver returns null.
+	 * @param scopeResolver The resolver to use, or null to only use
+	 * scopes bound to threads
+	 */
+	public static void setResolver(ScopeResolver scopeResolver){
+		resolver = scopeResolver;
+	}
+	
+	/**
+	 * Runs a task within this scope, binding it to the calling
+	 * thread until the task completes.
+	 * @param task The task to run
+	 * @throws ScopeException If this scope has been closed
+	 */
+	public void run(Runnable task){
+		call(() -> {
+			task.run();
+			return null;
+		});
+	}
+	
+	/**
+	 * Calls a task within this scope, binding it to the calling
+	 * thread until the task completes.
+	 * @param task The task to call
+	 * @return The result of the task
+	 * @throws ScopeException If this scope has been closed, or
+	 * the task throws a checked exception
+	 */
+	public <T> T call(Callable<T> task){
+		checkOpen();
+		Scope previous = CURRENT.get();
+		CURRENT.set(this);
+		try{
+			return task.call();
+		} catch(RuntimeException e){
+			throw e;
+		} catch(Exception e){
+			throw new ScopeException("Scoped task failed", e);
+		} finally {
+			restore(previous);
+		}
+	}
+	
+	/**
+	 * @param injector The Injector the dependencies belong to
+	 * @return The instances of the Injector's scoped dependencies created in this scope
+	 * @throws ScopeException If this scope has been closed
+	 */
+	public ScopedInstances getInstances(Injector injector){
+		checkOpen();
+		ScopedInstances existing = instances.get(injector);
+		if(existing != null) return existing;
+		
+		return instances.computeIfAbsent(injector, i -> {
+			ScopedInstances created = new ScopedInstances();
+			order.add(created);
+			return created;
+		});
+	}
+	
+	/**
+	 * @return True if this scope has been closed
+	 */
+	public boolean isClosed(){
+		return closed;
+	}
+	
+	/**
+	 * Closes this scope, closing every <code>AutoCloseable</code> instance
+	 * created in it, and restores any scope open on this thread before it.
+	 * If it is bound to other threads, they restore the scope open before
+	 * it the next time they look for the current scope.
+	 * Closing a scope more than once has no effect.
+	 * @throws ScopeException If any instance fails to close
+	 */
+	@Override
+	public void close(){
+		if(closed) return;
+		closed = true;
+		if(CURRENT.get() == this) restore(parent);
+		
+		Exception failure = ScopedInstances.clearAll(order);
+		if(failure != null) throw new ScopeException("Failed to close scoped dependencies", failure);
+	}
+	
+	/**
+	 * @throws ScopeException If this scope has been closed
+	 */
+	private void checkOpen(){
+		if(closed) throw new ScopeException("Scope has already been closed");
+	}
+	
+	/**
+	 * Gets the scope bound to the calling thread. If it was closed
+	 * by another thread, the nearest open scope it was nested in
+	 * is bound instead.
+	 * @return The open scope bound to the calling thread, or null
+	 */
+	private static Scope bound(){
+		Scope scope = CURRENT.get();
+		if(scope == null || !scope.closed) return scope;
+		
+		while(scope != null && scope.closed) scope = scope.parent;
+		restore(scope);
+		return scope;
+	}
+	
+	/**
+	 * Binds a scope to the calling thread, removing the
+	 * binding entirely if there is no scope.
+	 * @param scope The scope to bind, or null
+	 */
+	private static void restore(Scope scope){
+		if(scope == null) CURRENT.remove();
+		else CURRENT.set(scope);
+	}
+
+}
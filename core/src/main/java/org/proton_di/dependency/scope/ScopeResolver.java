@@ -0,0 +1,25 @@
+package org.proton_di.dependency.scope;
+
+import org.proton_di.dependency.InstanceType;
+
+/**
+ * Finds the {@link Scope} that {@link InstanceType#SCOPED} dependencies
+ * are shared within, so scopes can be kept by a request framework rather
+ * than bound to threads. Set using {@link Scope#setResolver(ScopeResolver)}.
+ * 
+ * <pre>
+ * Scope.setResolver(() -&gt; (Scope) RequestContext.current().get("scope"));
+ * </pre>
+ * 
+ * @author Luke Stevens
+ */
+@FunctionalInterface
+public interface ScopeResolver {
+	
+	/**
+	 * @return The scope for the calling thread, or null to use
+	 * the scope bound to the thread by {@link Scope#open()}
+	 */
+	Scope current();
+
+}
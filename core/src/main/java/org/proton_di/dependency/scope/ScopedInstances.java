@@ -0,0 +1,168 @@
+package org.proton_di.dependency.scope;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.exceptions.ScopeException;
+import org.proton_di.inject.Injector;
+
+/**
+ * The instances of one Injector's scoped dependencies held by a
+ * single thread or {@link Scope}.<br>
+ * 
+ * Each THREAD or SCOPED dependency is given a slot in its Injector when
+ * its supplier is created, so instances are stored in a flat array rather
+ * than with a <code>ThreadLocal</code> per dependency. All {@link InstanceType#THREAD}
+ * dependencies share a single <code>ThreadLocal</code>, so each thread only
+ * holds the instances it has used, which keeps memory bounded when
+ * running many virtual threads.<br>
+ * 
+ * Instances are read without locking. Only creating an instance takes a
+ * lock, which is not a monitor, so virtual threads are not pinned while
+ * a dependency is constructed.
+ * 
+ * @author Luke Stevens
+ */
+public class ScopedInstances {
+	
+	private static final Object[] EMPTY = new Object[0];
+	private static final Map<Injector, AtomicInteger> SLOTS = Collections.synchronizedMap(new WeakHashMap<>());
+	private static final ThreadLocal<Map<Injector, ScopedInstances>> THREAD = ThreadLocal.withInitial(IdentityHashMap::new);
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	private final List<Object> created = new ArrayList<>();
+	
+	// Replaced rather than written to, so instances are safely published without locking
+	private volatile Object[] instances = EMPTY;
+	
+	ScopedInstances(){ /* Only created for threads and scopes */ }
+	
+	/**
+	 * @param injector The Injector creating the dependency's supplier
+	 * @return A new slot in the Injector to store a dependency's instances in
+	 */
+	public static int newSlot(Injector injector){
+		return SLOTS.computeIfAbsent(injector, i -> new AtomicInteger()).getAndIncrement();
+	}
+	
+	/**
+	 * @param injector The Injector the dependencies belong to
+	 * @return The instances of the Injector's dependencies for the current thread
+	 */
+	public static ScopedInstances forThread(Injector injector){
+		return THREAD.get().computeIfAbsent(injector, i -> new ScopedInstances());
+	}
+	
+	/**
+	 * Removes every {@link InstanceType#THREAD} instance held by the current
+	 * thread, closing any which are <code>AutoCloseable</code>. This should be
+	 * called when a pooled thread finishes a task, if its instances should
+	 * not be kept for the next task.
+	 * @throws ScopeException If any instance fails to close
+	 */
+	public static void releaseThread(){
+		Map<Injector, ScopedInstances> held = THREAD.get();
+		THREAD.remove();
+		
+		Exception failure = clearAll(held.values());
+		if(failure != null) throw new ScopeException("Failed to close thread dependencies", failure);
+	}
+	
+	/**
+	 * Gets the instance stored in a slot, creating it if
+	 * this is the first use.
+	 * @param slot The slot of the dependency
+	 * @param factory Creates a new instance of the dependency
+	 * @return The instance stored in the slot
+	 */
+	public Object get(int slot, Supplier<Object> factory){
+		Object[] current = instances;
+		if(slot < current.length && current[slot] != null) return current[slot];
+		return create(slot, factory);
+	}
+	
+	/**
+	 * Creates the instance for a slot, unless another thread
+	 * using the same scope has already created it.
+	 * @param slot The slot of the dependency
+	 * @param factory Creates a new instance of the dependency
+	 * @return The instance stored in the slot
+	 */
+	private Object create(int slot, Supplier<Object> factory){
+		lock.lock();
+		try{
+			Object[] current = instances;
+			if(slot < current.length && current[slot] != null) return current[slot];
+			
+			// The factory may create other scoped dependencies, so the array is read again after
+			Object instance = factory.get();
+			current = instances;
+			Object[] updated = Arrays.copyOf(current, Math.max(slot + 1, current.length));
+			updated[slot] = instance;
+			created.add(instance);
+			instances = updated;
+			return instance;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Removes all instances, closing any which are <code>AutoCloseable</code>
+	 * in the reverse order they were created.
+	 * @return The first exception thrown when closing an instance, or null
+	 */
+	Exception clear(){
+		lock.lock();
+		try{
+			Exception failure = null;
+			for(int i = created.size() - 1; i >= 0; i--){
+				Object instance = created.get(i);
+				if(!(instance instanceof AutoCloseable)) continue;
+				
+				try{
+					((AutoCloseable) instance).close();
+				} catch(Exception e){
+					if(failure == null) failure = e;
+					else failure.addSuppressed(e);
+				}
+			}
+			
+			instances = EMPTY;
+			created.clear();
+			return failure;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Clears the instances of several Injectors, in reverse order
+	 * @param all The instances to clear, in the order they were first used
+	 * @return The first exception thrown when closing an instance, or null
+	 */
+	static Exception clearAll(Iterable<ScopedInstances> all){
+		List<ScopedInstances> reversed = new ArrayList<>();
+		for(ScopedInstances instances : all) reversed.add(0, instances);
+		
+		Exception failure = null;
+		for(ScopedInstances instances : reversed){
+			Exception e = instances.clear();
+			if(e == null) continue;
+			
+			if(failure == null) failure = e;
+			else failure.addSuppressed(e);
+		}
+		return failure;
+	}
+
+}
@@ -2,9 +2,11 @@ package org.proton_di.dependency.suppliers;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.function.Supplier;
 
+import org.proton_di.dependency.Order;
 import org.proton_di.inject.Injector;
 
 /**
@@ -29,6 +31,13 @@ public class ConfiguredDependencySupplier extends DependencySupplier {
 		this.configInstance = configInstance;
 	}
 
+	/**
+	 * @return The method used to create instances of the dependency
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
 	/**
 	 * Overrides default method for sub dependencies.
 	 * Loads parameter types for configured method as
@@ -36,13 +45,41 @@ public class ConfiguredDependencySupplier extends DependencySupplier {
 	 */
 	@Override
 	void loadSubDependencies() {
-		Class<?>[] types = method.getParameterTypes();
-		subDependencies = Arrays.asList(types);
+		subDependencies = new ArrayList<>();
+		collectionDependencies = new ArrayList<>();
+		supplierDependencies = new ArrayList<>();
+		for(Type t : tools.getGenericParameterTypes(method)){
+			addSubDependency(t);
+		}
+	}
+	
+	/**
+	 * Overrides default method for generic type, using
+	 * the generic return type of the configured method.
+	 */
+	@Override
+	public Type getGenericType() {
+		return method.getGenericReturnType();
+	}
+	
+	/**
+	 * Overrides default method for order, using
+	 * the <code>@</code>{@link Order} annotation on
+	 * the configured method.
+	 */
+	@Override
+	public int getOrder() {
+		Order order = method.getAnnotation(Order.class);
+		return order == null? Integer.MAX_VALUE : order.value();
 	}
 
 	@Override
 	public Supplier<Object> generateSupplier(Injector injector) {
-			Object[] args = injector.getDependencies(method.getParameterTypes());
+			Type[] types = tools.getGenericParameterTypes(method);
+			Object[] args = new Object[types.length];
+			for(int i = 0; i < types.length; i++){
+				args[i] = injector.getInjectionSupplier(types[i]).get();
+			}
 			Object instance = Modifier.isStatic(method.getModifiers())? null : configInstance;
 			
 			return () -> tools.invokeMethod(instance, method, args);
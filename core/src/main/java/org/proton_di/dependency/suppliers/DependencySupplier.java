@@ -0,0 +1,283 @@
+package org.proton_di.dependency.suppliers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.proton_di.codegen.GeneratedFactory;
+import org.proton_di.codegen.GeneratedWiring;
+import org.proton_di.dependency.Order;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.inject.InjectionTools;
+import org.proton_di.inject.Injector;
+
+/**
+ * An abstract class to represent dependencies, 
+ * their suppliers, and convienience methods
+ * 
+ * @author Luke Stevens
+ */
+public abstract class DependencySupplier {
+	
+	Class<?> dependency;
+	List<Class<?>> subDependencies;
+	List<Type> collectionDependencies;
+	List<Type> supplierDependencies;
+	List<Class<?>> assignableClasses;
+	Constructor<?> constructor;
+	List<Field> injectableFields;
+	volatile Supplier<Object> supplier;
+	
+	InjectionTools tools = new InjectionTools();
+	
+	/**
+	 * Constructs a new Dependency supplier for
+	 * a specified class.<br>
+	 * <i>Note: Only one DependencySupplier should be created for
+	 * each class</i>
+	 * @param dependency The class to construct
+	 * a Dependency supplier for.
+	 */
+	DependencySupplier(Class<?> dependency) {
+		this.dependency = dependency;
+	}
+	
+	/**
+	 * Generates the supplier for this dependency
+	 * @param injector The injector used to supply any
+	 * sub dependencies needed for initialisation
+	 * @return A supplier to return the correct instance 
+	 * of the dependency.
+	 */
+	abstract Supplier<Object> generateSupplier(Injector injector);
+	
+	/**
+	 * Gets the supplier for this dependency, generating it on first
+	 * use. Only generation takes a lock, so once generated the
+	 * supplier is returned without locking.
+	 * @param injector The injector used to supply any
+	 * sub dependencies needed for initialisation
+	 * @return A supplier to return the correct instance 
+	 * of the dependency.
+	 */
+	public Supplier<Object> getSupplier(Injector injector){
+		Supplier<Object> generated = supplier;
+		if(generated == null){
+			synchronized(this){
+				if(supplier == null) supplier = generateSupplier(injector);
+				generated = supplier;
+			}
+		}
+		return generated;
+	}
+	
+	
+	@Override
+	public String toString() {
+		return dependency.getName();
+	}
+	
+	/**
+	 * Default method of loading sub dependencies.
+	 * Adds types of fields annotated with <code>@Inject</code>
+	 * and the types parameters for the constructor to use.
+	 * Wrapper types such as <code>Provider&lt;T&gt;</code> depend
+	 * on the wrapped class <code>T</code>, while collections of every
+	 * implementation of a class and <code>Supplier&lt;T&gt;</code>
+	 * types are loaded separately.
+	 * If a factory has been generated for the dependency the types
+	 * are read from it rather than reflectively.
+	 */
+	void loadSubDependencies(){
+		subDependencies = new ArrayList<>();
+		collectionDependencies = new ArrayList<>();
+		supplierDependencies = new ArrayList<>();
+		
+		GeneratedFactory<?> factory = GeneratedWiring.getInstance().getFactory(dependency);
+		if(factory != null){
+			for(Type t : factory.getFieldTypes()) addSubDependency(t);
+			for(Type t : factory.getConstructorTypes()) addSubDependency(t);
+			return;
+		}
+		
+		// Get field sub dependencies
+		for(Field f : getInjectableFields()){
+			addSubDependency(tools.getInjectionType(f));
+		}
+		
+		// Get constructor sub dependencies
+		Constructor<?> con = getConstructor();
+		for(Type t : con == null? new Type[0] : tools.getGenericParameterTypes(con)){
+			addSubDependency(t);
+		}
+	}
+	
+	/**
+	 * Adds the type of a field or parameter as a sub dependency,
+	 * or as a collection dependency if it is a collection of every
+	 * implementation of a class.
+	 * @param type The generic type of the field or parameter
+	 */
+	void addSubDependency(Type type){
+		if(tools.getElementType(type) != null) collectionDependencies.add(type);
+		else if(tools.getWrappedType(type) != null && tools.getRawType(type) == Supplier.class) supplierDependencies.add(type);
+		else subDependencies.add(tools.getDependencyType(type));
+	}
+	
+	/**
+	 * @return A list of all sub dependencies this
+	 * dependency depends upon
+	 */
+	public List<Class<?>> getSubDependencies(){
+		if(subDependencies == null){
+			loadSubDependencies();
+		}
+		return subDependencies;
+	}
+	
+	/**
+	 * @return The types of all fields and parameters which are injected
+	 * with every implementation of a class, e.g. <code>List&lt;T&gt;</code>.
+	 * Unlike sub dependencies, these may have no implementations.
+	 */
+	public List<Type> getCollectionDependencies(){
+		if(collectionDependencies == null){
+			loadSubDependencies();
+		}
+		return collectionDependencies;
+	}
+	
+	/**
+	 * @return The types of all fields and parameters declared as
+	 * <code>Supplier&lt;T&gt;</code>, which depend on a registered
+	 * <code>Supplier</code> if there is one, otherwise on <code>T</code>
+	 */
+	public List<Type> getSupplierDependencies(){
+		if(supplierDependencies == null){
+			loadSubDependencies();
+		}
+		return supplierDependencies;
+	}
+	
+	/**
+	 * @return The generic type this dependency is declared as,
+	 * which is the dependency class unless overridden
+	 */
+	public Type getGenericType(){
+		return dependency;
+	}
+	
+	/**
+	 * @return The position of this dependency when injected with
+	 * every other implementation of a class, set by <code>@</code>{@link Order}.
+	 * Dependencies without an order return <code>Integer.MAX_VALUE</code>.
+	 */
+	public int getOrder(){
+		Order order = dependency.getAnnotation(Order.class);
+		return order == null? Integer.MAX_VALUE : order.value();
+	}
+	
+	/**
+	 * @return True if every call to the generated supplier returns the
+	 * same instance, so the instance may be kept by whatever it is injected into.
+	 * False unless overridden.
+	 */
+	public boolean isShared(){
+		return false;
+	}
+	
+	/**
+	 * @return The required instance of this object from
+	 * the generated supplier.
+	 */
+	public Object getInstance(){
+		return supplier.get();
+	}
+	
+	/**
+	 * @return The dependency class this supplier wraps
+	 */
+	public Class<?> getDependencyClass(){
+		return dependency;
+	}
+	
+	/**
+	 * @return A List of assignable classes (superclasses
+	 * and interfaces) for this dependency
+	 */
+	public List<Class<?>> getAssignableClasses(){
+		if(assignableClasses == null){
+			loadAssignableClasses();
+		}
+		return assignableClasses;
+	}
+	
+	/**
+	 * @return The constructor used to create instances of this dependency,
+	 * annotated with <code>@Inject</code> or the default constructor,
+	 * or null if there is neither
+	 * @throws DependencyCreationException If there are multiple 
+	 * constructors annotated with <code>@Inject</code>
+	 */
+	public Constructor<?> getConstructor(){
+		if(constructor == null){
+			constructor = tools.getInjectionConstructor(dependency);
+		}
+		return constructor;
+	}
+	
+	/**
+	 * @return All non-static fields annotated with <code>@Inject</code>
+	 * in this dependency and its superclasses
+	 */
+	public List<Field> getInjectableFields(){
+		if(injectableFields == null){
+			injectableFields = tools.getAllInjectableFields(dependency);
+		}
+		return injectableFields;
+	}
+	
+	/**
+	 * Sets the constructor, injectable fields and assignable classes
+	 * of this dependency when they have already been resolved, e.g.
+	 * on a previous start, so they are not looked up reflectively.
+	 * @param constructor The constructor to create instances with, or
+	 * null to resolve it when needed
+	 * @param injectableFields The fields to inject into
+	 * @param assignableClasses The superclasses and interfaces to
+	 * register the dependency under
+	 */
+	public void resolve(Constructor<?> constructor, List<Field> injectableFields, List<Class<?>> assignableClasses){
+		this.constructor = constructor;
+		this.injectableFields = injectableFields;
+		this.assignableClasses = assignableClasses;
+	}
+	
+	/**
+	 * Loads the superclasses and interfaces of this dependency,
+	 * from its generated factory if there is one
+	 */
+	void loadAssignableClasses(){
+		GeneratedFactory<?> factory = GeneratedWiring.getInstance().getFactory(dependency);
+		if(factory != null && factory.getAssignableClasses() != null){
+			assignableClasses = new ArrayList<>(Arrays.asList(factory.getAssignableClasses()));
+			return;
+		}
+		
+		List<Class<?>> ifaces = Arrays.asList(dependency.getInterfaces());
+		assignableClasses = new ArrayList<>(ifaces);
+		
+		// Recursively adds superclasses up the hierarchy
+		Class<?> superclass = dependency.getSuperclass();
+		while(superclass != null){
+			assignableClasses.add(superclass);
+			assignableClasses.addAll(Arrays.asList(superclass.getInterfaces()));
+			superclass = superclass.getSuperclass();
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+package org.proton_di.dependency.suppliers;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import org.proton_di.codegen.GeneratedConfiguration;
+import org.proton_di.codegen.GeneratedConfiguration.Method;
+import org.proton_di.inject.Injector;
+
+/**
+ * A DependencySupplier implementation for dependencies
+ * defined in a configuration class, invoked through the
+ * {@link GeneratedConfiguration} generated for that class
+ * rather than by reflection.
+ * 
+ * @author Luke Stevens
+ */
+public class GeneratedDependencySupplier extends DependencySupplier {
+	
+	GeneratedConfiguration configuration;
+	int index;
+	Method method;
+	Object configInstance;
+	
+	/**
+	 * Constructs a new GeneratedDependencySupplier
+	 * @param configuration The class generated for the configuration class
+	 * @param index The index of the method used to create instances of the dependency
+	 * @param configInstance An instance of the configuration class
+	 */
+	public GeneratedDependencySupplier(GeneratedConfiguration configuration, int index, Object configInstance) {
+		super(configuration.getMethods().get(index).getReturnType());
+		this.configuration = configuration;
+		this.index = index;
+		this.method = configuration.getMethods().get(index);
+		this.configInstance = configInstance;
+	}
+
+	/**
+	 * @return The class generated for the configuration class
+	 */
+	public GeneratedConfiguration getConfiguration() {
+		return configuration;
+	}
+	
+	/**
+	 * @return The method used to create instances of the dependency
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Overrides default method for sub dependencies.
+	 * Loads parameter types for configured method as
+	 * the sub dependencies.
+	 */
+	@Override
+	void loadSubDependencies() {
+		subDependencies = new ArrayList<>();
+		collectionDependencies = new ArrayList<>();
+		supplierDependencies = new ArrayList<>();
+		for(Type t : method.getParameterTypes()){
+			addSubDependency(t);
+		}
+	}
+	
+	/**
+	 * Overrides default method for generic type, using
+	 * the generic return type of the configured method.
+	 */
+	@Override
+	public Type getGenericType() {
+		return method.getGenericReturnType();
+	}
+	
+	/**
+	 * Overrides default method for order, using the
+	 * order recorded for the configured method.
+	 */
+	@Override
+	public int getOrder() {
+		return method.getOrder();
+	}
+
+	@Override
+	public Supplier<Object> generateSupplier(Injector injector) {
+		Type[] types = method.getParameterTypes();
+		Object[] args = new Object[types.length];
+		for(int i = 0; i < types.length; i++){
+			args[i] = injector.getInjectionSupplier(types[i]).get();
+		}
+		Object instance = method.isStatic()? null : configInstance;
+		
+		return () -> configuration.invoke(index, instance, args);
+	}
+
+}
@@ -0,0 +1,72 @@
+package org.proton_di.dependency.suppliers;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.Injector;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.report.ProtonEvents.Kind;
+
+/**
+ * A DependencySupplier implementation for dependencies
+ * with an {@link InstanceType} of LAZY_SINGLETON.
+ * 
+ * @author Luke Stevens
+ */
+public class LazySingletonSupplier extends DependencySupplier {
+	
+	public LazySingletonSupplier(Class<?> dependency) {
+		super(dependency);
+	}
+
+	@Override
+	public boolean isShared() {
+		return true;
+	}
+	
+	@Override
+	public Supplier<Object> generateSupplier(Injector injector) {
+		return new LazyInstance(injector);
+	}
+	
+	/**
+	 * A supplier that creates the single instance on first
+	 * use. Concurrent first calls wait for the same instance,
+	 * on a lock rather than a monitor so virtual threads
+	 * are not pinned while it is constructed.
+	 */
+	private class LazyInstance implements Supplier<Object> {
+		
+		private final Injector injector;
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile Object instance;
+		
+		LazyInstance(Injector injector){
+			this.injector = injector;
+		}
+		
+		@Override
+		@SuppressWarnings("try")
+		public Object get(){
+			Object result = instance;
+			if(result == null){
+				lock.lock();
+				try{
+					result = instance;
+					if(result == null){
+						try(EventSpan event = ProtonEvents.begin(Kind.SINGLETON_CONSTRUCTED, dependency, injector.getQualifier())){
+							result = injector.newInstance(dependency);
+						}
+						instance = result;
+					}
+				} finally {
+					lock.unlock();
+				}
+			}
+			return result;
+		}
+	}
+
+}
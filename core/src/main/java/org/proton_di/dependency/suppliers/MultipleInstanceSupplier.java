@@ -0,0 +1,116 @@
+package org.proton_di.dependency.suppliers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+import org.proton_di.codegen.GeneratedFactory;
+import org.proton_di.codegen.GeneratedWiring;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.exceptions.MissingConstructorException;
+import org.proton_di.inject.Injector;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.report.ProtonEvents.Kind;
+
+/**
+ * A DependencySupplier implementation for dependencies
+ * with an {@link InstanceType} of MULTIPLE.
+ * 
+ * @author Luke Stevens
+ */
+public class MultipleInstanceSupplier extends DependencySupplier {
+
+	public MultipleInstanceSupplier(Class<?> dependency) {
+		super(dependency);
+	}
+
+	@Override
+	public Supplier<Object> generateSupplier(Injector injector) {
+		GeneratedFactory<?> factory = GeneratedWiring.getInstance().getFactory(dependency);
+		if(factory != null){
+			return new ConstructorInvoker(injector, null, factory, factory.getConstructorTypes());
+		}
+		
+		Constructor<?> con = getConstructor();
+		Class<?>[] classes = con == null? new Class<?>[0] : con.getParameterTypes();
+		MethodHandle constructor = tools.getConstructor(dependency, classes);
+		return new ConstructorInvoker(injector, constructor, null, tools.getGenericParameterTypes(con));
+	}
+	
+	/**
+	 * A supplier that creates new instances using a constructor
+	 * resolved once, or a generated factory, with a supplier bound
+	 * to each parameter
+	 */
+	private class ConstructorInvoker implements Supplier<Object> {
+		
+		private final Injector injector;
+		private final MethodHandle constructor;
+		private final GeneratedFactory<?> factory;
+		private final Type[] types;
+		
+		// Bound on first use, once the parameter dependencies have all been loaded
+		private volatile Supplier<?>[] parameters;
+		
+		/**
+		 * Constructs a new ConstructorInvoker
+		 * @param injector The injector used to supply the parameters
+		 * @param constructor The constructor to invoke, of type <code>(Object[])Object</code>,
+		 * or null if the factory is used
+		 * @param factory The generated factory to construct instances with, or null
+		 * @param types The generic parameter types of the constructor
+		 */
+		ConstructorInvoker(Injector injector, MethodHandle constructor, GeneratedFactory<?> factory, Type[] types){
+			this.injector = injector;
+			this.constructor = constructor;
+			this.factory = factory;
+			this.types = types;
+		}
+		
+		@Override
+		@SuppressWarnings("try")
+		public Object get(){
+			Supplier<?>[] suppliers = parameters;
+			if(suppliers == null){
+				suppliers = new Supplier<?>[types.length];
+				for(int i = 0; i < types.length; i++){
+					suppliers[i] = injector.getInjectionSupplier(types[i]);
+				}
+				parameters = suppliers;
+			}
+			
+			try(EventSpan event = ProtonEvents.begin(Kind.INSTANCE_CREATED, dependency, injector.getQualifier())){
+				Object[] args = new Object[suppliers.length];
+				for(int i = 0; i < suppliers.length; i++){
+					args[i] = suppliers[i].get();
+				}
+				
+				Object instance = newInstance(args);
+				injector.injectDependencies(instance);
+				return instance;
+			}
+		}
+		
+		/**
+		 * Invokes the constructor
+		 * @param args The arguments to pass to the constructor
+		 * @return The new instance
+		 * @throws MissingConstructorException If the constructor throws an exception,
+		 * which is set as its cause
+		 */
+		private Object newInstance(Object[] args){
+			if(factory != null) return tools.construct(factory, args);
+			try{
+				return constructor.invokeExact(args);
+			} catch(Error e){
+				throw e;
+			} catch(Throwable e){
+				Constructor<?> con = getConstructor();
+				throw tools.missingConstructor(dependency, con == null? new Class<?>[0] : con.getParameterTypes(), e);
+			}
+		}
+	}
+
+}
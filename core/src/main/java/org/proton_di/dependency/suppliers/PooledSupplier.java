@@ -0,0 +1,118 @@
+package org.proton_di.dependency.suppliers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.Reset;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.dependency.pool.BoundedPool;
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.exceptions.InjectionException;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.report.ProtonEvents.Kind;
+
+/**
+ * A DependencySupplier implementation for dependencies
+ * with an {@link InstanceType} of POOLED.<br>
+ * 
+ * The dependency can only be injected as a {@link Pool}, since an
+ * instance injected or retrieved directly would never be released.
+ * 
+ * @author Luke Stevens
+ */
+public class PooledSupplier extends DependencySupplier {
+	
+	private static final MethodType RESET_TYPE = MethodType.methodType(void.class, Object.class);
+	
+	public PooledSupplier(Class<?> dependency) {
+		super(dependency);
+	}
+
+	@Override
+	@SuppressWarnings("try")
+	public Supplier<Object> generateSupplier(Injector injector) {
+		Supplier<Object> factory = () -> {
+			try(EventSpan event = ProtonEvents.begin(Kind.INSTANCE_CREATED, dependency, injector.getQualifier())){
+				return injector.newInstance(dependency);
+			}
+		};
+		
+		// The pool itself is stored as the supplier, so it can be found for injection
+		return new SuppliedPool(getPoolSize(), factory, getReset());
+	}
+	
+	/**
+	 * @return The pool size set on the <code>@Dependency</code> annotation
+	 * @throws DependencyCreationException If the pool size is less than 1
+	 */
+	int getPoolSize(){
+		Dependency annotation = dependency.getAnnotation(Dependency.class);
+		int size = annotation == null? Dependency.DEFAULT_POOL_SIZE : annotation.poolSize();
+		if(size < 1) throw new DependencyCreationException("Pool size must be at least 1.", dependency);
+		return size;
+	}
+	
+	/**
+	 * Finds the method annotated with <code>@</code>{@link Reset} in the
+	 * dependency class or its superclasses.
+	 * @return A consumer invoking the reset method, or doing nothing
+	 * if there is no reset method
+	 * @throws DependencyCreationException If there are multiple reset
+	 * methods, or the reset method has parameters
+	 */
+	Consumer<Object> getReset(){
+		Method reset = null;
+		for(Class<?> c = dependency; c != null; c = c.getSuperclass()){
+			for(Method m : c.getDeclaredMethods()){
+				if(m.getAnnotation(Reset.class) == null) continue;
+				if(reset != null) throw new DependencyCreationException("Multiple methods annotated with @Reset.", dependency);
+				if(m.getParameterCount() > 0) throw new DependencyCreationException("@Reset method " + m.getName() + " must not take parameters.", dependency);
+				reset = m;
+			}
+		}
+		if(reset == null) return instance -> { /* Nothing to reset */ };
+		
+		MethodHandle handle;
+		try{
+			reset.setAccessible(true);
+			handle = MethodHandles.lookup().unreflect(reset).asType(RESET_TYPE);
+		} catch(IllegalAccessException e){
+			throw new DependencyCreationException(e, dependency);
+		}
+		
+		return instance -> {
+			try{
+				handle.invokeExact(instance);
+			} catch(RuntimeException | Error e){
+				throw e;
+			} catch(Throwable e){
+				throw new DependencyCreationException(e, dependency);
+			}
+		};
+	}
+	
+	/**
+	 * The pool stored as the dependency's supplier, which rejects
+	 * retrieving an instance without going through the pool
+	 */
+	private class SuppliedPool extends BoundedPool<Object> implements Supplier<Object> {
+		
+		SuppliedPool(int size, Supplier<Object> factory, Consumer<Object> reset){
+			super(size, factory, reset);
+		}
+		
+		@Override
+		public Object get(){
+			throw new InjectionException("Dependency " + dependency.getName() + " is pooled, so must be injected or retrieved as a Pool.");
+		}
+	}
+
+}
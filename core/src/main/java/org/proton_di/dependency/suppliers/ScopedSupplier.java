@@ -0,0 +1,34 @@
+package org.proton_di.dependency.suppliers;
+
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.exceptions.ScopeException;
+import org.proton_di.dependency.scope.Scope;
+import org.proton_di.dependency.scope.ScopedInstances;
+import org.proton_di.inject.Injector;
+
+/**
+ * A DependencySupplier implementation for dependencies
+ * with an {@link InstanceType} of SCOPED.
+ * 
+ * @author Luke Stevens
+ */
+public class ScopedSupplier extends DependencySupplier {
+	
+	public ScopedSupplier(Class<?> dependency) {
+		super(dependency);
+	}
+
+	@Override
+	public Supplier<Object> generateSupplier(Injector injector) {
+		int slot = ScopedInstances.newSlot(injector);
+		Supplier<Object> factory = () -> injector.newInstance(dependency);
+		return () -> {
+			Scope scope = Scope.current();
+			if(scope == null) throw new ScopeException("No scope is open for scoped dependency " + dependency.getName());
+			return scope.getInstances(injector).get(slot, factory);
+		};
+	}
+
+}
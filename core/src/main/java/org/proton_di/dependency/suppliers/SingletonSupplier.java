@@ -4,6 +4,9 @@ import java.util.function.Supplier;
 
 import org.proton_di.dependency.InstanceType;
 import org.proton_di.inject.Injector;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.report.ProtonEvents.Kind;
 
 /**
  * A DependencySupplier implementation for dependencies
@@ -18,8 +21,17 @@ public class SingletonSupplier extends DependencySupplier {
 	}
 
 	@Override
+	public boolean isShared() {
+		return true;
+	}
+	
+	@Override
+	@SuppressWarnings("try")
 	public Supplier<Object> generateSupplier(Injector injector) {
-		Object instance = injector.newInstance(dependency);
+		Object instance;
+		try(EventSpan event = ProtonEvents.begin(Kind.SINGLETON_CONSTRUCTED, dependency, injector.getQualifier())){
+			instance = injector.newInstance(dependency);
+		}
 		return () -> instance;	
 	}
 
@@ -0,0 +1,28 @@
+package org.proton_di.dependency.suppliers;
+
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.scope.ScopedInstances;
+import org.proton_di.inject.Injector;
+
+/**
+ * A DependencySupplier implementation for dependencies
+ * with an {@link InstanceType} of THREAD.
+ * 
+ * @author Luke Stevens
+ */
+public class ThreadSupplier extends DependencySupplier {
+	
+	public ThreadSupplier(Class<?> dependency) {
+		super(dependency);
+	}
+
+	@Override
+	public Supplier<Object> generateSupplier(Injector injector) {
+		int slot = ScopedInstances.newSlot(injector);
+		Supplier<Object> factory = () -> injector.newInstance(dependency);
+		return () -> ScopedInstances.forThread(injector).get(slot, factory);
+	}
+
+}
@@ -0,0 +1,576 @@
+package org.proton_di.inject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.proton_di.codegen.GeneratedFactory;
+import org.proton_di.codegen.GeneratedWiring;
+import org.proton_di.dependency.exceptions.AmbiguousDependencyException;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.dependency.exceptions.MissingConstructorException;
+import org.proton_di.dependency.exceptions.MissingDependencyException;
+import org.proton_di.dependency.Order;
+import org.proton_di.dependency.loaders.DependencyLoader;
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+import org.proton_di.inject.config.Provider;
+import org.proton_di.inject.exceptions.InjectionException;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.report.ProtonEvents.Kind;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+import org.proton_di.scanner.ClassPath;
+
+abstract class AbstractInjector implements Injector{
+	
+	static final Comparator<DependencySupplier> IMPLEMENTATION_ORDER = Comparator
+			.comparingInt(DependencySupplier::getOrder)
+			.thenComparing(dep -> dep.getDependencyClass().getName());
+	
+	final String qualifier;
+	
+	// Only used while loading, all lookups afterwards use the frozen table
+	final Map<Class<?>, Supplier<Object>> dependencies = new ConcurrentHashMap<>();
+	final InjectionTools tools = new InjectionTools();
+	
+	// Every dependency registered under each concrete and assignable class
+	final Map<Class<?>, List<DependencySupplier>> implementations = new ConcurrentHashMap<>();
+	
+	// Null until all dependencies are loaded
+	final DependencyTable table;
+	private final ClassValue<Supplier<Object>> lookup = new ClassValue<Supplier<Object>>(){
+		@Override
+		protected Supplier<Object> computeValue(Class<?> c){
+			return table.get(c);
+		}
+	};
+	
+	// Collection suppliers for each injected collection type, only cached once the table is created
+	private final Map<Type, Supplier<?>> collections = new ConcurrentHashMap<>();
+	
+	private final ClassValue<InjectionPlan> plans = new ClassValue<InjectionPlan>(){
+		@Override
+		protected InjectionPlan computeValue(Class<?> c){
+			return new InjectionPlan(c, AbstractInjector.this);
+		}
+	};
+	
+	/**
+	 * Creates the single instance of this Injector,
+	 * by scanning all classes on the classpath and
+	 * injected static dependencies where appropriate.
+	 * @param qualifier The qualifier of this Injector, used when
+	 * recording startup metrics
+	 * @param loaders The loaders to load dependencies from
+	 */
+	AbstractInjector(String qualifier, DependencyLoader...loaders){
+		this.qualifier = qualifier;
+		loadAllDependencies(loaders);
+		
+		this.dependencies.put(ClassPath.class, ClassPath::getInstance);
+		this.dependencies.put(AbstractInjector.class, () -> this);
+		this.dependencies.put(Injector.class, () -> this);
+		this.dependencies.put(getClass(), () -> this);
+		this.table = freeze();
+	}
+	
+	/**
+	 * Creates the table used for all lookups once dependencies have
+	 * been loaded.
+	 * @return A table containing all dependencies in this Injector
+	 */
+	DependencyTable freeze(){
+		return new DependencyTable(dependencies);
+	}
+	
+	/**
+	 * Gets the supplier for a class while dependencies are still
+	 * being loaded, and the table has not been created.
+	 * @param c The class to get the supplier for
+	 * @return The supplier for the class, or null if there is none
+	 */
+	abstract Supplier<Object> getLoadingSupplier(Class<?> c);
+	
+	@Override
+	public <T> T getDependency(Class<T> c){
+		return c.cast(getSupplier(c).get());
+	}
+	
+	@Override
+	public Supplier<Object> getSupplier(Class<?> c){
+		Supplier<Object> instance = table == null? getLoadingSupplier(c) : lookup.get(c);
+		if(instance == null) throw new MissingDependencyException(c);
+		return instance;
+	}
+	
+	@Override
+	public Supplier<?> getInjectionSupplier(Type type){
+		Class<?> element = tools.getElementType(type);
+		if(element != null) return getCachedCollectionSupplier(type, element);
+		
+		Class<?> wrapped = tools.getWrappedType(type);
+		if(wrapped == null) return getSupplier(tools.getRawType(type));
+		
+		// A Supplier registered for the same class is injected as it is, rather than wrapping the supplied class
+		Class<?> wrapper = tools.getRawType(type);
+		if(wrapper == Supplier.class){
+			DependencySupplier registered = getRegisteredSupplier(wrapped);
+			if(registered != null) return registered.getSupplier(this);
+		}
+		
+		if(wrapper == Pool.class){
+			Pool<?> pool = getPool(wrapped);
+			return () -> pool;
+		}
+		
+		Supplier<Object> supplier = getSupplier(wrapped);
+		if(wrapper == Provider.class){
+			Provider<Object> provider = supplier::get;
+			return () -> provider;
+		}
+		return () -> supplier;
+	}
+	
+	@Override
+	public String getQualifier(){
+		return qualifier;
+	}
+	
+	@Override
+	public boolean hasDependency(Class<?> c){
+		return table == null? getLoadingSupplier(c) != null : lookup.get(c) != null;
+	}
+	
+	/**
+	 * Loads all dependencies using the provided dependency
+	 * loaders. If this Injector is wired during startup, and the wiring plan
+	 * set by the property <code>proton.wiring.plan</code> is valid for it, then
+	 * the planned dependencies are created instead, and no dependencies are
+	 * discovered or resolved.
+	 * @param loaders An array of dependency loaders used to 
+	 * load dependencies from different sources.
+	 */
+	@SuppressWarnings("try")
+	void loadAllDependencies(DependencyLoader...loaders){
+		WiringPlan plan = InjectionManager.getWiringPlan();
+		if(plan != null){
+			DependencyGraph planned;
+			try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.PHASE, "Load wiring plan [" + qualifier + "]")){
+				planned = plan.getGraph(qualifier);
+			}
+			if(planned != null){
+				createDependencies(planned, planned.getSuppliers());
+				return;
+			}
+		}
+		
+		List<DependencySupplier> toInitialise = new ArrayList<>();
+		try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.PHASE, "Load dependencies [" + qualifier + "]")){
+			for (DependencyLoader dependencyLoader : loaders) {
+				toInitialise.addAll(dependencyLoader.getDependencies());
+			}
+		}
+		initialiseDependencies(toInitialise);
+	}
+	
+	/**
+	 * Initialises all loaded dependencies, ordered so that each
+	 * is initialised after all of its sub dependencies, and records
+	 * them in the wiring plan if there is one for the current startup.
+	 * @param toInitialise A List of loaded DependencySuppliers to initalise.
+	 * @throws DependencyCreationException If any sub dependencies are missing,
+	 * or there is a dependency loop
+	 */
+	@SuppressWarnings("try")
+	void initialiseDependencies(List<DependencySupplier> toInitialise){
+		DependencyGraph graph;
+		List<DependencySupplier> sorted;
+		try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.PHASE, "Resolve dependency graph [" + qualifier + "]")){
+			graph = new DependencyGraph(toInitialise, this);
+			sorted = graph.sort();
+		}
+		
+		createDependencies(graph, sorted);
+		
+		WiringPlan plan = InjectionManager.getWiringPlan();
+		if(plan != null){
+			try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.PHASE, "Record wiring plan [" + qualifier + "]")){
+				plan.record(qualifier, sorted, graph);
+			}
+		}
+	}
+	
+	/**
+	 * Creates all dependencies, in order, and loads them into this Injector.
+	 * Dependencies are created concurrently if an executor has been set by
+	 * {@link InjectionManager#setWiringExecutor(Executor)}, or if the property
+	 * <code>proton.wiring.parallelism</code> is greater than 1.
+	 * @param graph The graph of the dependencies
+	 * @param sorted The dependencies, sorted so each is after all of its prerequisites
+	 * @throws DependencyCreationException If any dependency cannot be created
+	 */
+	@SuppressWarnings("try")
+	void createDependencies(DependencyGraph graph, List<DependencySupplier> sorted){
+		Executor executor = InjectionManager.getWiringExecutor();
+		int parallelism = getWiringParallelism();
+		try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.PHASE, "Create dependencies [" + qualifier + "]")){
+			if(executor != null || parallelism > 1) new ParallelWiring(this, graph, executor, parallelism).loadDependencies(sorted);
+			else {
+				for(DependencySupplier dep : sorted){
+					loadDependency(dep);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @return The number of threads to create dependencies on, set by the
+	 * property <code>proton.wiring.parallelism</code>. Defaults to 1,
+	 * creating all dependencies on the calling thread.
+	 * @throws DependencyCreationException If the property is not a number
+	 */
+	private int getWiringParallelism(){
+		return Parallelism.fromProperty("proton.wiring.parallelism", 1, DependencyCreationException::new);
+	}
+	
+	/**
+	 * Generates the supplier for a dependency supplier and stores
+	 * in the dependency map for the class and all interfaces and superclasses.
+	 * @param c The DependencySupplier to load as a dependency.
+	 */
+	void loadDependency(DependencySupplier dep){	
+		registerImplementation(dep);
+		Supplier<Object> supplier = createSupplier(dep);
+		
+		// Load concrete dependency class
+		loadDependency(dep.getDependencyClass(), supplier, true);
+		
+		// Loads assignable classes (super and interfaces)
+		for(Class<?> assignableClass : dep.getAssignableClasses()){
+			loadDependency(assignableClass, supplier, false);
+		}
+	}
+	
+	/**
+	 * Records a dependency as an implementation of its concrete
+	 * class and all assignable classes, so it can be injected
+	 * along with every other implementation.
+	 * @param dep The dependency to record
+	 */
+	void registerImplementation(DependencySupplier dep){
+		implementations.computeIfAbsent(dep.getDependencyClass(), k -> new CopyOnWriteArrayList<>()).add(dep);
+		for(Class<?> assignableClass : dep.getAssignableClasses()){
+			implementations.computeIfAbsent(assignableClass, k -> new CopyOnWriteArrayList<>()).add(dep);
+		}
+	}
+	
+	/**
+	 * Gets every dependency registered as an implementation of a class
+	 * @param c The class to get implementations of
+	 * @return The implementations of the class, sorted by their
+	 * <code>@</code>{@link Order}, then by class name
+	 */
+	List<DependencySupplier> getImplementations(Class<?> c){
+		List<DependencySupplier> found = new ArrayList<>(implementations.getOrDefault(c, Collections.emptyList()));
+		found.sort(IMPLEMENTATION_ORDER);
+		return found;
+	}
+	
+	/**
+	 * Gets the supplier for a field or parameter injected with every
+	 * implementation of a class, reusing the supplier created for the
+	 * same type once all dependencies are loaded.
+	 * @param type The generic type of the field or parameter
+	 * @param element The class to inject all implementations of
+	 * @return The supplier for the field or parameter
+	 */
+	private Supplier<?> getCachedCollectionSupplier(Type type, Class<?> element){
+		if(table == null) return getCollectionSupplier(type, element);
+		Supplier<?> supplier = collections.get(type);
+		if(supplier == null){
+			// Not computeIfAbsent, creating the supplier may inject other collections
+			Supplier<?> created = getCollectionSupplier(type, element);
+			supplier = collections.putIfAbsent(type, created);
+			if(supplier == null) supplier = created;
+		}
+		return supplier;
+	}
+	
+	/**
+	 * Gets the supplier for a field or parameter injected with every
+	 * implementation of a class. The implementations are resolved once.
+	 * If every implementation is a singleton and all dependencies are loaded,
+	 * one immutable collection is built on first use and shared by every
+	 * injection, with arrays copied from it as they can be modified.
+	 * Otherwise each call builds a new immutable collection.<br>
+	 * A dependency registered for the collection type itself is used instead
+	 * if it is declared with the same element type, e.g. a configured method
+	 * returning <code>List&lt;T&gt;</code>, or if there are no implementations.
+	 * @param type The generic type of the field or parameter
+	 * @param element The class to inject all implementations of
+	 * @return The supplier for the field or parameter
+	 */
+	Supplier<?> getCollectionSupplier(Type type, Class<?> element){
+		Class<?> collection = tools.getRawType(type);
+		List<DependencySupplier> found = getImplementations(element);
+		if(hasDependency(collection) && (found.isEmpty() || isRegisteredCollection(collection, element))) return getSupplier(collection);
+		
+		Supplier<?>[] suppliers = new Supplier<?>[found.size()];
+		for(int i = 0; i < suppliers.length; i++){
+			suppliers[i] = found.get(i).getSupplier(this);
+		}
+		
+		Supplier<Object> create;
+		if(collection.isArray()) create = () -> {
+			Object[] array = (Object[]) Array.newInstance(element, suppliers.length);
+			for(int i = 0; i < suppliers.length; i++) array[i] = suppliers[i].get();
+			return array;
+		};
+		else{
+			boolean set = collection == Set.class;
+			create = () -> {
+				Object[] array = new Object[suppliers.length];
+				for(int i = 0; i < suppliers.length; i++) array[i] = suppliers[i].get();
+				List<Object> list = Arrays.asList(array);
+				return set? Collections.unmodifiableSet(new LinkedHashSet<>(list)) : Collections.unmodifiableList(list);
+			};
+		}
+		
+		boolean shared = table != null;
+		for(DependencySupplier dep : found) shared &= dep.isShared();
+		if(!shared) return create;
+		
+		SharedCollection instance = new SharedCollection(create);
+		return collection.isArray()? () -> ((Object[]) instance.get()).clone() : instance;
+	}
+	
+	/**
+	 * A supplier of a collection built once on first use. The elements
+	 * are all singletons, so if two threads build it at the same time
+	 * either collection may be kept.
+	 */
+	private static class SharedCollection implements Supplier<Object> {
+		
+		private final Supplier<Object> create;
+		private volatile Object instance;
+		
+		SharedCollection(Supplier<Object> create){
+			this.create = create;
+		}
+		
+		@Override
+		public Object get(){
+			Object result = instance;
+			if(result == null) instance = result = create.get();
+			return result;
+		}
+	}
+	
+	/**
+	 * @param supplied The class supplied at an injection point
+	 * declared as <code>Supplier&lt;T&gt;</code>
+	 * @return The dependency registered as a Supplier of exactly
+	 * that class, or null if there is none
+	 */
+	DependencySupplier getRegisteredSupplier(Class<?> supplied){
+		for(DependencySupplier dep : getImplementations(Supplier.class)){
+			if(tools.getSuppliedType(dep) == supplied) return dep;
+		}
+		return null;
+	}
+	
+	/**
+	 * @param collection The collection class
+	 * @param element The element class
+	 * @return True if a dependency registered for the collection class
+	 * is declared with the element class as its element type
+	 */
+	private boolean isRegisteredCollection(Class<?> collection, Class<?> element){
+		for(DependencySupplier dep : getImplementations(collection)){
+			if(tools.getElementType(dep.getGenericType()) == element) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Creates the supplier for a dependency, recording the time
+	 * taken in the startup report.
+	 * @param dep The DependencySupplier to create the supplier for
+	 * @return The supplier for the dependency
+	 */
+	@SuppressWarnings("try")
+	Supplier<Object> createSupplier(DependencySupplier dep){
+		try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.DEPENDENCY, dep.toString());
+				EventSpan event = ProtonEvents.begin(Kind.SUPPLIER_CREATED, dep.getDependencyClass(), qualifier)){
+			return dep.getSupplier(this);
+		}
+	}
+	
+	/**
+	 * Loads a dependency into the dependency map
+	 * @param d The class to store the dependency under. This may be 
+	 * the actual dependency class, or any interface/superclass it implements.
+	 * @param instance The supplier to use to get an instance of this
+	 * dependency.
+	 * @param concrete Whether this is the concrete class or an interface/superclass
+	 * @throws DependencyCreationException If a dependency already exists
+	 * for the specified concrete class
+	 */
+	void loadDependency(Class<?> dep, Supplier<Object> instance, boolean concrete){
+		
+		// Only check dependency map for this Injector
+		boolean exists = dependencies.containsKey(dep);
+		
+		// If the concrete dependency already exists, throw an exception
+		if(exists && concrete) throw new DependencyCreationException("Dependency already exists for class.", dep);
+		
+		// If it exists, but isn't concrete, store an exception to throw if retrieval is attempted
+		else if(exists) dependencies.put(dep, () -> { throw new AmbiguousDependencyException(dep); });
+		
+		// Otherwise store dependency and supplier
+		else dependencies.put(dep, instance);
+		
+	}
+	
+	/**
+	 * Scans all fields on a class and, for each eligible field,
+	 * sets it's value to an appropriate dependency.
+	 * @param c The class to scan.
+	 */
+	@SuppressWarnings("try")
+	public void injectIntoStaticFields(Class<?> c){
+		Field[] fields = new Field[0];
+		
+		// Classes far down the dependency chain sometimes have 
+		// fields which reference missing classes. Ignore these.
+		try{
+			fields = c.getDeclaredFields();
+		} catch(NoClassDefFoundError e){
+			// Ignore classes with missing fields
+		}
+		
+		try(EventSpan event = ProtonEvents.begin(Kind.STATIC_FIELDS_INJECTED, c, qualifier)){
+			for(Field f : fields){
+				if(tools.isInjectable(f, true)) injectIntoField(f, null);
+			}
+		}
+	}
+	
+	/**
+	 * Injects a dependency into an injectable field.
+	 * @param f The field to inject into. Must be
+	 * annotated with <code>@Inject</code>
+	 * @param o The object instance to inject into. If used
+	 * for static dependencies, this should be null.
+	 */
+	void injectIntoField(Field f, Object o){
+		try{
+			Object dependency = getInjectionSupplier(tools.getInjectionType(f)).get();
+			f.setAccessible(true);
+			f.set(o, dependency);
+		} catch (IllegalArgumentException | IllegalAccessException e) {
+			throw new InjectionException(e, f.getClass());
+		}
+	}
+	
+
+	@Override
+	public Object[] getDependencies(Class<?>[] classes){
+		Object[] params = new Object[classes.length];
+		for(int i = 0; i < classes.length; i++){
+			params[i] = getDependency(classes[i]);
+		}
+		return params;
+	}
+	
+	@Override
+	@SuppressWarnings("try")
+	public void injectDependencies(Object o){
+		try(EventSpan event = ProtonEvents.begin(Kind.DEPENDENCIES_INJECTED, o.getClass(), qualifier)){
+			getInjectionPlan(o.getClass()).inject(o);
+		}
+	}
+	
+	/**
+	 * Gets the injection plan for a class. While dependencies are still
+	 * being loaded the suppliers for a class may change, so plans are
+	 * created fresh each time until the Injector is initialised.
+	 * @param c The class to get the injection plan for
+	 * @return The injection plan for the class
+	 */
+	InjectionPlan getInjectionPlan(Class<?> c){
+		return table != null? plans.get(c) : new InjectionPlan(c, this);
+	}
+	
+	@Override
+	public <T> T newInstance(Class<T> c) {
+		GeneratedFactory<T> factory = GeneratedWiring.getInstance().getFactory(c);
+		T instance;
+		if(factory != null) instance = tools.construct(factory, getArguments(factory.getConstructorTypes()));
+		else {
+			// The constructor is resolved once, and both its parameter classes and generic types read from it
+			DependencySupplier dep = getRegistered(c);
+			Constructor<?> con = dep == null? tools.getInjectionConstructor(c) : dep.getConstructor();
+			if(con == null) throw new MissingConstructorException(c, new Class<?>[0]);
+			instance = c.cast(tools.construct(con, getArguments(tools.getGenericParameterTypes(con))));
+		}
+				
+		injectDependencies(instance);
+		return instance;
+	}
+	
+	/**
+	 * Gets the dependency registered in this Injector for a concrete
+	 * class, whose constructor and fields have already been resolved
+	 * @param c The class to get the dependency for
+	 * @return The dependency, or null if there is none
+	 */
+	DependencySupplier getRegistered(Class<?> c){
+		for(DependencySupplier dep : implementations.getOrDefault(c, Collections.emptyList())){
+			if(dep.getDependencyClass() == c) return dep;
+		}
+		return null;
+	}
+	
+	/**
+	 * Gets all fields to inject into for a class, using those resolved
+	 * for the dependency registered for the class if there is one
+	 * @param c The class to get the fields for
+	 * @return All injectable fields from the class and its superclasses
+	 */
+	List<Field> getInjectableFields(Class<?> c){
+		DependencySupplier dep = getRegistered(c);
+		return dep == null? tools.getAllInjectableFields(c) : dep.getInjectableFields();
+	}
+	
+	/**
+	 * Gets the dependencies to pass to a constructor
+	 * @param types The generic parameter types of the constructor
+	 * @return The dependency for each parameter
+	 */
+	private Object[] getArguments(Type[] types){
+		Object[] params = new Object[types.length];
+		for(int i = 0; i < types.length; i++){
+			params[i] = getInjectionSupplier(types[i]).get();
+		}
+		return params;
+	}
+	
+
+}
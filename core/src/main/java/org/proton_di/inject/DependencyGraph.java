@@ -0,0 +1,206 @@
+package org.proton_di.inject;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+
+/**
+ * A graph of dependency suppliers, where each supplier depends
+ * on every supplier providing one of its sub dependencies, either
+ * by its concrete class or an assignable class.<br>
+ * 
+ * The graph is built once and sorted topologically, so that
+ * each supplier is ordered after everything it depends on.
+ * 
+ * @author Luke Stevens
+ */
+class DependencyGraph {
+	
+	private final InjectionTools tools = new InjectionTools();
+	private final List<DependencySupplier> suppliers;
+	private final Map<DependencySupplier, List<DependencySupplier>> prerequisites = new IdentityHashMap<>();
+	private final Map<DependencySupplier, List<DependencySupplier>> dependents = new IdentityHashMap<>();
+	
+	/**
+	 * Builds a new graph of suppliers
+	 * @param suppliers The suppliers to be loaded
+	 * @param injector The injector the suppliers will be loaded into,
+	 * used to find sub dependencies that have already been loaded
+	 * @throws DependencyCreationException If any sub dependencies are
+	 * neither already loaded nor provided by another supplier
+	 */
+	DependencyGraph(List<DependencySupplier> suppliers, Injector injector){
+		this.suppliers = suppliers;
+		
+		Map<Class<?>, List<DependencySupplier>> providers = new HashMap<>();
+		for(DependencySupplier dep : suppliers){
+			providers.computeIfAbsent(dep.getDependencyClass(), k -> new ArrayList<>()).add(dep);
+			for(Class<?> c : dep.getAssignableClasses()){
+				providers.computeIfAbsent(c, k -> new ArrayList<>()).add(dep);
+			}
+			prerequisites.put(dep, new ArrayList<>());
+			dependents.put(dep, new ArrayList<>());
+		}
+		
+		for(DependencySupplier dep : suppliers){
+			addEdges(dep, providers, injector);
+		}
+	}
+	
+	/**
+	 * Builds a graph from prerequisites that have already been
+	 * resolved, e.g. on a previous start, rather than from the sub
+	 * dependencies of each supplier.
+	 * @param sorted The suppliers to be loaded, sorted so each is
+	 * after all of its prerequisites
+	 * @param indexes The positions in the sorted list of each supplier's prerequisites
+	 */
+	DependencyGraph(List<DependencySupplier> sorted, List<int[]> indexes){
+		this.suppliers = sorted;
+		for(DependencySupplier dep : sorted){
+			prerequisites.put(dep, new ArrayList<>());
+			dependents.put(dep, new ArrayList<>());
+		}
+		
+		for(int i = 0; i < sorted.size(); i++){
+			DependencySupplier dep = sorted.get(i);
+			for(int index : indexes.get(i)){
+				prerequisites.get(dep).add(sorted.get(index));
+				dependents.get(sorted.get(index)).add(dep);
+			}
+		}
+	}
+	
+	/**
+	 * Adds an edge from every provider of each of a supplier's
+	 * sub dependencies to the supplier.
+	 * @param dep The supplier to add edges for
+	 * @param providers The suppliers providing each class
+	 * @param injector The injector used to find sub dependencies
+	 * that have already been loaded
+	 * @throws DependencyCreationException If any sub dependencies are missing
+	 */
+	private void addEdges(DependencySupplier dep, Map<Class<?>, List<DependencySupplier>> providers, Injector injector){
+		Set<DependencySupplier> required = new LinkedHashSet<>();
+		StringBuilder missing = new StringBuilder();
+		
+		List<Class<?>> classes = new ArrayList<>(dep.getSubDependencies());
+		
+		// A Supplier is injected as it is if one is registered for the same class, otherwise it wraps the supplied class
+		for(Type t : dep.getSupplierDependencies()){
+			Class<?> supplied = tools.getWrappedType(t);
+			List<DependencySupplier> registered = new ArrayList<>();
+			for(DependencySupplier provider : providers.getOrDefault(Supplier.class, Collections.emptyList())){
+				if(tools.getSuppliedType(provider) == supplied) registered.add(provider);
+			}
+			
+			if(!registered.isEmpty()) required.addAll(registered);
+			else if(!(injector instanceof AbstractInjector) || ((AbstractInjector) injector).getRegisteredSupplier(supplied) == null) classes.add(supplied);
+		}
+		
+		for(Class<?> c : classes){
+			List<DependencySupplier> provided = providers.getOrDefault(c, Collections.emptyList());
+			if(!provided.isEmpty()) required.addAll(provided);
+			else if(!injector.hasDependency(c)) missing.append(c.getSimpleName() + ", ");
+		}
+		
+		// Collections are built from every implementation, or from a collection
+		// registered directly, so may depend on either
+		for(Type t : dep.getCollectionDependencies()){
+			required.addAll(providers.getOrDefault(tools.getElementType(t), Collections.emptyList()));
+			required.addAll(providers.getOrDefault(tools.getRawType(t), Collections.emptyList()));
+		}
+		
+		if(missing.length() > 0) {
+			throw new DependencyCreationException("Missing dependencies : " + missing.substring(0, missing.length() - 2), dep.getDependencyClass());
+		}
+		
+		for(DependencySupplier prerequisite : required){
+			prerequisites.get(dep).add(prerequisite);
+			dependents.get(prerequisite).add(dep);
+		}
+	}
+	
+	/**
+	 * @return All suppliers in the graph, in the order they were loaded
+	 */
+	List<DependencySupplier> getSuppliers(){
+		return suppliers;
+	}
+	
+	/**
+	 * @param dep A supplier in the graph
+	 * @return All suppliers providing a sub dependency of the supplier
+	 */
+	List<DependencySupplier> getPrerequisites(DependencySupplier dep){
+		return prerequisites.get(dep);
+	}
+	
+	/**
+	 * Sorts the suppliers so each is ordered after all of its
+	 * prerequisites. Suppliers that do not depend on each other
+	 * keep the order they were loaded in.
+	 * @return The sorted list of suppliers
+	 * @throws DependencyCreationException If there is a dependency loop
+	 */
+	List<DependencySupplier> sort(){
+		Map<DependencySupplier, Integer> remaining = new IdentityHashMap<>();
+		ArrayDeque<DependencySupplier> ready = new ArrayDeque<>();
+		for(DependencySupplier dep : suppliers){
+			int count = prerequisites.get(dep).size();
+			remaining.put(dep, count);
+			if(count == 0) ready.add(dep);
+		}
+		
+		List<DependencySupplier> sorted = new ArrayList<>(suppliers.size());
+		while(!ready.isEmpty()){
+			DependencySupplier dep = ready.poll();
+			sorted.add(dep);
+			remaining.remove(dep);
+			
+			for(DependencySupplier dependent : dependents.get(dep)){
+				int count = remaining.get(dependent) - 1;
+				remaining.put(dependent, count);
+				if(count == 0) ready.add(dependent);
+			}
+		}
+		
+		if(!remaining.isEmpty()) throw new DependencyCreationException("Dependency loop detected: " + findLoop(remaining.keySet()));
+		return sorted;
+	}
+	
+	/**
+	 * Finds a single dependency loop among suppliers that could not be sorted.
+	 * Every one of these suppliers has at least one prerequisite that
+	 * also could not be sorted, so following those must lead to a loop.
+	 * @param unsorted The suppliers that could not be sorted
+	 * @return The loop, in the form <code>A -> B -> A</code>
+	 */
+	private String findLoop(Set<DependencySupplier> unsorted){
+		List<DependencySupplier> path = new ArrayList<>();
+		DependencySupplier dep = suppliers.stream().filter(unsorted::contains).findFirst().orElseThrow(IllegalStateException::new);
+		
+		while(!path.contains(dep)){
+			path.add(dep);
+			dep = prerequisites.get(dep).stream().filter(unsorted::contains).findFirst().orElseThrow(IllegalStateException::new);
+		}
+		
+		StringBuilder loop = new StringBuilder();
+		for(DependencySupplier d : path.subList(path.indexOf(dep), path.size())){
+			loop.append(d).append(" -> ");
+		}
+		return loop.append(dep).toString();
+	}
+
+}
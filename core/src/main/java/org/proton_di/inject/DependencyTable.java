@@ -0,0 +1,81 @@
+package org.proton_di.inject;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An immutable table of dependency suppliers keyed by class, using
+ * open addressing and identity comparison of keys.<br>
+ * 
+ * All state is held in final fields, so a table is safely published
+ * to every thread once constructed, and lookups take no locks.
+ * 
+ * @author Luke Stevens
+ */
+final class DependencyTable {
+	
+	private final Class<?>[] keys;
+	private final Supplier<Object>[] values;
+	private final int mask;
+	private final int size;
+	
+	/**
+	 * Constructs a new DependencyTable containing every
+	 * entry in a map of dependencies
+	 * @param dependencies The dependencies to copy into the table
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	DependencyTable(Map<Class<?>, Supplier<Object>> dependencies){
+		// Keep the table at most half full so probes stay short
+		int capacity = Integer.highestOneBit(Math.max(dependencies.size(), 1) * 4 - 1);
+		
+		this.keys = new Class<?>[capacity];
+		this.values = new Supplier[capacity];
+		this.mask = capacity - 1;
+		this.size = dependencies.size();
+		
+		for(Map.Entry<Class<?>, Supplier<Object>> entry : dependencies.entrySet()){
+			int i = index(entry.getKey());
+			while(keys[i] != null) i = (i + 1) & mask;
+			keys[i] = entry.getKey();
+			values[i] = entry.getValue();
+		}
+	}
+	
+	/**
+	 * @param c The class to get the supplier for
+	 * @return The supplier for the class, or null if there is none
+	 */
+	Supplier<Object> get(Class<?> c){
+		for(int i = index(c);; i = (i + 1) & mask){
+			Class<?> key = keys[i];
+			if(key == c) return values[i];
+			else if(key == null) return null;
+		}
+	}
+	
+	/**
+	 * @param c The class to check for
+	 * @return True if the table contains a supplier for the class
+	 */
+	boolean contains(Class<?> c){
+		return get(c) != null;
+	}
+	
+	/**
+	 * @return The number of classes in the table
+	 */
+	int size(){
+		return size;
+	}
+	
+	/**
+	 * @param c The class to find the starting slot for
+	 * @return The first slot to probe for the class
+	 */
+	private int index(Class<?> c){
+		int h = System.identityHashCode(c);
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+}
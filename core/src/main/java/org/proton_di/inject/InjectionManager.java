@@ -0,0 +1,336 @@
+package org.proton_di.inject;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.inject.exceptions.InjectionException;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupReport;
+import org.proton_di.report.StartupTimer;
+import org.proton_di.scanner.index.DependencyIndex;
+
+public class InjectionManager {
+	
+	public static final String ROOT_QUALIFIER = "root";
+	
+	private static final Map<String, Injector> INSTANCES = new ConcurrentHashMap<>();
+	private static final AtomicReference<CompletableFuture<Injector>> STARTUP = new AtomicReference<>();
+	private static final ThreadLocal<Boolean> STARTING = new ThreadLocal<>();
+	private static volatile Injector rootInjector;
+	private static volatile Injector startingRoot;
+	private static volatile WiringPlan startupPlan;
+	private static volatile Injector defaultInjector;
+	private static volatile Executor wiringExecutor;
+	private static volatile long startupTime;
+	
+	/*
+	 * Startup runs once, either on the first thread to use the InjectionManager,
+	 * or on the executor passed to startAsync, and completes the STARTUP future.
+	 * Any other thread using the InjectionManager waits for the future. Threads
+	 * working on startup itself, i.e. the starting thread and the threads it
+	 * wires dependencies or injects static fields on, are marked as STARTING
+	 * and use the root injector as soon as it has been created, along with
+	 * the wiring plan for this startup.
+	 */
+	
+	private InjectionManager(){/* Hide public constructor in static class */}
+	
+	
+	/**
+	 * Used to start the container and initialise the RootInjector
+	 * singleton instance on the calling thread.<br>
+	 * 
+	 * Calling any other methods in InjectionManager will achieve the
+	 * same results, but this method makes the intention more obvious.
+	 * If startup is already running on another thread, through
+	 * {@link #startAsync(Executor)}, this waits for it to complete.
+	 */
+	public static void init(){
+		root();
+	}
+	
+	/**
+	 * Starts the container on a new daemon thread named <code>proton-startup</code>.
+	 * @return A future completed with the root Injector once startup is complete
+	 * @see #startAsync(Executor)
+	 */
+	public static CompletableFuture<Injector> startAsync(){
+		return startAsync(task -> {
+			Thread thread = new Thread(task, "proton-startup");
+			thread.setDaemon(true);
+			thread.start();
+		});
+	}
+	
+	/**
+	 * Starts the container on an executor, so the application can do its
+	 * own startup work while dependencies are created and static fields injected.
+	 * This must be called before any other method in InjectionManager, otherwise
+	 * the container will already have been started on the calling thread.<br>
+	 * 
+	 * All actions taken during startup happen-before the returned future is
+	 * completed, so happen-before any action following <code>join()</code> or <code>get()</code>
+	 * and any dependent stage of the future. Any other method in InjectionManager
+	 * called before the future completes waits for startup, exactly as if the
+	 * container had been started on the calling thread.<br>
+	 * 
+	 * Startup only happens once, so later calls return the same future and
+	 * do not use the executor passed. If the container has already been started,
+	 * or is being started on another thread, the future for that startup is returned.<br>
+	 * 
+	 * Classes with static fields to inject are initialised during startup, so
+	 * should not be initialised by the application until the future completes.
+	 * 
+	 * @param executor The executor to start the container on
+	 * @return A future completed with the root Injector once startup is complete,
+	 * or completed exceptionally with the cause if startup fails
+	 */
+	public static CompletableFuture<Injector> startAsync(Executor executor){
+		Objects.requireNonNull(executor, "executor");
+		CompletableFuture<Injector> startup = new CompletableFuture<>();
+		if(!STARTUP.compareAndSet(null, startup)) return STARTUP.get();
+		
+		try{
+			executor.execute(() -> start(startup));
+		} catch(RuntimeException e){
+			// The container was never started, so it can still be started later
+			STARTUP.compareAndSet(startup, null);
+			startup.completeExceptionally(e);
+		}
+		return startup;
+	}
+	
+	/**
+	 * Starts the container on the current thread, and completes a future
+	 * with the result
+	 * @param startup The future to complete
+	 */
+	@SuppressWarnings("try")
+	private static void start(CompletableFuture<Injector> startup){
+		STARTING.set(Boolean.TRUE);
+		try{
+			// Set before the root injector is created, so startup time includes it
+			long start = System.nanoTime();
+			WiringPlan plan = WiringPlan.fromProperties();
+			startupPlan = plan;
+			Injector root = new RootInjector();
+			startingRoot = root;
+			
+			/*
+			 * Sets the default injector to the injector specified
+			 * by the property proton.injector.default.
+			 * 
+			 * This should be used when running in different environments
+			 * from VM args.
+			 */
+			String defaultQualifier = System.getProperty("proton.injector.default");
+			defaultInjector = (defaultQualifier==null)? root : getInjector(defaultQualifier);
+			try(StartupTimer timer = StartupRecorder.start(Type.PHASE, "Inject static fields")){
+				injectStaticFields(plan);
+			}
+			if(plan != null){
+				try(StartupTimer timer = StartupRecorder.start(Type.PHASE, "Write wiring plan")){
+					plan.write();
+				}
+			}
+			
+			startupTime = System.nanoTime() - start;
+			StartupRecorder.complete(startupTime);
+			rootInjector = root;
+			startup.complete(root);
+		} catch(Throwable e){
+			startup.completeExceptionally(e);
+		} finally {
+			startupPlan = null;
+			STARTING.remove();
+		}
+	}
+	
+	/**
+	 * Gets the root injector, starting the container first if it has
+	 * not been started, or waiting for startup on another thread to complete.
+	 * Threads working on startup get the root injector once it has been
+	 * created, without waiting for static fields to be injected.
+	 * @return The root Injector
+	 * @throws InjectionException If the root injector is used while it is
+	 * being created, e.g. by a dependency constructed while wiring it
+	 */
+	private static Injector root(){
+		Injector root = rootInjector;
+		if(root != null) return root;
+		
+		if(STARTING.get() != null){
+			root = startingRoot;
+			if(root == null) throw new InjectionException("The root Injector cannot be used while its dependencies are being created.");
+			return root;
+		}
+		
+		CompletableFuture<Injector> startup = new CompletableFuture<>();
+		if(STARTUP.compareAndSet(null, startup)) start(startup);
+		
+		try{
+			return STARTUP.get().join();
+		} catch(CompletionException e){
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			else if(e.getCause() instanceof Error) throw (Error) e.getCause();
+			else throw e;
+		}
+	}
+	
+	/**
+	 * @return The wiring plan set by the property <code>proton.wiring.plan</code>,
+	 * if the current thread is starting the container, otherwise null. Injectors
+	 * first used after startup are neither planned nor wired from the plan.
+	 */
+	static WiringPlan getWiringPlan(){
+		return STARTING.get() == null? null : startupPlan;
+	}
+	
+	/**
+	 * Wraps a task run on another thread on behalf of the current thread,
+	 * so that if the current thread is starting the container, the task
+	 * uses the root injector rather than waiting for startup to complete.
+	 * @param task The task to run
+	 * @return The task, marked as part of startup if the current thread is
+	 */
+	static Runnable duringStartup(Runnable task){
+		if(STARTING.get() == null) return task;
+		return () -> {
+			STARTING.set(Boolean.TRUE);
+			try{
+				task.run();
+			} finally {
+				STARTING.remove();
+			}
+		};
+	}
+	
+	/**
+	 * Gets an injector instance according to the qualifier passed.
+	 * @param qualifier The qualifier string to determine which Injector should
+	 * be returned.
+	 * @return If the qualifier is equivalent to {@link InjectionManager#ROOT_QUALIFIER}
+	 * then the root Injector will be returned, else the Injector with the
+	 * corresponding qualifier will be retrieved from the map and returned.
+	 */
+	public static Injector getInjector(String qualifier){
+		Injector root = root();
+		if(qualifier.equals(ROOT_QUALIFIER)) return root;
+		else return INSTANCES.computeIfAbsent(qualifier, QualifiedInjector::new);
+	}
+	
+	/**
+	 * Gets the Injector instance corresponding to a class.
+	 * @param c The class for which to retrieve the managing Injector.
+	 * @return <ul>
+	 * <li>If the class is not annotated with {@link Qualifier},
+	 * return the default injector</li>
+	 * <li>If the class is annotated, but a specific value has not
+	 * been set (the annotation value defaults to {@link #ROOT_QUALIFIER}),
+	 * return the root Injector.</li>
+	 * <li>Otherwise return the Injector corresponding to the value of
+	 * the <code>@Qualifier</code> annotation using {@link #getInjector(String)}.</li>
+	 * </ul>
+	 */
+	public static Injector getInjector(Class<?> c){
+		Injector root = root();
+		Qualifier q = c.getAnnotation(Qualifier.class);
+		if(q == null) return defaultInjector;
+		else if(q.value().equals(ROOT_QUALIFIER)) return root;
+		else return getInjector(q.value());
+	}
+	
+	/**
+	 * @return The default Injector
+	 */
+	public static Injector getDefaultInjector(){
+		root();
+		return defaultInjector;
+	}
+	
+	/**
+	 * Sets the default injector manually to a new Injector
+	 * @param qualifier The qualifier to use to retrieve the
+	 * new default injector using {@link #getInjector(String)}
+	 */
+	public static void setDefaultInjector(String qualifier){
+		defaultInjector = getInjector(qualifier);
+	}
+	
+	/**
+	 * Sets the executor to create dependencies on, so injectors are wired
+	 * in parallel on threads managed by the application. This must be called
+	 * before the container is started for the root Injector to be wired on it,
+	 * and also applies to qualified injectors first used later. The executor
+	 * is never shut down by Proton.<br>
+	 * 
+	 * If no executor is set, dependencies are created on a pool of threads
+	 * created for each injector when the property <code>proton.wiring.parallelism</code>
+	 * is greater than 1, otherwise on the calling thread.
+	 * @param executor The executor to create dependencies on, or null
+	 * to stop using an executor
+	 */
+	public static void setWiringExecutor(Executor executor){
+		wiringExecutor = executor;
+	}
+	
+	/**
+	 * @return The executor set by {@link #setWiringExecutor(Executor)}, or null
+	 */
+	static Executor getWiringExecutor(){
+		return wiringExecutor;
+	}
+	
+	/**
+	 * @return The root Injector
+	 */
+	public static Injector getRootInjector(){
+		return root();
+	}
+	
+	/**
+	 * @return A report of the time taken, and memory allocated, by
+	 * each phase of startup and each dependency created. Dependencies
+	 * created since startup completed, such as those in qualified
+	 * injectors first used later, are also included.
+	 */
+	public static StartupReport getStartupReport(){
+		root();
+		return StartupRecorder.getReport(startupTime);
+	}
+	
+	/**
+	 * Injects dependencies into static fields annotated by the
+	 * <code>@Inject</code> annotation. Only the classes declaring these
+	 * fields are visited, either those in the wiring plan for this startup,
+	 * those recorded in the {@link DependencyIndex} if present, or those
+	 * recorded while scanning the class path.<br>
+	 * 
+	 * The injector for each class is resolved on this thread, and classes
+	 * are then injected concurrently if the property <code>proton.inject.parallelism</code>
+	 * is greater than 1.
+	 * @param plan The wiring plan for this startup, or null if there is none
+	 */
+	static void injectStaticFields(WiringPlan plan){
+		List<Class<?>> planned = plan == null? null : plan.getStaticInjection();
+		List<Class<?>> found = planned != null? planned : DependencyIndex.getInstance().getClassesWithStaticInjection();
+		
+		Map<Class<?>, Injector> classes = new LinkedHashMap<>();
+		for(Class<?> c : found){
+			classes.put(c, getInjector(c));
+		}
+		new StaticInjection(StaticInjection.getParallelism()).inject(classes);
+		
+		if(plan != null) plan.recordStaticInjection(found);
+	}
+	
+}
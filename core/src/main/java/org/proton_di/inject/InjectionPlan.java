@@ -0,0 +1,103 @@
+package org.proton_di.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.proton_di.codegen.GeneratedFactory;
+import org.proton_di.codegen.GeneratedWiring;
+import org.proton_di.inject.exceptions.InjectionException;
+
+/**
+ * The fields to inject into for a single class, with a
+ * setter and a dependency supplier for each field resolved
+ * in advance. Injecting into an object using a plan
+ * performs no reflective lookups. If a factory has been
+ * generated for the class, and can set every field, the
+ * fields are set by the factory instead of by setters.
+ * 
+ * @author Luke Stevens
+ */
+class InjectionPlan {
+	
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	
+	private final Class<?> c;
+	private final MethodHandle[] setters;
+	private final Supplier<?>[] suppliers;
+	private final GeneratedFactory<Object> factory;
+	
+	/**
+	 * Constructs a new InjectionPlan for all injectable fields
+	 * in a class and its superclasses.
+	 * @param c The class to create the plan for
+	 * @param injector The injector used to resolve the supplier for each field
+	 * @throws InjectionException If a setter cannot be created for a field
+	 */
+	@SuppressWarnings("unchecked")
+	InjectionPlan(Class<?> c, AbstractInjector injector){
+		this.c = c;
+		
+		GeneratedFactory<?> generated = GeneratedWiring.getInstance().getFactory(c);
+		if(generated != null){
+			Type[] types = generated.getFieldTypes();
+			this.factory = (GeneratedFactory<Object>) generated;
+			this.setters = null;
+			this.suppliers = new Supplier<?>[types.length];
+			for(int i = 0; i < types.length; i++){
+				suppliers[i] = injector.getInjectionSupplier(types[i]);
+			}
+			return;
+		}
+		
+		List<Field> fields = injector.getInjectableFields(c);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		
+		this.factory = null;
+		this.setters = new MethodHandle[fields.size()];
+		this.suppliers = new Supplier<?>[fields.size()];
+		
+		for(int i = 0; i < setters.length; i++){
+			Field f = fields.get(i);
+			suppliers[i] = injector.getInjectionSupplier(injector.tools.getInjectionType(f));
+			try{
+				f.setAccessible(true);
+				setters[i] = lookup.unreflectSetter(f).asType(SETTER_TYPE);
+			} catch(IllegalAccessException e){
+				throw new InjectionException(e, c);
+			}
+		}
+	}
+	
+	/**
+	 * Injects a dependency into every field in the plan
+	 * @param o The object to inject into
+	 * @throws InjectionException If a dependency cannot be set
+	 */
+	void inject(Object o){
+		if(factory != null){
+			Object[] values = new Object[suppliers.length];
+			for(int i = 0; i < suppliers.length; i++){
+				values[i] = suppliers[i].get();
+			}
+			factory.inject(o, values);
+			return;
+		}
+		
+		for(int i = 0; i < setters.length; i++){
+			Object dependency = suppliers[i].get();
+			try{
+				setters[i].invokeExact(o, dependency);
+			} catch(RuntimeException | Error e){
+				throw e;
+			} catch(Throwable e){
+				throw new InjectionException(e, c);
+			}
+		}
+	}
+
+}
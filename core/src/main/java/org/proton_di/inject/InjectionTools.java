@@ -0,0 +1,383 @@
+package org.proton_di.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.proton_di.codegen.GeneratedFactory;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.dependency.exceptions.MissingConstructorException;
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.inject.config.Provider;
+import org.proton_di.inject.exceptions.InjectionException;
+
+/**
+ * A tools class to separate out stateless methods
+ * from the {@link Injector}.
+ * 
+ * @author Luke Stevens
+ *
+ */
+public class InjectionTools {
+	
+	/**
+	 * Types which can wrap a dependency at an injection point,
+	 * e.g. <code>Provider&lt;T&gt;</code>
+	 */
+	private static final List<Type> WRAPPERS = Arrays.asList(Pool.class, Provider.class, Supplier.class);
+	
+	/**
+	 * Collection types which can be injected with every
+	 * implementation of a class, e.g. <code>List&lt;T&gt;</code>
+	 */
+	private static final List<Type> COLLECTIONS = Arrays.asList(List.class, Set.class, Collection.class);
+	
+	/**
+	 * Determines whether a field is injectable e.g.
+	 * whether a dependency should be injected into it.
+	 * @param f The field to check
+	 * @param checkStatic Whether the field is static or not. e.g. if
+	 * this is true then this method will only return true for static
+	 * injectable methods, and vice-versa
+	 * @return True if injectable, false if not.
+	 */
+	public boolean isInjectable(Field f, boolean checkStatic){
+		return f.getAnnotation(Inject.class) != null && (checkStatic == Modifier.isStatic(f.getModifiers()));
+	}
+	
+	/**
+	 * Determines whether a class declares any static injectable fields.
+	 * Classes which reference missing classes in their fields are
+	 * treated as having none.
+	 * @param c The class to check
+	 * @return True if the class declares at least one static field
+	 * annotated with <code>@Inject</code>
+	 */
+	public boolean hasInjectableStaticFields(Class<?> c){
+		try{
+			for(Field f : c.getDeclaredFields()){
+				if(isInjectable(f, true)) return true;
+			}
+		} catch(LinkageError e){
+			// Ignore classes with missing fields
+		}
+		return false;
+	}
+	
+	/**
+	 * Gets the class of the dependency to inject into a field or parameter.
+	 * This is the declared class, except for wrapper types declared as
+	 * <code>Pool&lt;T&gt;</code>, <code>Provider&lt;T&gt;</code> or
+	 * <code>Supplier&lt;T&gt;</code> where it is the wrapped class <code>T</code>.
+	 * @param type The generic type of the field or parameter
+	 * @return The class of the dependency to inject
+	 */
+	public Class<?> getDependencyType(Type type){
+		Class<?> wrapped = getWrappedType(type);
+		return wrapped == null? getRawType(type) : wrapped;
+	}
+	
+	/**
+	 * @param type The generic type of a field or parameter
+	 * @return The wrapped class <code>T</code> if the type is declared as
+	 * <code>Pool&lt;T&gt;</code>, <code>Provider&lt;T&gt;</code> or <code>Supplier&lt;T&gt;</code>
+	 * for a class <code>T</code>, otherwise null
+	 */
+	public Class<?> getWrappedType(Type type){
+		if(!(type instanceof ParameterizedType)) return null;
+		
+		ParameterizedType parameterized = (ParameterizedType) type;
+		if(!WRAPPERS.contains(parameterized.getRawType())) return null;
+		
+		Type argument = parameterized.getActualTypeArguments()[0];
+		return argument instanceof Class? (Class<?>) argument : null;
+	}
+	
+	/**
+	 * @param dep A dependency registered as a <code>Supplier</code>
+	 * @return The class <code>T</code> if the dependency is declared as, or directly
+	 * implements, <code>Supplier&lt;T&gt;</code> for a class <code>T</code>, otherwise null
+	 */
+	public Class<?> getSuppliedType(DependencySupplier dep){
+		Type declared = dep.getGenericType();
+		if(declared instanceof Class){
+			for(Type t : ((Class<?>) declared).getGenericInterfaces()){
+				if(t instanceof ParameterizedType && ((ParameterizedType) t).getRawType() == Supplier.class) declared = t;
+			}
+		}
+		return declared instanceof ParameterizedType && ((ParameterizedType) declared).getRawType() == Supplier.class? getWrappedType(declared) : null;
+	}
+	
+	/**
+	 * @param type The generic type of a field or parameter
+	 * @return The element class <code>T</code> if the type is declared as
+	 * <code>List&lt;T&gt;</code>, <code>Set&lt;T&gt;</code>, <code>Collection&lt;T&gt;</code>
+	 * or <code>T[]</code> for a class <code>T</code>, otherwise null
+	 */
+	public Class<?> getElementType(Type type){
+		if(type instanceof Class){
+			Class<?> component = ((Class<?>) type).getComponentType();
+			return component == null || component.isPrimitive()? null : component;
+		}
+		if(!(type instanceof ParameterizedType)) return null;
+		
+		ParameterizedType parameterized = (ParameterizedType) type;
+		if(!COLLECTIONS.contains(parameterized.getRawType())) return null;
+		
+		Type argument = parameterized.getActualTypeArguments()[0];
+		return argument instanceof Class? (Class<?>) argument : null;
+	}
+	
+	/**
+	 * @param type The generic type of a field or parameter
+	 * @return The class the type is declared as, ignoring any type arguments
+	 * @throws InjectionException If the type is not a class, e.g. a type variable,
+	 * in which case {@link #getInjectionType(Type, Class)} should be used first
+	 */
+	public Class<?> getRawType(Type type){
+		if(type instanceof Class) return (Class<?>) type;
+		if(type instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) type).getRawType();
+		throw new InjectionException("Cannot inject into type " + type.getTypeName());
+	}
+	
+	/**
+	 * Gets the type to inject into a field or parameter. Type variables,
+	 * e.g. <code>T</code>, and generic arrays, e.g. <code>T[]</code>, can't
+	 * be resolved to a dependency, so their erasure is injected instead.
+	 * @param generic The generic type of the field or parameter
+	 * @param erasure The class of the field or parameter
+	 * @return The generic type if it is a class or parameterized type, otherwise the erasure
+	 */
+	public Type getInjectionType(Type generic, Class<?> erasure){
+		return generic instanceof Class || generic instanceof ParameterizedType? generic : erasure;
+	}
+	
+	/**
+	 * @param f The field to inject into
+	 * @return The type to inject into the field
+	 * @see #getInjectionType(Type, Class)
+	 */
+	public Type getInjectionType(Field f){
+		return getInjectionType(f.getGenericType(), f.getType());
+	}
+	
+	/**
+	 * Gets the generic parameter types of a constructor or method, as
+	 * given by {@link #getInjectionType(Type, Class)}. The generic
+	 * types omit implicit parameters, such as the outer instance of inner classes,
+	 * so the plain parameter types are used if the counts differ.
+	 * @param e The constructor or method
+	 * @return The generic types of all parameters
+	 */
+	public Type[] getGenericParameterTypes(Executable e){
+		Type[] generic = e.getGenericParameterTypes();
+		Class<?>[] erasures = e.getParameterTypes();
+		if(generic.length != erasures.length) return erasures;
+		
+		for(int i = 0; i < generic.length; i++){
+			generic[i] = getInjectionType(generic[i], erasures[i]);
+		}
+		return generic;
+	}
+	
+	/**
+	 * Gets the injection constructor to use for the given class.
+	 * @param c The class to get a constructor for.
+	 * @return The constructor annotated with <code>@Inject</code> if one
+	 * exists, otherwise the default constructor, or null if there is neither.
+	 * @throws DependencyCreationException If there are multiple 
+	 * constructors annotated with <code>@Inject</code>
+	 */
+	public Constructor<?> getInjectionConstructor(Class<?> c){
+		Constructor<?> found = null;
+		
+		for(Constructor<?> con : c.getDeclaredConstructors()){
+			if(con.getAnnotation(Inject.class) != null){
+				if(found != null) throw new DependencyCreationException("Multiple constructors annotated with @Inject.", c);
+				found = con;
+			}
+		}
+		if(found != null) return found;
+		
+		try{
+			return c.getDeclaredConstructor();
+		} catch(NoSuchMethodException e){
+			return null;
+		}
+	}
+	
+	/**
+	 * Gets a constructor types for the injection constructor to
+	 * use for the given.
+	 * @param c The class to get a constructor for.
+	 * @return The parameter types for constructor annotated with
+	 * <code>@Inject</code> if one exists, otherwise the default constructor.
+	 * @throws DependencyCreationException If there are multiple 
+	 * constructors annotated with <code>@Inject</code>
+	 */
+	public Class<?>[] getConstructorTypes(Class<?> c){
+		Class<?>[] types = {};
+		
+		for(Constructor<?> con : c.getDeclaredConstructors()){
+			if(con.getAnnotation(Inject.class) != null){
+				if(types.length > 0) throw new DependencyCreationException("Multiple constructors annotated with @Inject.", c);
+				else types = con.getParameterTypes();
+			}
+		}
+		
+		return types;
+	}
+	
+	/**
+	 * Constructs an object, given the classes to use to
+	 * select the appropriate constructor, and the parameters
+	 * to pass to it.
+	 * @param c The class to construct an instance of.
+	 * @param classes An array of classes matching the constrcutor
+	 * declaration.
+	 * @param params The parameters to pass to the constructor.
+	 * @return A new instance of the object, constructed using the
+	 * supplied parameters.
+	 * @throws DependencyCreationException If there is
+	 * not constructor matching the supplied parameters.
+	 */
+	public <T> T construct(Class<T> c, Class<?>[] classes, Object[] params){
+		try {
+			Constructor<T> con = c.getDeclaredConstructor(classes);
+			con.setAccessible(true);
+			return con.newInstance(params);
+		} catch(Exception e){
+			 throw new MissingConstructorException(c, classes);
+		}
+	}
+
+	/**
+	 * Constructs an object using a constructor that has
+	 * already been resolved.
+	 * @param con The constructor to invoke.
+	 * @param params The parameters to pass to the constructor.
+	 * @return A new instance of the object, constructed using the
+	 * supplied parameters.
+	 * @throws DependencyCreationException If the constructor
+	 * cannot be invoked.
+	 */
+	public <T> T construct(Constructor<T> con, Object[] params){
+		try {
+			con.setAccessible(true);
+			return con.newInstance(params);
+		} catch(Exception e){
+			 throw missingConstructor(con.getDeclaringClass(), con.getParameterTypes(), e);
+		}
+	}
+
+	/**
+	 * Constructs an object using a generated factory. Any exception
+	 * thrown by the constructor is wrapped in the same way as when
+	 * it is invoked reflectively.
+	 * @param factory The factory generated for the class.
+	 * @param params The parameters to pass to the constructor.
+	 * @return A new instance of the object, constructed using the
+	 * supplied parameters.
+	 * @throws DependencyCreationException If the constructor
+	 * throws an exception.
+	 */
+	public <T> T construct(GeneratedFactory<T> factory, Object[] params){
+		try {
+			return factory.construct(params);
+		} catch(RuntimeException e){
+			Constructor<?> con = getInjectionConstructor(factory.getType());
+			throw missingConstructor(factory.getType(), con == null? new Class<?>[0] : con.getParameterTypes(), e);
+		}
+	}
+
+	/**
+	 * Creates the exception thrown when a constructor cannot be invoked,
+	 * or throws an exception itself
+	 * @param c The class being constructed
+	 * @param classes The parameter classes of the constructor
+	 * @param cause The exception thrown invoking the constructor
+	 * @return A MissingConstructorException with the cause set
+	 */
+	public MissingConstructorException missingConstructor(Class<?> c, Class<?>[] classes, Throwable cause){
+		MissingConstructorException e = new MissingConstructorException(c, classes);
+		e.initCause(cause instanceof InvocationTargetException? cause.getCause() : cause);
+		return e;
+	}
+
+	/**
+	 * Gets a method handle for the constructor matching the supplied
+	 * classes, which takes all parameters as a single array and returns
+	 * the new instance as an Object.
+	 * @param c The class to get the constructor for.
+	 * @param classes An array of classes matching the constructor
+	 * declaration.
+	 * @return A method handle of type <code>(Object[])Object</code>
+	 * invoking the constructor.
+	 * @throws DependencyCreationException If there is
+	 * not constructor matching the supplied parameters.
+	 */
+	public MethodHandle getConstructor(Class<?> c, Class<?>[] classes){
+		try {
+			Constructor<?> con = c.getDeclaredConstructor(classes);
+			con.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(con)
+					.asType(MethodType.genericMethodType(classes.length))
+					.asSpreader(Object[].class, classes.length);
+		} catch(Exception e){
+			 throw new MissingConstructorException(c, classes);
+		}
+	}
+
+	/**
+	 * Invokes a method using an object instance and arguments.
+	 * @param o The object instance to call the method on.
+	 * If the method is static then this should be null.
+	 * @param m The method to invoke.
+	 * @param args The arguments to pass to the method.
+	 * @return The Object returned by the method invoked.
+	 */
+	public Object invokeMethod(Object o, Method m, Object...args){
+		try{
+			m.setAccessible(true);
+			return m.invoke(o, args);
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			throw new DependencyCreationException("Root cause: " + e.getMessage(), o.getClass());
+		}
+	}
+	
+	/**
+	 * Gets all non-static fields annotated with `@Inject` in this
+	 * class and, recursively, all of it's superclasses.
+	 * @param c The class to get all injectable fields for.
+	 * @return All injectable fields from a class and it's
+	 * superclasses.
+	 */
+	public List<Field> getAllInjectableFields(Class<?> c){
+		List<Field> fields = new ArrayList<>();
+		if(c == null) return fields;
+		
+		for(Field f : c.getDeclaredFields()){
+			if(isInjectable(f, false)) fields.add(f);
+		}
+		
+		fields.addAll(getAllInjectableFields(c.getSuperclass()));
+		return fields;
+	}
+
+}
@@ -0,0 +1,137 @@
+package org.proton_di.inject;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+import org.proton_di.configuration.Configuration;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.dependency.exceptions.MissingDependencyException;
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.inject.config.InjectableObject;
+import org.proton_di.inject.config.Provider;
+import org.proton_di.inject.exceptions.InjectionException;
+
+public interface Injector {
+	
+	/**
+	 * Converts an array of classes to an array of dependencies
+	 * by retrieving the dependency associated with each class.
+	 * @param classes An array of classes
+	 * @return An array of dependencies
+	 */
+	public Object[] getDependencies(Class<?>[] classes);
+	
+	/**
+	 * Gets an instance of a registered dependency.
+	 * This can either have been registered automatically
+	 * using the <code>@Dependency</code> annotation or
+	 * manually using a {@link Configuration} class.
+	 * @param c The class to load the dependency for. Note
+	 * this can be an interface that the dependency implements.
+	 * @return An instance of the class specified.
+	 * @throws DependencyCreationException If there is no stored
+	 * dependency for the class, and a new one cannot be loaded.
+	 */
+	public <T> T getDependency(Class<T> c);
+	
+	/**
+	 * Gets the supplier used to retrieve instances of a registered
+	 * dependency, so that repeated retrievals can skip the lookup.<br>
+	 * By default this supplies {@link #getDependency(Class)}, so
+	 * the lookup happens on every retrieval.
+	 * @param c The class to load the supplier for. Note
+	 * this can be an interface that the dependency implements.
+	 * @return The supplier for the class specified.
+	 * @throws MissingDependencyException If there is no stored
+	 * dependency for the class.
+	 */
+	public default Supplier<Object> getSupplier(Class<?> c){
+		if(!hasDependency(c)) throw new MissingDependencyException(c);
+		return () -> getDependency(c);
+	}
+	
+	/**
+	 * Gets the supplier of the value to inject into a field or parameter
+	 * declared with a generic type. For types declared as <code>Supplier&lt;T&gt;</code>
+	 * or {@link Provider}<code>&lt;T&gt;</code> this supplies a wrapper bound
+	 * directly to the supplier of <code>T</code>, unless a <code>Supplier</code> is
+	 * itself registered as a dependency, and for <code>Pool&lt;T&gt;</code>
+	 * it supplies the pool of <code>T</code>. Otherwise it is equivalent to
+	 * {@link #getSupplier(Class)}.<br>
+	 * By default type arguments are ignored, supplying {@link #getSupplier(Class)}
+	 * for the class the type is declared as.
+	 * @param type The generic type of the field or parameter
+	 * @return The supplier for the field or parameter
+	 * @throws MissingDependencyException If there is no stored
+	 * dependency for the type.
+	 */
+	public default Supplier<?> getInjectionSupplier(Type type){
+		Type raw = type instanceof ParameterizedType? ((ParameterizedType) type).getRawType() : type;
+		if(!(raw instanceof Class)) throw new InjectionException("Cannot inject into type " + type.getTypeName());
+		return getSupplier((Class<?>) raw);
+	}
+	
+	/**
+	 * Gets the pool of instances for a dependency with an
+	 * {@link org.proton_di.dependency.InstanceType} of POOLED.
+	 * @param c The pooled dependency class. Note this can
+	 * be an interface that the dependency implements.
+	 * @return The pool for the class specified.
+	 * @throws MissingDependencyException If there is no stored
+	 * dependency for the class.
+	 * @throws InjectionException If the dependency is not pooled.
+	 */
+	@SuppressWarnings("unchecked")
+	public default <T> Pool<T> getPool(Class<T> c){
+		Supplier<Object> supplier = getSupplier(c);
+		if(!(supplier instanceof Pool)) throw new InjectionException("Dependency " + c.getName() + " is not pooled.");
+		return (Pool<T>) supplier;
+	}
+	
+	/**
+	 * Injects dependencies into an already instantiated 
+	 * object. This scans every field within the Object 
+	 * for those annotated with <code>@Inject</code> and
+	 * sets the value of those fields to a relevant dependency.<br><br>
+	 * <i>Note: this method is called during instantiation for
+	 * any Object extending {@link InjectableObject} and so
+	 * does not need to be called manually for those Objects</i>
+	 * @param o The object to inject dependencies into.
+	 */
+	public void injectDependencies(Object o);
+	
+	/**
+	 * Gets a new instance of the specified class:
+	 * If there is a constructor annotated with <code>@Inject</code>
+	 * then this will be used and the arguments will be injected as 
+	 * dependencies. Otherwise the default constructor will be used.
+	 * @param c The class to construct an instance of.
+	 * @return An instance of the Class c
+	 */
+	public <T> T newInstance(Class<T> c);
+	
+	/**
+	 * @param c The dependency class to check for.
+	 * @return Whether this Injector has a dependency stored for this class.
+	 */
+	public boolean hasDependency(Class<?> c);
+	
+	
+	/**
+	 * Scans all fields on a class and, for each eligible static field,
+	 * sets it's value to an appropriate dependency.
+	 * @param c The class to scan.
+	 */
+	public void injectIntoStaticFields(Class<?> c);
+	
+	/**
+	 * @return The qualifier of this Injector, or {@link InjectionManager#ROOT_QUALIFIER}
+	 * for the root Injector. By default this is null, for Injectors
+	 * that are not managed by the {@link InjectionManager}.
+	 */
+	public default String getQualifier(){
+		return null;
+	}
+
+}
@@ -0,0 +1,163 @@
+package org.proton_di.inject;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+
+/**
+ * Loads dependencies into an Injector concurrently. Each dependency
+ * is created once all of its prerequisites in the {@link DependencyGraph}
+ * have been created, so dependencies with no path between them,
+ * e.g. singletons with slow constructors, are created in parallel.<br>
+ * 
+ * Every dependency is registered in sorted order before any are created,
+ * so the classes each dependency is stored under, and any ambiguous or
+ * duplicate dependencies, are the same as when loading on a single thread.<br>
+ * 
+ * Dependencies are created on the executor set by {@link InjectionManager#setWiringExecutor(Executor)},
+ * or otherwise on a pool of threads created for each wiring. If any dependency
+ * fails, every dependency not yet created is cancelled. Wiring started during
+ * startup remains part of startup on those threads.
+ * 
+ * @author Luke Stevens
+ */
+class ParallelWiring {
+	
+	private final AbstractInjector injector;
+	private final DependencyGraph graph;
+	private final Executor executor;
+	private final int parallelism;
+	
+	/**
+	 * Constructs a new ParallelWiring
+	 * @param injector The injector to load dependencies into
+	 * @param graph The graph of dependencies to load
+	 * @param executor The executor to create dependencies on, or null
+	 * to create them on a new pool of threads
+	 * @param parallelism The number of threads in the pool, if no executor is set
+	 */
+	ParallelWiring(AbstractInjector injector, DependencyGraph graph, Executor executor, int parallelism){
+		this.injector = injector;
+		this.graph = graph;
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * Creates and loads all dependencies into the injector
+	 * @param sorted The dependencies to load, sorted topologically
+	 * @throws DependencyCreationException If any dependency cannot be created.
+	 * If several fail, the first in sorted order is reported.
+	 */
+	void loadDependencies(List<DependencySupplier> sorted){
+		Map<DependencySupplier, Supplier<Object>> pending = new IdentityHashMap<>();
+		for(DependencySupplier dep : sorted){
+			Supplier<Object> placeholder = () -> { throw new DependencyCreationException("Dependency has not been created yet.", dep.getDependencyClass()); };
+			pending.put(dep, placeholder);
+			register(dep, placeholder);
+		}
+		
+		ExecutorService pool = executor == null? Executors.newFixedThreadPool(parallelism, Parallelism.daemonThreads("proton-wiring")) : null;
+		Map<DependencySupplier, CompletableFuture<Void>> tasks = new IdentityHashMap<>();
+		CompletableFuture<Void> failure = new CompletableFuture<>();
+		boolean failed = true;
+		try{
+			for(DependencySupplier dep : sorted){
+				List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+				for(DependencySupplier prerequisite : graph.getPrerequisites(dep)){
+					prerequisites.add(tasks.get(prerequisite));
+				}
+				
+				CompletableFuture<Void> ready = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture<?>[0]));
+				CompletableFuture<Void> task = ready.thenRunAsync(InjectionManager.duringStartup(() -> create(dep, pending.get(dep), failure)), pool == null? executor : pool);
+				task.whenComplete((result, e) -> {
+					if(e != null) failure.complete(null);
+				});
+				tasks.put(dep, task);
+			}
+			
+			join(sorted, tasks);
+			failed = false;
+		} finally {
+			if(failed){
+				for(CompletableFuture<Void> task : tasks.values()){
+					task.cancel(true);
+				}
+			}
+			if(pool != null && failed) pool.shutdownNow();
+			else if(pool != null) pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Waits for every dependency to be created
+	 * @param sorted The dependencies, in sorted order
+	 * @param tasks The task creating each dependency
+	 * @throws DependencyCreationException If any dependency could not be created.
+	 * If several fail, the first in sorted order is reported.
+	 */
+	private void join(List<DependencySupplier> sorted, Map<DependencySupplier, CompletableFuture<Void>> tasks){
+		CancellationException cancelled = null;
+		for(DependencySupplier dep : sorted){
+			try{
+				Parallelism.join(tasks.get(dep));
+			} catch(CancellationException e){
+				// Skipped because another dependency failed, which is reported instead
+				if(cancelled == null) cancelled = e;
+			}
+		}
+		if(cancelled != null) throw cancelled;
+	}
+	
+	/**
+	 * Registers a dependency under its concrete and assignable classes,
+	 * following the same rules as {@link AbstractInjector#loadDependency(DependencySupplier)}
+	 * @param dep The dependency to register
+	 * @param placeholder The supplier to store until the dependency is created
+	 */
+	private void register(DependencySupplier dep, Supplier<Object> placeholder){
+		injector.registerImplementation(dep);
+		injector.loadDependency(dep.getDependencyClass(), placeholder, true);
+		for(Class<?> assignableClass : dep.getAssignableClasses()){
+			injector.loadDependency(assignableClass, placeholder, false);
+		}
+	}
+	
+	/**
+	 * Creates a dependency, and replaces its placeholder under every
+	 * class it was registered for.
+	 * @param dep The dependency to create
+	 * @param placeholder The supplier stored when the dependency was registered
+	 * @param failure Completed once any dependency has failed
+	 * @throws DependencyCreationException If the dependency cannot be created
+	 * @throws CancellationException If another dependency has already failed
+	 */
+	private void create(DependencySupplier dep, Supplier<Object> placeholder, CompletableFuture<Void> failure){
+		if(failure.isDone()) throw new CancellationException("Wiring failed before " + dep.getDependencyClass().getName() + " was created");
+		
+		Supplier<Object> supplier;
+		try{
+			supplier = injector.createSupplier(dep);
+		} catch(DependencyCreationException e){
+			throw e;
+		} catch(RuntimeException e){
+			throw new DependencyCreationException(e, dep.getDependencyClass());
+		}
+		
+		injector.dependencies.replace(dep.getDependencyClass(), placeholder, supplier);
+		for(Class<?> assignableClass : dep.getAssignableClasses()){
+			injector.dependencies.replace(assignableClass, placeholder, supplier);
+		}
+	}
+
+}
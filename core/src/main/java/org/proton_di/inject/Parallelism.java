@@ -0,0 +1,73 @@
+package org.proton_di.inject;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Shared tools for the parts of startup which can run on several
+ * threads: reading the number of threads from the system properties,
+ * creating the threads, and waiting for the tasks run on them.<br>
+ * 
+ * Only reading the properties is public, as classpath scanning
+ * is configured the same way from outside this package.
+ * 
+ * @author Luke Stevens
+ */
+public final class Parallelism {
+	
+	private Parallelism(){}
+	
+	/**
+	 * Reads the number of threads to use from a system property
+	 * @param property The name of the property, e.g. <code>proton.inject.parallelism</code>
+	 * @param defaultValue The number of threads if the property isn't set
+	 * @param invalid Creates the exception to throw if the property
+	 * isn't a number, from its message
+	 * @return The number of threads to use
+	 */
+	public static int fromProperty(String property, int defaultValue, Function<String, ? extends RuntimeException> invalid){
+		String parallelism = System.getProperty(property);
+		if(parallelism == null) return defaultValue;
+		
+		try{
+			return Integer.parseInt(parallelism.trim());
+		} catch(NumberFormatException e){
+			throw invalid.apply("Invalid value for " + property + ": " + parallelism);
+		}
+	}
+	
+	/**
+	 * Creates daemon threads, so an unfinished task never
+	 * prevents the JVM from exiting.
+	 * @param name The name of each thread, before its number
+	 * @return The thread factory
+	 */
+	static ThreadFactory daemonThreads(String name){
+		AtomicInteger count = new AtomicInteger();
+		return r -> {
+			Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+	
+	/**
+	 * Waits for a task to complete, rethrowing the exception
+	 * it failed with rather than wrapping it
+	 * @param task The task to wait for
+	 * @throws RuntimeException If the task failed
+	 */
+	static void join(CompletableFuture<Void> task){
+		try{
+			task.join();
+		} catch(CompletionException e){
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			else if(e.getCause() instanceof Error) throw (Error) e.getCause();
+			else throw e;
+		}
+	}
+
+}
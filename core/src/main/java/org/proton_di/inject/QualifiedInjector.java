@@ -0,0 +1,55 @@
+package org.proton_di.inject;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.loaders.ConfigurationDependencyLoader;
+import org.proton_di.dependency.loaders.QualifiedClasspathDependencyLoader;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+
+class QualifiedInjector extends AbstractInjector {
+	
+	QualifiedInjector(String qualifier){
+		super(qualifier, new ConfigurationDependencyLoader(qualifier), new QualifiedClasspathDependencyLoader(qualifier));
+	}
+	
+	/**
+	 * Merges the root dependencies into this Injector's table, so
+	 * dependencies falling back to the root take a single lookup.
+	 * Dependencies in this Injector take precedence.
+	 */
+	@Override
+	DependencyTable freeze(){
+		Map<Class<?>, Supplier<Object>> merged = new HashMap<>(root().dependencies);
+		merged.putAll(dependencies);
+		return new DependencyTable(merged);
+	}
+	
+	/**
+	 * Includes implementations from the root Injector, unless
+	 * this Injector has its own dependency for the same class.
+	 */
+	@Override
+	List<DependencySupplier> getImplementations(Class<?> c){
+		List<DependencySupplier> found = super.getImplementations(c);
+		for(DependencySupplier dep : root().getImplementations(c)){
+			if(!dependencies.containsKey(dep.getDependencyClass())) found.add(dep);
+		}
+		found.sort(IMPLEMENTATION_ORDER);
+		return found;
+	}
+	
+	@Override
+	Supplier<Object> getLoadingSupplier(Class<?> c){
+		Supplier<Object> instance = dependencies.get(c);
+		if(instance == null && root().hasDependency(c)) return root().getSupplier(c);
+		else return instance;
+	}
+	
+	// Convinience method to get the root injector
+	private AbstractInjector root(){
+		return (AbstractInjector) InjectionManager.getRootInjector();
+	}
+}
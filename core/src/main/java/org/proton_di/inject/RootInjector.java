@@ -2,7 +2,6 @@ package org.proton_di.inject;
 
 import java.util.function.Supplier;
 
-import org.proton_di.dependency.exceptions.MissingDependencyException;
 import org.proton_di.dependency.loaders.ClasspathDependencyLoader;
 import org.proton_di.dependency.loaders.ConfigurationDependencyLoader;
 
@@ -24,21 +23,12 @@ class RootInjector extends AbstractInjector{
 	 * injected static dependencies where appropriate.
 	 */
 	RootInjector(){
-		super(new ConfigurationDependencyLoader(), new ClasspathDependencyLoader());
-		this.dependencies.put(RootInjector.class, () -> this);
+		super(InjectionManager.ROOT_QUALIFIER, new ConfigurationDependencyLoader(), new ClasspathDependencyLoader());
 	}
 	
 	@Override
-	public <T> T getDependency(Class<T> c){
-		Supplier<Object> instance = dependencies.get(c);
-		if(instance == null) throw new MissingDependencyException(c);
-		
-		return c.cast(instance.get());
-	}
-	
-	@Override
-	public boolean hasDependency(Class<?> c){
-		return dependencies.containsKey(c);
+	Supplier<Object> getLoadingSupplier(Class<?> c){
+		return dependencies.get(c);
 	}
 
 }
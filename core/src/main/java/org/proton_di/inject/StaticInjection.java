@@ -0,0 +1,106 @@
+package org.proton_di.inject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.proton_di.inject.config.InjectableObject;
+import org.proton_di.inject.exceptions.InjectionException;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+
+/**
+ * Injects dependencies into the static fields of a list of classes,
+ * recording a {@link Type#STATIC_INJECTION} metric for each class.<br>
+ * 
+ * The static fields of each class are independent of every other class,
+ * so with a parallelism greater than 1 classes are injected concurrently.
+ * The injector for each class is resolved, and each class initialised, on
+ * the calling thread first, so static initialisers never run concurrently
+ * with the rest of startup. Classes are injected as part of startup, so
+ * dependencies using the InjectionManager, such as an {@link InjectableObject},
+ * get the root injector rather than waiting for startup to complete.
+ * 
+ * @author Luke Stevens
+ */
+class StaticInjection {
+	
+	private final int parallelism;
+	
+	/**
+	 * Constructs a new StaticInjection
+	 * @param parallelism The number of threads to inject on
+	 */
+	StaticInjection(int parallelism){
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * @return The number of threads to inject static fields on, from the
+	 * property <code>proton.inject.parallelism</code>. Defaults to 1,
+	 * injecting on the calling thread.
+	 * @throws InjectionException If the property is not a number
+	 */
+	static int getParallelism(){
+		return Parallelism.fromProperty("proton.inject.parallelism", 1, InjectionException::new);
+	}
+	
+	/**
+	 * Injects the static fields of every class
+	 * @param classes Each class declaring static fields to inject, in
+	 * injection order, mapped to the injector managing it
+	 * @throws RuntimeException If injection fails for any class. If several
+	 * fail, the first in class order is reported.
+	 */
+	void inject(Map<Class<?>, Injector> classes){
+		if(parallelism <= 1 || classes.size() <= 1){
+			classes.forEach(this::inject);
+			return;
+		}
+		
+		for(Class<?> c : classes.keySet()){
+			initialise(c);
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, classes.size()), Parallelism.daemonThreads("proton-static-injection"));
+		try{
+			List<CompletableFuture<Void>> tasks = new ArrayList<>();
+			classes.forEach((c, injector) -> tasks.add(CompletableFuture.runAsync(InjectionManager.duringStartup(() -> inject(c, injector)), executor)));
+			
+			for(CompletableFuture<Void> task : tasks){
+				Parallelism.join(task);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Injects the static fields of a single class
+	 * @param c The class to inject into
+	 * @param injector The injector managing the class
+	 */
+	@SuppressWarnings("try")
+	private void inject(Class<?> c, Injector injector){
+		try(StartupTimer timer = StartupRecorder.start(Type.STATIC_INJECTION, c.getName())){
+			injector.injectIntoStaticFields(c);
+		}
+	}
+	
+	/**
+	 * Initialises a class, running its static initialisers
+	 * @param c The class to initialise
+	 */
+	private void initialise(Class<?> c){
+		try{
+			Class.forName(c.getName(), true, c.getClassLoader());
+		} catch(ClassNotFoundException | LinkageError e){
+			// Classes which can't be initialised fail when injected instead
+		}
+	}
+
+}
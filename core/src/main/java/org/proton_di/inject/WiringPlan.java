@@ -0,0 +1,536 @@
+package org.proton_di.inject;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.loaders.ConfigurationDependencyLoader;
+import org.proton_di.dependency.suppliers.ConfiguredDependencySupplier;
+import org.proton_di.dependency.suppliers.DependencySupplier;
+import org.proton_di.dependency.suppliers.GeneratedDependencySupplier;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+import org.proton_di.scanner.index.DependencyIndex;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+import org.proton_di.scanner.resources.ScanFilter;
+import org.proton_di.scanner.resources.ScanMode;
+
+/**
+ * A persistent plan of how each Injector was wired, stored in the file
+ * set by the property <code>proton.wiring.plan</code>.<br>
+ *
+ * For each Injector the plan holds its dependencies in construction order,
+ * with the prerequisites, constructor, injected fields and assignable classes
+ * of each, along with the classes with static fields to inject. The plan is
+ * valid while the fingerprint of the {@link DependencyIndex}, the scan mode, scan
+ * filter and default injector set in the properties, and the fingerprint of every
+ * jar or directory containing a class the plan names, are unchanged.
+ * Roots are fingerprinted by the size and modification time of their files,
+ * as in the scan cache, so no class files are read.<br>
+ *
+ * A plan is created for each startup. A valid plan is executed directly,
+ * skipping discovery and resolution of dependencies, otherwise it is ignored.
+ * Each Injector wired during startup is recorded, and the plan is written
+ * once when startup completes. Classes are loaded through the context class
+ * loader of the thread starting the container, or the system class loader if it has none.
+ *
+ * @author Luke Stevens
+ */
+class WiringPlan {
+
+	private static final String HEADER = "# Proton wiring plan v1";
+	private static final String SETTINGS = "settings=";
+	private static final String ROOT = "root=";
+	private static final String SECTION = "section=";
+	private static final String STATIC_INJECTION = "static";
+	private static final String INJECTOR = "injector ";
+	private static final String CLASS = "class=";
+	private static final String DEPENDENCY = "dependency=";
+	private static final String METHOD = "method=";
+	private static final String CONSTRUCTOR = "constructor=";
+	private static final String FIELD = "field=";
+	private static final String ASSIGNABLE = "assignable=";
+
+	private static final Logger LOGGER = Logger.getLogger(WiringPlan.class.getName());
+
+	private final InjectionTools tools = new InjectionTools();
+	private final Path file;
+	private final ClassLoader loader;
+	private final String settings;
+	private final Map<String, String> roots = new LinkedHashMap<>();
+	private final Map<String, List<String>> sections = new LinkedHashMap<>();
+	private boolean changed;
+
+	/**
+	 * Constructs a new WiringPlan and reads any existing plan file.
+	 * If the existing plan is no longer valid it is ignored.
+	 * @param file The location of the plan file
+	 */
+	WiringPlan(Path file){
+		ClassLoader context = Thread.currentThread().getContextClassLoader();
+		this.file = file;
+		this.loader = context == null? ClassLoader.getSystemClassLoader() : context;
+		this.settings = getSettings();
+		if(Files.isRegularFile(file)) read();
+	}
+	
+	/**
+	 * @return The fingerprint of the dependency index, along with every
+	 * property that changes which dependencies are found or how they are injected
+	 */
+	private static String getSettings(){
+		String defaultInjector = System.getProperty("proton.injector.default");
+		return DependencyIndex.getInstance().getFingerprint() + " mode=" + ScanMode.fromProperties() + " " + ScanFilter.fromProperties()
+				+ " default=" + (defaultInjector == null? "" : defaultInjector);
+	}
+
+	/**
+	 * @return A new WiringPlan using the file set in the property <code>proton.wiring.plan</code>,
+	 * or null if the property has not been set
+	 */
+	static WiringPlan fromProperties(){
+		String location = System.getProperty("proton.wiring.plan");
+		return location == null? null : new WiringPlan(new File(location).toPath());
+	}
+
+	/**
+	 * Gets the planned dependencies for an Injector. Every class, constructor, field
+	 * and method in the plan is looked up directly, and configuration classes are
+	 * constructed, but nothing else is discovered or resolved.
+	 * @param qualifier The qualifier of the Injector
+	 * @return A graph of the planned dependencies, with its suppliers in construction
+	 * order, or null if there is no plan for the Injector or it cannot be executed
+	 */
+	synchronized DependencyGraph getGraph(String qualifier){
+		List<String> lines = sections.get(INJECTOR + qualifier);
+		if(lines == null) return null;
+
+		List<Entry> entries;
+		try{
+			entries = parse(lines);
+		} catch(ReflectiveOperationException | LinkageError | RuntimeException e){
+			// A plan that no longer matches the classes is ignored, and the Injector wired as normal
+			return null;
+		}
+
+		ConfigurationDependencyLoader configurations = new ConfigurationDependencyLoader(qualifier);
+		Map<Class<?>, Object> configs = new HashMap<>();
+		List<DependencySupplier> sorted = new ArrayList<>();
+		List<int[]> prerequisites = new ArrayList<>();
+
+		for(Entry entry : entries){
+			DependencySupplier dep;
+			if(entry.config == null){
+				dep = entry.type.createSupplier(entry.dependency);
+				dep.resolve(entry.constructor, entry.fields, entry.assignableClasses);
+			}
+			else {
+				Object config = configs.computeIfAbsent(entry.config, c -> newConfiguration(configurations, c));
+				dep = configurations.loadMethod(entry.config, config, entry.method, entry.parameterTypes);
+				dep.resolve(null, null, entry.assignableClasses);
+			}
+
+			sorted.add(dep);
+			prerequisites.add(entry.prerequisites);
+		}
+		return new DependencyGraph(sorted, prerequisites);
+	}
+
+	/**
+	 * Creates an instance of a configuration class, recording the time taken
+	 * in the startup report
+	 * @param configurations The loader to create the instance with
+	 * @param c The configuration class
+	 * @return A new instance of the configuration class
+	 */
+	@SuppressWarnings("try")
+	private Object newConfiguration(ConfigurationDependencyLoader configurations, Class<?> c){
+		try(StartupTimer timer = StartupRecorder.start(StartupMetric.Type.CONFIGURATION, c.getName())){
+			return configurations.newConfiguration(c);
+		}
+	}
+
+	/**
+	 * Looks up every class and member named by the planned dependencies of an Injector
+	 * @param lines The lines of the Injector's section of the plan
+	 * @return An entry for each planned dependency
+	 * @throws ReflectiveOperationException If a class or member no longer exists
+	 */
+	private List<Entry> parse(List<String> lines) throws ReflectiveOperationException {
+		List<Entry> entries = new ArrayList<>();
+		Entry entry = null;
+
+		for(String line : lines){
+			if(line.startsWith(DEPENDENCY)){
+				String[] values = line.substring(DEPENDENCY.length()).split("\\|", -1);
+				entry = new Entry(loadClass(values[0]), parseIndexes(values[2]));
+				entry.type = InstanceType.valueOf(values[1]);
+				entries.add(entry);
+			}
+			else if(line.startsWith(METHOD)){
+				String[] values = line.substring(METHOD.length()).split("\\|", -1);
+				entry = new Entry(null, parseIndexes(values[3]));
+				entry.config = loadClass(values[0]);
+				entry.method = values[1];
+				entry.parameterTypes = loadClasses(values[2]);
+				entries.add(entry);
+			}
+			else if(line.startsWith(CONSTRUCTOR)){
+				entry.constructor = entry.dependency.getDeclaredConstructor(loadClasses(line.substring(CONSTRUCTOR.length())));
+			}
+			else if(line.startsWith(FIELD)){
+				String[] values = line.substring(FIELD.length()).split("\\|", -1);
+				entry.fields.add(loadClass(values[0]).getDeclaredField(values[1]));
+			}
+			else if(line.startsWith(ASSIGNABLE)){
+				for(Class<?> c : loadClasses(line.substring(ASSIGNABLE.length()))) entry.assignableClasses.add(c);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * @return The classes with static fields to inject, in the order they
+	 * should be injected, or null if they have not been planned
+	 */
+	synchronized List<Class<?>> getStaticInjection(){
+		List<String> lines = sections.get(STATIC_INJECTION);
+		if(lines == null) return null;
+
+		try{
+			List<Class<?>> classes = new ArrayList<>();
+			for(String line : lines){
+				classes.add(loadClass(line.substring(CLASS.length())));
+			}
+			return classes;
+		} catch(ClassNotFoundException | LinkageError e){
+			return null;
+		}
+	}
+
+	/**
+	 * Records the dependencies wired into an Injector. If any dependency
+	 * can't be described by the plan, e.g. one registered manually, or any
+	 * class it names is not loaded from a jar or directory, the Injector is not planned.
+	 * @param qualifier The qualifier of the Injector
+	 * @param sorted The dependencies in the order they were created
+	 * @param graph The graph of the dependencies
+	 */
+	synchronized void record(String qualifier, List<DependencySupplier> sorted, DependencyGraph graph){
+		Map<DependencySupplier, Integer> indexes = new IdentityHashMap<>();
+		for(DependencySupplier dep : sorted){
+			indexes.put(dep, indexes.size());
+		}
+
+		List<String> lines = new ArrayList<>();
+		List<Class<?>> fingerprinted = new ArrayList<>();
+		for(DependencySupplier dep : sorted){
+			StringBuilder prerequisites = new StringBuilder();
+			for(DependencySupplier prerequisite : graph.getPrerequisites(dep)){
+				if(prerequisites.length() > 0) prerequisites.append(',');
+				prerequisites.append(indexes.get(prerequisite));
+			}
+
+			if(!describe(dep, prerequisites.toString(), lines, fingerprinted)) return;
+			for(Class<?> c : dep.getAssignableClasses()){
+				if(c.getClassLoader() != null) fingerprinted.add(c);
+			}
+			lines.add(ASSIGNABLE + names(dep.getAssignableClasses()));
+		}
+
+		List<String> paths = new ArrayList<>();
+		for(Class<?> c : fingerprinted){
+			String root = getRoot(c);
+			if(root == null) return;
+			paths.add(root);
+		}
+		for(String root : paths){
+			roots.computeIfAbsent(root, ResourceRootFactory::getRootFingerprint);
+		}
+		update(INJECTOR + qualifier, lines);
+	}
+
+	/**
+	 * Adds the lines describing how a single dependency is created
+	 * @param dep The dependency
+	 * @param prerequisites The positions of the dependency's prerequisites
+	 * @param lines The lines to add to
+	 * @param fingerprinted The classes to add the roots of to the plan
+	 * @return True if the dependency could be described
+	 */
+	private boolean describe(DependencySupplier dep, String prerequisites, List<String> lines, List<Class<?>> fingerprinted){
+		if(dep instanceof ConfiguredDependencySupplier){
+			Method m = ((ConfiguredDependencySupplier) dep).getMethod();
+			lines.add(METHOD + m.getDeclaringClass().getName() + "|" + m.getName() + "|" + names(m.getParameterTypes()) + "|" + prerequisites);
+			fingerprinted.add(m.getDeclaringClass());
+			return true;
+		}
+
+		if(dep instanceof GeneratedDependencySupplier){
+			GeneratedDependencySupplier generated = (GeneratedDependencySupplier) dep;
+			List<Class<?>> parameterTypes = new ArrayList<>();
+			for(Type t : generated.getMethod().getParameterTypes()){
+				parameterTypes.add(tools.getRawType(t));
+			}
+
+			Class<?> config = generated.getConfiguration().getType();
+			lines.add(METHOD + config.getName() + "|" + generated.getMethod().getName() + "|" + names(parameterTypes) + "|" + prerequisites);
+			fingerprinted.add(config);
+			return true;
+		}
+
+		Class<?> c = dep.getDependencyClass();
+		Dependency annotation = c.getAnnotation(Dependency.class);
+		if(annotation == null || annotation.type().createSupplier(c).getClass() != dep.getClass()) return false;
+
+		lines.add(DEPENDENCY + c.getName() + "|" + annotation.type().name() + "|" + prerequisites);
+		fingerprinted.add(c);
+
+		Constructor<?> constructor = dep.getConstructor();
+		if(constructor != null) lines.add(CONSTRUCTOR + names(constructor.getParameterTypes()));
+		for(Field f : dep.getInjectableFields()){
+			lines.add(FIELD + f.getDeclaringClass().getName() + "|" + f.getName());
+			fingerprinted.add(f.getDeclaringClass());
+		}
+		return true;
+	}
+
+	/**
+	 * Records the classes with static fields to inject
+	 * @param classes The classes, in the order they are injected
+	 */
+	synchronized void recordStaticInjection(List<Class<?>> classes){
+		List<String> lines = new ArrayList<>();
+		for(Class<?> c : classes){
+			lines.add(CLASS + c.getName());
+		}
+		update(STATIC_INJECTION, lines);
+	}
+
+	/**
+	 * Replaces a section of the plan, if it has changed
+	 * @param section The name of the section
+	 * @param lines The new lines of the section
+	 */
+	private void update(String section, List<String> lines){
+		if(lines.equals(sections.get(section))) return;
+		sections.put(section, lines);
+		changed = true;
+	}
+
+	/**
+	 * Writes the plan file, if any section has changed since it was read.
+	 * The plan is written to a temporary file, then moved over the existing
+	 * plan, so readers never see a partially written plan. If it cannot be
+	 * written a warning is logged, as the plan is only an optimisation.
+	 */
+	synchronized void write(){
+		if(!changed) return;
+
+		Path temp = null;
+		try{
+			Path parent = file.toAbsolutePath().getParent();
+			if(parent != null) Files.createDirectories(parent);
+
+			temp = Files.createTempFile(parent, "proton", ".tmp");
+			try(BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)){
+				writer.write(HEADER + "\n");
+				writer.write(SETTINGS + settings + "\n");
+				for(Map.Entry<String, String> root : roots.entrySet()){
+					writer.write(ROOT + root.getValue() + "|" + root.getKey() + "\n");
+				}
+				for(Map.Entry<String, List<String>> section : sections.entrySet()){
+					writer.write(SECTION + section.getKey() + "\n");
+					for(String line : section.getValue()){
+						writer.write(line + "\n");
+					}
+				}
+			}
+			move(temp, file);
+			changed = false;
+		} catch(IOException e){
+			LOGGER.log(Level.WARNING, "Failed to write wiring plan " + file + ": " + e);
+		} finally {
+			if(temp != null) deleteQuietly(temp);
+		}
+	}
+
+	/**
+	 * Moves a file atomically, if the file system supports it.
+	 * @param source The file to move
+	 * @param target The file to replace
+	 * @throws IOException If the file cannot be moved
+	 */
+	private static void move(Path source, Path target) throws IOException {
+		try{
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch(AtomicMoveNotSupportedException e){
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Deletes a file if it still exists, ignoring any failure
+	 * @param path The file to delete
+	 */
+	private static void deleteQuietly(Path path){
+		try{
+			Files.deleteIfExists(path);
+		} catch(IOException e){
+			// Left for the operating system to clean up
+		}
+	}
+
+	/**
+	 * Reads the existing plan file. If it cannot be read, was written with
+	 * a different fingerprint, or any jar or directory containing a class it
+	 * names has changed, it is ignored and every Injector wired as normal.
+	 */
+	private void read(){
+		try(BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)){
+			if(!HEADER.equals(reader.readLine()) || !(SETTINGS + settings).equals(reader.readLine())) return;
+
+			List<String> section = null;
+			for(String line = reader.readLine(); line != null; line = reader.readLine()){
+				if(line.startsWith(ROOT)){
+					String[] root = line.substring(ROOT.length()).split("\\|", 2);
+					if(!root[0].equals(ResourceRootFactory.getRootFingerprint(root[1]))) throw new IOException("Root " + root[1] + " has changed");
+					roots.put(root[1], root[0]);
+				}
+				else if(line.startsWith(SECTION)){
+					section = new ArrayList<>();
+					sections.put(line.substring(SECTION.length()), section);
+				}
+				else if(section != null) section.add(line);
+			}
+		} catch(IOException | RuntimeException e){
+			// An invalid plan is ignored, and rewritten once wiring is complete
+			roots.clear();
+			sections.clear();
+		}
+	}
+
+	/**
+	 * @param c A class
+	 * @return The path of the jar or directory the class was loaded
+	 * from, or null if it was not loaded from a file
+	 */
+	private static String getRoot(Class<?> c){
+		try{
+			CodeSource source = c.getProtectionDomain().getCodeSource();
+			if(source == null || source.getLocation() == null) return null;
+			return new File(source.getLocation().toURI()).getPath();
+		} catch(URISyntaxException | IllegalArgumentException | SecurityException e){
+			return null;
+		}
+	}
+
+	/**
+	 * @param classes A list of classes
+	 * @return The binary names of the classes, separated by commas
+	 */
+	private static String names(List<Class<?>> classes){
+		StringBuilder names = new StringBuilder();
+		for(Class<?> c : classes){
+			if(names.length() > 0) names.append(',');
+			names.append(c.getName());
+		}
+		return names.toString();
+	}
+
+	/**
+	 * @param classes An array of classes
+	 * @return The binary names of the classes, separated by commas
+	 */
+	private static String names(Class<?>[] classes){
+		List<Class<?>> list = new ArrayList<>();
+		for(Class<?> c : classes) list.add(c);
+		return names(list);
+	}
+
+	/**
+	 * @param name The binary name of a class
+	 * @return The class, loaded without being initialised
+	 * @throws ClassNotFoundException If the class no longer exists
+	 */
+	private Class<?> loadClass(String name) throws ClassNotFoundException {
+		return Class.forName(name, false, loader);
+	}
+
+	/**
+	 * @param names The binary names of classes, separated by commas
+	 * @return The classes
+	 * @throws ClassNotFoundException If any class no longer exists
+	 */
+	private Class<?>[] loadClasses(String names) throws ClassNotFoundException {
+		if(names.isEmpty()) return new Class<?>[0];
+
+		String[] split = names.split(",");
+		Class<?>[] classes = new Class<?>[split.length];
+		for(int i = 0; i < split.length; i++){
+			classes[i] = loadClass(split[i]);
+		}
+		return classes;
+	}
+
+	/**
+	 * @param indexes Positions in the plan, separated by commas
+	 * @return The positions
+	 */
+	private static int[] parseIndexes(String indexes){
+		if(indexes.isEmpty()) return new int[0];
+
+		String[] split = indexes.split(",");
+		int[] parsed = new int[split.length];
+		for(int i = 0; i < split.length; i++){
+			parsed[i] = Integer.parseInt(split[i]);
+		}
+		return parsed;
+	}
+
+	/**
+	 * A single planned dependency, either a class annotated with
+	 * <code>@</code>{@link Dependency} or a method in a configuration class
+	 */
+	private static class Entry {
+
+		final Class<?> dependency;
+		final int[] prerequisites;
+		final List<Field> fields = new ArrayList<>();
+		final List<Class<?>> assignableClasses = new ArrayList<>();
+		InstanceType type;
+		Constructor<?> constructor;
+		Class<?> config;
+		String method;
+		Class<?>[] parameterTypes;
+
+		Entry(Class<?> dependency, int[] prerequisites){
+			this.dependency = dependency;
+			this.prerequisites = prerequisites;
+		}
+	}
+
+}
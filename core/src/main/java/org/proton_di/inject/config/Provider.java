@@ -0,0 +1,24 @@
+package org.proton_di.inject.config;
+
+/**
+ * A provider of instances of a dependency, which can be injected
+ * into fields or constructor parameters declared as <code>Provider&lt;T&gt;</code>
+ * in place of the dependency itself.<br>
+ * 
+ * The provider is bound directly to the dependency's supplier when
+ * injected, so calling {@link #get()} performs no lookup. This allows
+ * resolution to be deferred, and a new instance of a MULTIPLE dependency
+ * to be retrieved each time.
+ * 
+ * @author Luke Stevens
+ */
+@FunctionalInterface
+public interface Provider<T> {
+	
+	/**
+	 * @return An instance of the dependency, according
+	 * to its instance type
+	 */
+	T get();
+
+}
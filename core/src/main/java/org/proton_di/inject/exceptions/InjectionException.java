@@ -25,12 +25,13 @@ public class InjectionException extends RuntimeException {
 	
 	/**
 	 * Creates a new Exception with a message in the form;
-	 * <code>"Failed to inject into <i>c</i>. Root cause: <i>e</i></code>"
+	 * <code>"Failed to inject into <i>c</i>. Root cause: <i>e</i></code>",
+	 * with the root exception as its cause
 	 * @param e The root exception that caused the error
 	 * @param c The class that failed dependency injection
 	 */
-	public InjectionException(Exception e, Class<?> c){
-		this("Root cause: " + e.getMessage(), c);
+	public InjectionException(Throwable e, Class<?> c){
+		super("Failed to inject into " + c.getName() + ". Root cause: " + e.getMessage(), e);
 	}
 	
 	/**
@@ -0,0 +1,23 @@
+package org.proton_di.report;
+
+/**
+ * A single operation being recorded as a Flight Recorder event,
+ * from when it is started by {@link ProtonEvents} until closed.
+ * 
+ * @author Luke Stevens
+ */
+public interface EventSpan extends AutoCloseable {
+	
+	/**
+	 * The span returned when an event is not being recorded
+	 */
+	EventSpan NONE = () -> { /* Nothing recorded */ };
+	
+	/**
+	 * Ends the operation, committing the event if it
+	 * is enabled and over the configured threshold.
+	 */
+	@Override
+	void close();
+
+}
@@ -0,0 +1,35 @@
+package org.proton_di.report;
+
+import org.proton_di.report.ProtonEvents.Kind;
+
+/**
+ * Records no events, as the Flight Recorder API is not part of
+ * Java 8. On Java 11 and up this class is replaced by the version
+ * in <code>META-INF/versions/11</code>, which records each
+ * operation as a Flight Recorder event.
+ * 
+ * @author Luke Stevens
+ */
+class FlightEvents {
+	
+	private FlightEvents(){/* Hide public constructor in static class */}
+	
+	/**
+	 * @param kind The operation being recorded
+	 * @param dependency The dependency class the operation is for
+	 * @param qualifier The qualifier of the injector performing the operation
+	 * @return {@link EventSpan#NONE}
+	 */
+	static EventSpan begin(Kind kind, Class<?> dependency, String qualifier){
+		return EventSpan.NONE;
+	}
+	
+	/**
+	 * @param path The path of the root being scanned
+	 * @return {@link EventSpan#NONE}
+	 */
+	static EventSpan beginScan(String path){
+		return EventSpan.NONE;
+	}
+
+}
@@ -0,0 +1,94 @@
+package org.proton_di.report;
+
+/**
+ * Records Proton's work as JDK Flight Recorder events, so it can be
+ * seen in profiles rather than as anonymous reflection frames.<br>
+ * 
+ * All events are disabled by default, and can be enabled in a JFR
+ * settings file or on the command line using their names, e.g. 
+ * <code>-XX:StartFlightRecording:+org.proton_di.DependenciesInjected#enabled=true</code>.
+ * When an event is disabled, or Flight Recorder isn't available on
+ * the JVM, starting it returns {@link EventSpan#NONE}. Events are only
+ * recorded on Java 11 and up, where the Flight Recorder API is public.
+ * 
+ * @author Luke Stevens
+ */
+public class ProtonEvents {
+	
+	/**
+	 * The operations recorded as events
+	 */
+	public enum Kind {
+		
+		/**
+		 * Creating the supplier for a dependency, including
+		 * constructing singletons. Named <code>org.proton_di.DependencySupplierCreated</code>
+		 */
+		SUPPLIER_CREATED,
+		
+		/**
+		 * Constructing a SINGLETON or LAZY_SINGLETON dependency.
+		 * Named <code>org.proton_di.SingletonConstructed</code>
+		 */
+		SINGLETON_CONSTRUCTED,
+		
+		/**
+		 * Creating a new instance of a MULTIPLE dependency.
+		 * Named <code>org.proton_di.InstanceCreated</code>
+		 */
+		INSTANCE_CREATED,
+		
+		/**
+		 * Injecting all static fields of a class.
+		 * Named <code>org.proton_di.StaticFieldsInjected</code>
+		 */
+		STATIC_FIELDS_INJECTED,
+		
+		/**
+		 * Injecting dependencies into an object.
+		 * Named <code>org.proton_di.DependenciesInjected</code>
+		 */
+		DEPENDENCIES_INJECTED
+	}
+	
+	private static final boolean AVAILABLE = isAvailable();
+	
+	private ProtonEvents(){/* Hide public constructor in static class */}
+	
+	/**
+	 * Starts recording an operation on a dependency
+	 * @param kind The operation being recorded
+	 * @param dependency The dependency class the operation is for
+	 * @param qualifier The qualifier of the injector performing the operation
+	 * @return The span to close when the operation ends
+	 */
+	public static EventSpan begin(Kind kind, Class<?> dependency, String qualifier){
+		if(!AVAILABLE) return EventSpan.NONE;
+		return FlightEvents.begin(kind, dependency, qualifier);
+	}
+	
+	/**
+	 * Starts recording the scan of a class path root. Named
+	 * <code>org.proton_di.ClassPathRootScanned</code>
+	 * @param path The path of the root being scanned
+	 * @return The span to close when the scan ends
+	 */
+	public static EventSpan beginScan(String path){
+		if(!AVAILABLE) return EventSpan.NONE;
+		return FlightEvents.beginScan(path);
+	}
+	
+	/**
+	 * @return True if the JVM includes Flight Recorder
+	 */
+	private static boolean isAvailable(){
+		try{
+			Class.forName("jdk.jfr.Event", false, ProtonEvents.class.getClassLoader());
+			return true;
+		} catch(ClassNotFoundException | LinkageError e){
+			// Older JVM without Flight Recorder
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,28 @@
+package org.proton_di.report;
+
+/**
+ * A service interface for receiving startup metrics, e.g. to publish
+ * them to a metrics system. Implementations are loaded using
+ * {@link java.util.ServiceLoader}, so should be listed in
+ * <code>META-INF/services/org.proton_di.report.StartupListener</code>.
+ * 
+ * @author Luke Stevens
+ */
+public interface StartupListener {
+	
+	/**
+	 * Called as each metric is recorded. This includes metrics recorded
+	 * after startup, e.g. when a qualified injector is first created.
+	 * This may be called concurrently from multiple threads.
+	 * @param metric The recorded metric
+	 */
+	default void metricRecorded(StartupMetric metric) { /* Optional */ }
+	
+	/**
+	 * Called once when startup has finished, after all static
+	 * fields have been injected.
+	 * @param report The report of all metrics recorded during startup
+	 */
+	void startupComplete(StartupReport report);
+
+}
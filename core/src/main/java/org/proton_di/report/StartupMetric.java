@@ -0,0 +1,94 @@
+package org.proton_di.report;
+
+/**
+ * The wall time and allocation of a single part of startup,
+ * e.g. a startup phase or the creation of a single dependency.
+ * 
+ * @author Luke Stevens
+ */
+public class StartupMetric {
+	
+	/**
+	 * The part of startup a metric was recorded for
+	 */
+	public enum Type {
+		
+		/**
+		 * A phase of startup, e.g. scanning the class path
+		 */
+		PHASE,
+		
+		/**
+		 * Loading the dependencies from a single <code>@Configuration</code> class
+		 */
+		CONFIGURATION,
+		
+		/**
+		 * Creating the supplier for a single dependency,
+		 * including constructing singletons
+		 */
+		DEPENDENCY,
+		
+		/**
+		 * Injecting the static fields of a single class
+		 */
+		STATIC_INJECTION
+	}
+	
+	private final Type type;
+	private final String name;
+	private final long wallTime;
+	private final long allocatedBytes;
+	
+	/**
+	 * Constructs a new StartupMetric
+	 * @param type The part of startup the metric was recorded for
+	 * @param name The name of the phase, or class, measured
+	 * @param wallTime The wall time taken, in nanoseconds
+	 * @param allocatedBytes The bytes allocated by the measuring thread,
+	 * or -1 if allocation cannot be measured on this JVM
+	 */
+	public StartupMetric(Type type, String name, long wallTime, long allocatedBytes) {
+		this.type = type;
+		this.name = name;
+		this.wallTime = wallTime;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	/**
+	 * @return The part of startup the metric was recorded for
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return The name of the phase, or the name of the class measured
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The wall time taken, in nanoseconds
+	 */
+	public long getWallTime() {
+		return wallTime;
+	}
+
+	/**
+	 * @return The bytes allocated by the measuring thread, or -1 if
+	 * allocation cannot be measured on this JVM. Allocation by other
+	 * threads, e.g. when scanning or wiring in parallel, is not included.
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+	
+	@Override
+	public String toString() {
+		String allocated = allocatedBytes < 0? "" : String.format(", %d KB allocated", allocatedBytes / 1024);
+		return String.format("%s %s: %.3f ms%s", type, name, wallTime / 1e6, allocated);
+	}
+
+}
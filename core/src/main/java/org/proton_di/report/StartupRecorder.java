@@ -0,0 +1,153 @@
+package org.proton_di.report;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.proton_di.report.StartupMetric.Type;
+
+/**
+ * Records the wall time and allocation of each part of startup.<br>
+ * 
+ * When startup completes, the report is passed to every
+ * {@link StartupListener} service, or listener added with
+ * {@link #addListener(StartupListener)}, and logged if the property
+ * <code>proton.startup.log</code> is set to true.<br>
+ * 
+ * Metrics are only kept until startup completes, when they are fixed
+ * in the report. Anything measured afterwards, such as wiring a qualified
+ * Injector on first use, is still passed to listeners but not kept, so
+ * the recorder does not grow for the life of the application.
+ * 
+ * @author Luke Stevens
+ */
+public class StartupRecorder {
+	
+	private static final Logger LOGGER = Logger.getLogger(StartupRecorder.class.getName());
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+	private static final boolean ALLOCATION = isAllocationSupported();
+	
+	private static final List<StartupMetric> METRICS = new ArrayList<>();
+	private static final List<StartupListener> LISTENERS = new CopyOnWriteArrayList<>();
+	
+	// Set once startup completes, after which metrics are no longer kept
+	private static volatile StartupReport report;
+	
+	static {
+		for(StartupListener listener : ServiceLoader.load(StartupListener.class)){
+			LISTENERS.add(listener);
+		}
+	}
+	
+	private StartupRecorder(){/* Hide public constructor in static class */}
+	
+	/**
+	 * Adds a listener, which is passed every metric recorded from now on.
+	 * Listeners registered as services are loaded automatically.
+	 * @param listener The listener to add
+	 */
+	public static void addListener(StartupListener listener){
+		LISTENERS.add(listener);
+	}
+	
+	/**
+	 * @param listener The listener to remove, which is no longer
+	 * passed any metrics
+	 */
+	public static void removeListener(StartupListener listener){
+		LISTENERS.remove(listener);
+	}
+	
+	/**
+	 * Starts measuring a part of startup, which is recorded
+	 * when the returned timer is closed.
+	 * @param type The part of startup being measured
+	 * @param name The name of the phase, or class, being measured
+	 * @return The timer measuring this part of startup
+	 */
+	public static StartupTimer start(Type type, String name){
+		return new StartupTimer(type, name);
+	}
+	
+	/**
+	 * Records a metric if startup is still running, and passes
+	 * it to all listeners
+	 * @param metric The metric to record
+	 */
+	static void record(StartupMetric metric){
+		synchronized(METRICS){
+			if(report == null) METRICS.add(metric);
+		}
+		for(StartupListener listener : LISTENERS){
+			try{
+				listener.metricRecorded(metric);
+			} catch(RuntimeException e){
+				LOGGER.log(Level.WARNING, "Startup listener " + listener.getClass().getName() + " failed to record " + metric.getName(), e);
+			}
+		}
+	}
+	
+	/**
+	 * @param totalTime The wall time of startup, in nanoseconds,
+	 * used if startup has not yet completed
+	 * @return The report of startup if it has completed,
+	 * otherwise a report of all metrics recorded so far
+	 */
+	public static StartupReport getReport(long totalTime){
+		synchronized(METRICS){
+			return report != null? report : new StartupReport(METRICS, totalTime);
+		}
+	}
+	
+	/**
+	 * Marks startup as complete, fixing the report and passing it
+	 * to all listeners, and logging it if enabled.
+	 * @param totalTime The wall time of startup, in nanoseconds
+	 */
+	public static void complete(long totalTime){
+		StartupReport completed;
+		synchronized(METRICS){
+			completed = new StartupReport(METRICS, totalTime);
+			report = completed;
+			METRICS.clear();
+		}
+		if(Boolean.getBoolean("proton.startup.log")) LOGGER.log(Level.INFO, completed.toString());
+		
+		for(StartupListener listener : LISTENERS){
+			try{
+				listener.startupComplete(completed);
+			} catch(RuntimeException e){
+				LOGGER.log(Level.WARNING, "Startup listener " + listener.getClass().getName() + " failed on startup complete", e);
+			}
+		}
+	}
+	
+	/**
+	 * @return The bytes allocated so far by the current thread,
+	 * or -1 if this cannot be measured on this JVM
+	 */
+	static long getAllocatedBytes(){
+		if(!ALLOCATION) return -1;
+		return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/**
+	 * @return True if the JVM can measure allocation per thread
+	 */
+	private static boolean isAllocationSupported(){
+		try{
+			if(!(THREADS instanceof com.sun.management.ThreadMXBean)) return false;
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+			return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+		} catch(LinkageError e){
+			// Not running on a HotSpot based JVM
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package org.proton_di.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.proton_di.report.StartupMetric.Type;
+
+/**
+ * A report of the time and allocation of each part of startup,
+ * as recorded by the {@link StartupRecorder}.
+ * 
+ * @author Luke Stevens
+ */
+public class StartupReport {
+	
+	private final List<StartupMetric> metrics;
+	private final long totalTime;
+	
+	/**
+	 * Constructs a new StartupReport
+	 * @param metrics The recorded metrics, in the order they completed
+	 * @param totalTime The wall time of startup, in nanoseconds
+	 */
+	public StartupReport(List<StartupMetric> metrics, long totalTime) {
+		this.metrics = Collections.unmodifiableList(new ArrayList<>(metrics));
+		this.totalTime = totalTime;
+	}
+	
+	/**
+	 * @return All recorded metrics, in the order they completed
+	 */
+	public List<StartupMetric> getMetrics() {
+		return metrics;
+	}
+	
+	/**
+	 * @param type The type of metrics to retrieve
+	 * @return All recorded metrics of a type, in the order they completed
+	 */
+	public List<StartupMetric> getMetrics(Type type) {
+		List<StartupMetric> filtered = new ArrayList<>();
+		for(StartupMetric metric : metrics){
+			if(metric.getType() == type) filtered.add(metric);
+		}
+		return filtered;
+	}
+	
+	/**
+	 * @return All recorded metrics, with the longest wall time first
+	 */
+	public List<StartupMetric> getMetricsByCost() {
+		return getMetricsBy(Comparator.comparingLong(StartupMetric::getWallTime));
+	}
+	
+	/**
+	 * @return All recorded metrics, with the most bytes allocated first
+	 */
+	public List<StartupMetric> getMetricsByAllocation() {
+		return getMetricsBy(Comparator.comparingLong(StartupMetric::getAllocatedBytes));
+	}
+	
+	/**
+	 * @param cost The cost to sort metrics by
+	 * @return All recorded metrics, with the highest cost first
+	 */
+	private List<StartupMetric> getMetricsBy(Comparator<StartupMetric> cost) {
+		List<StartupMetric> sorted = new ArrayList<>(metrics);
+		sorted.sort(cost.reversed());
+		return sorted;
+	}
+	
+	/**
+	 * @return The wall time of startup in nanoseconds, from loading
+	 * <code>InjectionManager</code> to injecting all static fields
+	 */
+	public long getTotalTime() {
+		return totalTime;
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder(String.format("Proton startup took %.3f ms", totalTime / 1e6));
+		for(StartupMetric metric : getMetricsByCost()){
+			report.append("\n\t").append(metric);
+		}
+		return report.toString();
+	}
+
+}
@@ -0,0 +1,40 @@
+package org.proton_di.report;
+
+import org.proton_di.report.StartupMetric.Type;
+
+/**
+ * Measures a single part of startup from creation until closed,
+ * then records it with the {@link StartupRecorder}.
+ * 
+ * @author Luke Stevens
+ */
+public class StartupTimer implements AutoCloseable {
+	
+	private final Type type;
+	private final String name;
+	private final long start;
+	private final long startAllocated;
+	
+	/**
+	 * Starts a new timer
+	 * @param type The part of startup being measured
+	 * @param name The name of the phase, or class, being measured
+	 */
+	StartupTimer(Type type, String name){
+		this.type = type;
+		this.name = name;
+		this.startAllocated = StartupRecorder.getAllocatedBytes();
+		this.start = System.nanoTime();
+	}
+
+	/**
+	 * Stops the timer and records the metric
+	 */
+	@Override
+	public void close() {
+		long wallTime = System.nanoTime() - start;
+		long allocated = StartupRecorder.getAllocatedBytes();
+		StartupRecorder.record(new StartupMetric(type, name, wallTime, startAllocated < 0? -1 : allocated - startAllocated));
+	}
+
+}
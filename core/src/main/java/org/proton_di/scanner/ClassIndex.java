@@ -0,0 +1,61 @@
+package org.proton_di.scanner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A multimap from keys to the classes on the class path
+ * they apply to, e.g. annotations to annotated classes. Built
+ * once, and not modified afterwards.
+ * 
+ * @author Luke Stevens
+ */
+class ClassIndex<K> {
+	
+	private final Map<K, List<Class<?>>> index = new HashMap<>();
+	
+	/**
+	 * Builds a new index over a list of classes
+	 * @param classes The classes to index
+	 * @param keys Gets the keys to index a single class by
+	 */
+	ClassIndex(List<Class<?>> classes, Function<Class<?>, K[]> keys){
+		for(Class<?> c : classes){
+			for(K key : getKeys(c, keys)){
+				index.computeIfAbsent(key, k -> new ArrayList<>()).add(c);
+			}
+		}
+	}
+	
+	/**
+	 * @param key The key to retrieve classes for
+	 * @return A new list of all classes indexed by the key
+	 */
+	List<Class<?>> get(K key){
+		return new ArrayList<>(index.getOrDefault(key, Collections.emptyList()));
+	}
+	
+	/**
+	 * Gets the keys for a class, ignoring classes that
+	 * reference missing classes.
+	 * @param c The class to get the keys for
+	 * @param keys Gets the keys to index a single class by
+	 * @return The keys for the class
+	 */
+	private List<K> getKeys(Class<?> c, Function<Class<?>, K[]> keys){
+		try{
+			K[] found = keys.apply(c);
+			List<K> list = new ArrayList<>(found.length);
+			Collections.addAll(list, found);
+			return list;
+		} catch(NoClassDefFoundError | TypeNotPresentException e){
+			// Classes far down the dependency chain sometimes reference missing classes. Ignore these.
+			return Collections.emptyList();
+		}
+	}
+
+}
@@ -0,0 +1,162 @@
+package org.proton_di.scanner;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+import org.proton_di.scanner.resources.ResourceRoot;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+
+/**
+ * A Class to represent the Classes on the Java classpath
+ * and to provide utility methods to access these.
+ * 
+ * @author Luke Stevens
+ */
+public class ClassPath {
+	
+	private static final ClassPath INSTANCE = new ClassPath();
+	
+	/**
+	 * @return Gets the single ClassPath instance
+	 */
+	public static ClassPath getInstance(){
+		return INSTANCE;
+	}
+	
+	private List<Class<?>> classes = new ArrayList<>();
+	private List<Class<?>> staticInjection = new ArrayList<>();
+	
+	// Indexes are built on first use, then reused for every query
+	private volatile ClassIndex<Class<?>> annotationIndex;
+	private volatile ClassIndex<Class<?>> interfaceIndex;
+	private volatile PackageTree packageTree;
+	
+	/**
+	 * Scans the Java class
+	 * path, retrieves all <code>.class</code> files
+	 * on load, and uses them to instantiate the single
+	 * instance.
+	 */
+	private ClassPath(){
+		this(new ResourceRootFactory());
+	}
+	
+	/**
+	 * Constructs a new ClassPath containing the classes
+	 * from every root created by a factory. This should only
+	 * be used for class paths other than the Java class path,
+	 * which is available from {@link #getInstance()}.
+	 * @param factory The factory to get resource roots from
+	 */
+	@SuppressWarnings("try")
+	public ClassPath(ResourceRootFactory factory){
+		try(StartupTimer timer = StartupRecorder.start(Type.PHASE, "Scan class path")){
+			for(ResourceRoot root : factory.getRoots()){
+				classes.addAll(root.getClasses());
+				staticInjection.addAll(root.getClassesWithStaticInjection());
+			}
+		}
+	}
+	
+	/**
+	 * @return All classes on the java class path
+	 */
+	public List<Class<?>> getClasses(){
+		return classes;
+	}
+	
+	/**
+	 * @return All classes on the java class path which declare static
+	 * fields annotated with <code>@Inject</code>, recorded while scanning
+	 * so no other classes need to be inspected
+	 */
+	public List<Class<?>> getClassesWithStaticInjection(){
+		return staticInjection;
+	}
+	
+	/**
+	 * Retrieves all classes on the java class path that
+	 * satisfy a condition
+	 * @param filter A {@link Predicate} to filter classes by
+	 * @return A List of classes that satisfy the given Predicate
+	 */
+	public List<Class<?>> getClasses(Predicate<Class<?>> filter){
+		List<Class<?>> results = new ArrayList<>();
+		for(Class<?> c : classes){
+			if(filter.test(c)) results.add(c);
+		}
+		return results;
+	}
+	
+	/**
+	 * Retrieves all classes on the java class path that
+	 * are annotated with a given annotation
+	 * @param a The annotation class to check against
+	 * @return A List of classes annotated with the given annotation
+	 */
+	public List<Class<?>> getClassesWithAnnotation(Class<? extends Annotation> a){
+		ClassIndex<Class<?>> index = annotationIndex;
+		if(index == null){
+			synchronized(this){
+				if(annotationIndex == null) annotationIndex = new ClassIndex<>(classes, ClassPath::getAnnotationTypes);
+				index = annotationIndex;
+			}
+		}
+		return index.get(a);
+	}
+	
+	/**
+	 * Retrieves all classes on the java class path that within
+	 * a specific package, or any of its sub packages.
+	 * @param packageName The name of the package to check within
+	 * @return A List of classes within the given package
+	 */
+	public List<Class<?>> getClassesInPackage(String packageName){
+		PackageTree tree = packageTree;
+		if(tree == null){
+			synchronized(this){
+				if(packageTree == null) packageTree = new PackageTree(classes);
+				tree = packageTree;
+			}
+		}
+		return tree.getClasses(packageName);
+	}
+	
+	/**
+	 * Retrieves all classes on the java class path that 
+	 * that implement a specific interface
+	 * @param iface The interface class to check for implementations
+	 * @return A List of classes that implement the given interface
+	 */
+	public List<Class<?>> getImplementingClasses(Class<?> iface){
+		if(!iface.isInterface()) return new ArrayList<>();
+		
+		ClassIndex<Class<?>> index = interfaceIndex;
+		if(index == null){
+			synchronized(this){
+				if(interfaceIndex == null) interfaceIndex = new ClassIndex<>(classes, Class::getInterfaces);
+				index = interfaceIndex;
+			}
+		}
+		return index.get(iface);
+	}
+	
+	/**
+	 * @param c The class to get annotations for
+	 * @return The types of all annotations present on the class
+	 */
+	private static Class<?>[] getAnnotationTypes(Class<?> c){
+		Annotation[] annotations = c.getAnnotations();
+		Class<?>[] types = new Class<?>[annotations.length];
+		for(int i = 0; i < annotations.length; i++){
+			types[i] = annotations[i].annotationType();
+		}
+		return types;
+	}
+
+}
@@ -0,0 +1,81 @@
+package org.proton_di.scanner;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A tree of packages on the class path, where each node
+ * holds the classes directly within that package.
+ * 
+ * @author Luke Stevens
+ */
+class PackageTree {
+	
+	private final Map<String, PackageTree> subpackages = new LinkedHashMap<>();
+	private final List<Class<?>> classes = new ArrayList<>();
+	
+	/**
+	 * Builds a new tree of all packages for a list of classes
+	 * @param classes The classes to add to the tree
+	 */
+	PackageTree(List<Class<?>> classes){
+		for(Class<?> c : classes){
+			String name = c.getName();
+			int end = name.lastIndexOf('.');
+			PackageTree node = end < 0? this : getNode(name.substring(0, end), true);
+			node.classes.add(c);
+		}
+	}
+	
+	/**
+	 * Creates an empty package node
+	 */
+	private PackageTree(){ /* Empty sub package */ }
+	
+	/**
+	 * Gets all classes within a package, and all of its sub packages
+	 * @param packageName The name of the package
+	 * @return A new list of all classes within the package
+	 */
+	List<Class<?>> getClasses(String packageName){
+		List<Class<?>> found = new ArrayList<>();
+		PackageTree node = packageName.isEmpty()? this : getNode(packageName, false);
+		if(node != null) node.collect(found);
+		return found;
+	}
+	
+	/**
+	 * Adds all classes from this node and its sub packages to a list
+	 * @param found The list to add classes to
+	 */
+	private void collect(List<Class<?>> found){
+		found.addAll(classes);
+		for(PackageTree subpackage : subpackages.values()){
+			subpackage.collect(found);
+		}
+	}
+	
+	/**
+	 * Gets the node for a package
+	 * @param packageName The name of the package
+	 * @param create Whether to create missing nodes
+	 * @return The node for the package, or null if it does not
+	 * exist and create is false.
+	 */
+	private PackageTree getNode(String packageName, boolean create){
+		PackageTree node = this;
+		for(String segment : packageName.split("\\.")){
+			PackageTree next = node.subpackages.get(segment);
+			if(next == null && !create) return null;
+			else if(next == null) {
+				next = new PackageTree();
+				node.subpackages.put(segment, next);
+			}
+			node = next;
+		}
+		return node;
+	}
+
+}
@@ -0,0 +1,249 @@
+package org.proton_di.scanner.index;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.proton_di.inject.config.Inject;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupTimer;
+import org.proton_di.scanner.ClassPath;
+import org.proton_di.scanner.ClassScanningException;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+
+/**
+ * A Class to represent the merged dependency index written
+ * at compile time by the {@link DependencyIndexProcessor}.<br>
+ *
+ * Every <code>META-INF/proton/index</code> resource visible to the
+ * context class loader of the thread creating the index, or the system
+ * class loader if it has none, is read and merged, and indexed classes
+ * are loaded through that same loader. Roots on the class path without
+ * an index, such as jars built without Proton, are still scanned, but
+ * only those roots. If no index exists, or the property
+ * <code>proton.scan.index</code> is set to false, all lookups fall
+ * back to a full scan of the class path using {@link ClassPath}.
+ *
+ * @author Luke Stevens
+ */
+public class DependencyIndex {
+
+	/**
+	 * The location of the index resource within each jar or directory
+	 */
+	public static final String LOCATION = "META-INF/proton/index";
+
+	/**
+	 * The key used in the index for classes declaring static
+	 * fields annotated with <code>@</code>{@link Inject}
+	 */
+	public static final String STATIC_INJECTION = "org.proton_di.inject.config.Inject";
+
+	private static final DependencyIndex INSTANCE = new DependencyIndex();
+
+	/**
+	 * @return Gets the single DependencyIndex instance
+	 */
+	public static DependencyIndex getInstance(){
+		return INSTANCE;
+	}
+
+	private final Map<String, Set<String>> entries = new LinkedHashMap<>();
+	private final Set<File> indexedRoots = new HashSet<>();
+	private final CRC32 hash = new CRC32();
+	private final ClassLoader loader;
+	private final boolean present;
+	
+	// Roots without an index, or every root if there is no index, are scanned on first use
+	private final String scannedPath;
+	private volatile ClassPath scanned;
+
+	/**
+	 * Reads and merges all index resources on the class path
+	 */
+	@SuppressWarnings("try")
+	private DependencyIndex(){
+		ClassLoader context = Thread.currentThread().getContextClassLoader();
+		loader = context == null? ClassLoader.getSystemClassLoader() : context;
+		
+		boolean enabled = !"false".equals(System.getProperty("proton.scan.index"));
+		try(StartupTimer timer = StartupRecorder.start(Type.PHASE, "Read dependency index")){
+			present = enabled && loadIndexes();
+		}
+		scannedPath = present? getUnindexedPath() : System.getProperty("java.class.path");
+	}
+
+	/**
+	 * Loads all index resources on the class path into the
+	 * entries map.
+	 * @return True if at least one index resource was found
+	 */
+	private boolean loadIndexes(){
+		try{
+			Enumeration<URL> resources = loader.getResources(LOCATION);
+			boolean found = false;
+			while(resources.hasMoreElements()){
+				URL url = resources.nextElement();
+				loadIndex(url);
+				indexedRoots.add(getRoot(url));
+				found = true;
+			}
+			return found;
+		} catch(IOException | URISyntaxException e){
+			throw new ClassScanningException(e);
+		}
+	}
+
+	/**
+	 * Gets the jar or directory an index resource was loaded from
+	 * @param url The location of the index resource
+	 * @return The root containing the index
+	 * @throws URISyntaxException If the location is not a valid file URI
+	 */
+	private File getRoot(URL url) throws URISyntaxException {
+		String location = url.toString();
+		location = location.substring(0, location.length() - LOCATION.length());
+		if(location.startsWith("jar:")) location = location.substring("jar:".length(), location.lastIndexOf("!/"));
+		return new File(new URI(location)).getAbsoluteFile();
+	}
+
+	/**
+	 * @return Every root on the class path that does not contain
+	 * an index, separated by the system path separator
+	 */
+	private String getUnindexedPath(){
+		List<String> paths = new ArrayList<>();
+		for(String path : System.getProperty("java.class.path").split(File.pathSeparator)){
+			File root = new File(path).getAbsoluteFile();
+			if(!path.isEmpty() && !indexedRoots.contains(root)) paths.add(root.getPath());
+		}
+		return String.join(File.pathSeparator, paths);
+	}
+
+	/**
+	 * @return A ClassPath containing only the roots without an index, or
+	 * every root if there is no index, scanned on first use
+	 */
+	private ClassPath getScanned(){
+		ClassPath classPath = scanned;
+		if(classPath == null){
+			synchronized(this){
+				if(scanned == null) scanned = new ClassPath(new ResourceRootFactory(scannedPath, loader));
+				classPath = scanned;
+			}
+		}
+		return classPath;
+	}
+
+	/**
+	 * Loads a single index resource. Each non-comment line is
+	 * in the form <code><i>annotation</i>=<i>class</i></code>
+	 * @param url The location of the index resource
+	 * @throws IOException If the resource cannot be read
+	 */
+	private void loadIndex(URL url) throws IOException {
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))){
+			for(String line = reader.readLine(); line != null; line = reader.readLine()){
+				int separator = line.indexOf('=');
+				if(line.startsWith("#") || separator < 0) continue;
+
+				hash.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+				String key = line.substring(0, separator).trim();
+				String className = line.substring(separator + 1).trim();
+				entries.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(className);
+			}
+		}
+	}
+
+	/**
+	 * @return True if an index has been found on the class path
+	 * and will be used instead of a full class path scan.
+	 */
+	public boolean isPresent(){
+		return present;
+	}
+
+	/**
+	 * Creates a fingerprint of everything dependencies are found from,
+	 * without scanning the class path. If an index is present this is a
+	 * hash of every index entry, along with a fingerprint of every root
+	 * without an index, otherwise it is a fingerprint of every root on
+	 * the class path.
+	 * @return The fingerprint, which changes whenever the classes found may change
+	 */
+	public String getFingerprint(){
+		if(!present) return "classpath:" + new ResourceRootFactory(scannedPath, loader).getFingerprint();
+		
+		String fingerprint = "index:" + Long.toHexString(hash.getValue());
+		if(scannedPath.isEmpty()) return fingerprint;
+		return fingerprint + ":" + new ResourceRootFactory(scannedPath, loader).getFingerprint();
+	}
+	
+	/**
+	 * Retrieves all classes annotated with a given annotation, using
+	 * the index if present, along with any roots without an index,
+	 * otherwise scanning the class path.
+	 * @param a The annotation class to check against
+	 * @return A List of classes annotated with the given annotation
+	 */
+	public List<Class<?>> getClassesWithAnnotation(Class<? extends Annotation> a){
+		if(!present) return getScanned().getClassesWithAnnotation(a);
+
+		List<Class<?>> classes = new ArrayList<>();
+		for(Class<?> c : getIndexedClasses(a.getName())){
+			if(c.getAnnotation(a) != null) classes.add(c);
+		}
+		if(!scannedPath.isEmpty()) classes.addAll(getScanned().getClassesWithAnnotation(a));
+		return classes;
+	}
+
+	/**
+	 * Retrieves all classes that declare static fields to be
+	 * injected. If no index is present these are the classes
+	 * recorded while scanning the class path.
+	 * @return A List of classes to inject static fields into
+	 */
+	public List<Class<?>> getClassesWithStaticInjection(){
+		if(!present) return getScanned().getClassesWithStaticInjection();
+		
+		List<Class<?>> classes = getIndexedClasses(STATIC_INJECTION);
+		if(!scannedPath.isEmpty()) classes.addAll(getScanned().getClassesWithStaticInjection());
+		return classes;
+	}
+
+	/**
+	 * Loads all classes stored in the index under a specific key.
+	 * Classes that no longer exist are ignored.
+	 * @param key The annotation name the classes are indexed by
+	 * @return A List of the indexed classes
+	 */
+	private List<Class<?>> getIndexedClasses(String key){
+		List<Class<?>> classes = new ArrayList<>();
+		for(String name : entries.getOrDefault(key, Collections.emptySet())){
+			try{
+				classes.add(Class.forName(name, false, loader));
+			} catch(NoClassDefFoundError | ClassNotFoundException e){
+				// Just don't load the class if it can't be found
+			}
+		}
+		return classes;
+	}
+
+}
@@ -0,0 +1,184 @@
+package org.proton_di.scanner.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.proton_di.configuration.Configuration;
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.inject.config.Inject;
+
+/**
+ * An annotation processor that records every class annotated with
+ * <code>@</code>{@link Dependency}, <code>@</code>{@link Configuration} or
+ * <code>@</code>{@link Qualifier}, and every class declaring static fields
+ * annotated with <code>@</code>{@link Inject}, in the
+ * {@link DependencyIndex#LOCATION} resource.<br>
+ *
+ * This is registered as a service, so is run automatically by
+ * <code>javac</code> whenever Proton is on the compile class path.
+ * When only some classes are recompiled, the entries already in the
+ * index for every other class that still exists are kept.
+ *
+ * @author Luke Stevens
+ */
+public class DependencyIndexProcessor extends AbstractProcessor {
+
+	private static final List<String> TYPE_ANNOTATIONS = Arrays.asList(
+			Dependency.class.getName(),
+			Configuration.class.getName(),
+			Qualifier.class.getName());
+
+	private final Map<String, Set<String>> index = new TreeMap<>();
+	private final List<Element> originatingElements = new ArrayList<>();
+	private final Set<String> compiled = new HashSet<>();
+
+	/*
+	 * Every compilation is processed, even one without any indexed
+	 * annotations, so that entries for recompiled classes which no
+	 * longer have them are removed from the index
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if(roundEnv.processingOver()){
+			writeIndex();
+			return false;
+		}
+
+		for(Element e : roundEnv.getRootElements()){
+			if(e instanceof TypeElement) recordCompiled((TypeElement) e);
+		}
+		for(TypeElement annotation : annotations){
+			String name = annotation.getQualifiedName().toString();
+			if(!TYPE_ANNOTATIONS.contains(name) && !DependencyIndex.STATIC_INJECTION.equals(name)) continue;
+			for(Element e : roundEnv.getElementsAnnotatedWith(annotation)){
+				if(TYPE_ANNOTATIONS.contains(name) && e instanceof TypeElement) record(name, (TypeElement) e);
+				else if(isStaticField(e)) record(name, (TypeElement) e.getEnclosingElement());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param e The element to check
+	 * @return True if the element is a static field
+	 */
+	private boolean isStaticField(Element e){
+		return e.getKind() == ElementKind.FIELD && e.getModifiers().contains(Modifier.STATIC);
+	}
+
+	/**
+	 * Records a class in the index under an annotation
+	 * @param annotation The name of the annotation to index the class by
+	 * @param type The class to record
+	 */
+	private void record(String annotation, TypeElement type){
+		String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+		index.computeIfAbsent(annotation, k -> new TreeSet<>()).add(className);
+		originatingElements.add(type);
+	}
+
+	/**
+	 * Records a class, and every class nested within it, as
+	 * being compiled in this run
+	 * @param type The class being compiled
+	 */
+	private void recordCompiled(TypeElement type){
+		compiled.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+		for(Element e : type.getEnclosedElements()){
+			if(e instanceof TypeElement) recordCompiled((TypeElement) e);
+		}
+	}
+
+	/**
+	 * Adds the entries from an index left by a previous compilation
+	 * to the recorded classes. Entries for classes compiled in this run
+	 * are replaced by what has been recorded for them, and entries for
+	 * classes that no longer exist are dropped.
+	 * @return True if an index from a previous compilation exists
+	 */
+	private boolean mergeExistingIndex(){
+		try{
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", DependencyIndex.LOCATION);
+			try(Reader in = existing.openReader(true); BufferedReader reader = new BufferedReader(in)){
+				for(String line = reader.readLine(); line != null; line = reader.readLine()){
+					int separator = line.indexOf('=');
+					if(line.startsWith("#") || separator < 0) continue;
+
+					String className = line.substring(separator + 1).trim();
+					if(compiled.contains(className) || !exists(className)) continue;
+					index.computeIfAbsent(line.substring(0, separator).trim(), k -> new TreeSet<>()).add(className);
+				}
+			}
+			return true;
+		} catch(IOException | IllegalArgumentException e){
+			// No index has been written yet, so there is nothing to merge
+			return false;
+		}
+	}
+
+	/**
+	 * @param className The binary name of a class
+	 * @return True if the class can still be found by the compiler
+	 */
+	private boolean exists(String className){
+		return processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null;
+	}
+
+	/**
+	 * Writes all recorded classes, merged with the existing index,
+	 * to the index resource in the class output directory.
+	 */
+	private void writeIndex(){
+		boolean existing = mergeExistingIndex();
+		if(index.isEmpty() && !existing) return;
+
+		try{
+			Element[] origins = originatingElements.toArray(new Element[0]);
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", DependencyIndex.LOCATION, origins);
+			try(Writer writer = resource.openWriter()){
+				writer.write("# Generated by " + getClass().getName() + "\n");
+				for(Map.Entry<String, Set<String>> entry : index.entrySet()){
+					for(String className : entry.getValue()){
+						writer.write(entry.getKey() + "=" + className + "\n");
+					}
+				}
+			}
+		} catch(IOException e){
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + DependencyIndex.LOCATION + ": " + e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package org.proton_di.scanner.resources;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A class for resolving classes within a root that
+ * is unchanged since it was stored in the {@link ScanCache}.
+ * 
+ * @author Luke Stevens
+ */
+public class CachedResourceRoot extends ResourceRoot {
+
+	/**
+	 * Constructs a new CachedResourceRoot, loading each cached
+	 * class rather than scanning the root.
+	 * @param path The path to the resource
+	 * @param mode The scan mode the class names were cached with
+	 * @param classNames The names of the classes found when the
+	 * root was last scanned
+	 * @param staticInjectionNames The names of the classes found with static
+	 * fields annotated with <code>@Inject</code>
+	 */
+	public CachedResourceRoot(String path, ScanMode mode, List<String> classNames, Collection<String> staticInjectionNames) {
+		this(path, mode, ClassLoader.getSystemClassLoader(), classNames, staticInjectionNames);
+	}
+	
+	/**
+	 * Constructs a new CachedResourceRoot, loading each cached
+	 * class rather than scanning the root.
+	 * @param path The path to the resource
+	 * @param mode The scan mode the class names were cached with
+	 * @param loader The class loader to load classes with
+	 * @param classNames The names of the classes found when the
+	 * root was last scanned
+	 * @param staticInjectionNames The names of the classes found with static
+	 * fields annotated with <code>@Inject</code>
+	 */
+	CachedResourceRoot(String path, ScanMode mode, ClassLoader loader, List<String> classNames, Collection<String> staticInjectionNames) {
+		super(path, mode, loader);
+		for(String name : classNames){
+			Class<?> c = loadClass(name);
+			if(c == null) continue;
+			
+			classes.add(c);
+			if(staticInjectionNames.contains(name)) staticInjection.add(c);
+		}
+	}
+	
+	/**
+	 * Classes are loaded from the cached names on
+	 * construction instead.
+	 */
+	@Override
+	void loadClasses(){ /* Nothing to scan */ }
+
+}
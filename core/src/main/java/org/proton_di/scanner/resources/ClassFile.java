@@ -0,0 +1,261 @@
+package org.proton_di.scanner.resources;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A minimal representation of a <code>.class</code> file, read
+ * directly from its bytes without loading or defining the class.<br>
+ *
+ * Only the class name, superclass, interfaces and the names of
+ * runtime visible annotations on the class and its static fields
+ * are read, everything else is skipped.
+ *
+ * @author Luke Stevens
+ */
+public class ClassFile {
+
+	private static final int MAGIC = 0xCAFEBABE;
+	private static final String ANNOTATIONS_ATTRIBUTE = "RuntimeVisibleAnnotations";
+
+	private final String name;
+	private final String superclass;
+	private final String[] interfaces;
+	private final Set<String> annotations;
+	private final Set<String> staticFieldAnnotations;
+
+	/**
+	 * Constructs a new ClassFile
+	 * @param name The binary name of the class
+	 * @param superclass The binary name of the superclass, or null
+	 * @param interfaces The binary names of directly implemented interfaces
+	 * @param annotations The names of annotations on the class
+	 * @param staticFieldAnnotations The names of annotations on any static field
+	 */
+	public ClassFile(String name, String superclass, String[] interfaces, Set<String> annotations, Set<String> staticFieldAnnotations) {
+		this.name = name;
+		this.superclass = superclass;
+		this.interfaces = interfaces;
+		this.annotations = annotations;
+		this.staticFieldAnnotations = staticFieldAnnotations;
+	}
+
+	/**
+	 * @return The binary name of this class e.g. <code>org.example.Outer$Inner</code>
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The binary name of the superclass, or null
+	 * if this represents <code>java.lang.Object</code>
+	 */
+	public String getSuperclass() {
+		return superclass;
+	}
+
+	/**
+	 * @return The binary names of all directly implemented interfaces
+	 */
+	public List<String> getInterfaces() {
+		return Arrays.asList(interfaces);
+	}
+
+	/**
+	 * @return The class names of all runtime visible
+	 * annotations on this class
+	 */
+	public Set<String> getAnnotations() {
+		return annotations;
+	}
+
+	/**
+	 * @return The class names of all runtime visible
+	 * annotations on static fields in this class
+	 */
+	public Set<String> getStaticFieldAnnotations() {
+		return staticFieldAnnotations;
+	}
+
+	/**
+	 * Reads a class file from a stream. The stream is
+	 * not closed.
+	 * @param in The stream to read the class file from
+	 * @return A ClassFile representing the stream contents
+	 * @throws IOException If the stream cannot be read, or
+	 * does not contain a valid class file
+	 */
+	public static ClassFile read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		if(data.readInt() != MAGIC) throw new IOException("Not a class file");
+		skip(data, 4);
+
+		Object[] pool = readConstantPool(data);
+
+		skip(data, 2);
+		String name = className(pool, data.readUnsignedShort());
+		int superIndex = data.readUnsignedShort();
+		String superclass = superIndex == 0? null : className(pool, superIndex);
+
+		String[] interfaces = new String[data.readUnsignedShort()];
+		for(int i = 0; i < interfaces.length; i++){
+			interfaces[i] = className(pool, data.readUnsignedShort());
+		}
+
+		// Only annotations on static fields are needed
+		Set<String> staticFieldAnnotations = new HashSet<>();
+		int fields = data.readUnsignedShort();
+		for(int i = 0; i < fields; i++){
+			boolean isStatic = Modifier.isStatic(data.readUnsignedShort());
+			skip(data, 4);
+			Set<String> fieldAnnotations = readAnnotations(data, pool);
+			if(isStatic) staticFieldAnnotations.addAll(fieldAnnotations);
+		}
+
+		int methods = data.readUnsignedShort();
+		for(int i = 0; i < methods; i++){
+			skip(data, 6);
+			skipAttributes(data);
+		}
+
+		Set<String> annotations = readAnnotations(data, pool);
+		return new ClassFile(name, superclass, interfaces, annotations, staticFieldAnnotations);
+	}
+
+	/**
+	 * Reads the constant pool, keeping only UTF8 strings and
+	 * class references.
+	 * @param data The stream positioned at the constant pool count
+	 * @return An array of pool entries, where UTF8 strings are stored as Strings
+	 * and class references as Integers referencing the UTF8 name
+	 * @throws IOException If the constant pool is invalid
+	 */
+	private static Object[] readConstantPool(DataInputStream data) throws IOException {
+		Object[] pool = new Object[data.readUnsignedShort()];
+		for(int i = 1; i < pool.length; i++){
+			int tag = data.readUnsignedByte();
+			switch(tag){
+				case 1: pool[i] = data.readUTF(); break;
+				case 7: pool[i] = data.readUnsignedShort(); break;
+				case 8: case 16: case 19: case 20: skip(data, 2); break;
+				case 15: skip(data, 3); break;
+				case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: skip(data, 4); break;
+				// Longs and doubles take up two entries in the pool
+				case 5: case 6: skip(data, 8); i++; break;
+				default: throw new IOException("Invalid constant pool tag " + tag);
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * Reads the attributes of a class or field, returning the
+	 * names of any runtime visible annotations and skipping all
+	 * other attributes.
+	 * @param data The stream positioned at the attribute count
+	 * @param pool The constant pool
+	 * @return The class names of all annotations
+	 * @throws IOException If the attributes cannot be read
+	 */
+	private static Set<String> readAnnotations(DataInputStream data, Object[] pool) throws IOException {
+		Set<String> annotations = Collections.emptySet();
+		int attributes = data.readUnsignedShort();
+		for(int i = 0; i < attributes; i++){
+			String attribute = (String) pool[data.readUnsignedShort()];
+			int length = data.readInt();
+			if(ANNOTATIONS_ATTRIBUTE.equals(attribute)){
+				annotations = new HashSet<>();
+				int count = data.readUnsignedShort();
+				for(int j = 0; j < count; j++){
+					annotations.add(descriptorToName((String) pool[data.readUnsignedShort()]));
+					skipElementValuePairs(data);
+				}
+			}
+			else skip(data, length);
+		}
+		return annotations;
+	}
+
+	/**
+	 * Skips all attributes of a method
+	 * @param data The stream positioned at the attribute count
+	 * @throws IOException If the attributes cannot be read
+	 */
+	private static void skipAttributes(DataInputStream data) throws IOException {
+		int attributes = data.readUnsignedShort();
+		for(int i = 0; i < attributes; i++){
+			skip(data, 2);
+			skip(data, data.readInt());
+		}
+	}
+
+	/**
+	 * Skips the element value pairs of an annotation
+	 * @param data The stream positioned at the pair count
+	 * @throws IOException If the annotation cannot be read
+	 */
+	private static void skipElementValuePairs(DataInputStream data) throws IOException {
+		int pairs = data.readUnsignedShort();
+		for(int i = 0; i < pairs; i++){
+			skip(data, 2);
+			skipElementValue(data);
+		}
+	}
+
+	/**
+	 * Skips a single annotation element value
+	 * @param data The stream positioned at the element value tag
+	 * @throws IOException If the element value is invalid
+	 */
+	private static void skipElementValue(DataInputStream data) throws IOException {
+		int tag = data.readUnsignedByte();
+		switch(tag){
+			case 'e': skip(data, 4); break;
+			case '@': skip(data, 2); skipElementValuePairs(data); break;
+			case '[':
+				int values = data.readUnsignedShort();
+				for(int i = 0; i < values; i++) skipElementValue(data);
+				break;
+			default: skip(data, 2);
+		}
+	}
+
+	/**
+	 * Skips a number of bytes in the stream
+	 * @param data The stream to skip bytes in
+	 * @param n The number of bytes to skip
+	 * @throws IOException If the end of the stream is reached
+	 */
+	private static void skip(DataInputStream data, int n) throws IOException {
+		if(data.skipBytes(n) != n) throw new EOFException();
+	}
+
+	/**
+	 * @param pool The constant pool
+	 * @param index The index of a class reference in the pool
+	 * @return The binary name of the referenced class
+	 */
+	private static String className(Object[] pool, int index){
+		String internalName = (String) pool[(Integer) pool[index]];
+		return internalName.replace('/', '.');
+	}
+
+	/**
+	 * @param descriptor A field descriptor e.g. <code>Lorg/example/Annotation;</code>
+	 * @return The class name e.g. <code>org.example.Annotation</code>
+	 */
+	private static String descriptorToName(String descriptor){
+		return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+	}
+
+}
@@ -0,0 +1,87 @@
+package org.proton_di.scanner.resources;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A class for resolving classes within a 
+ * standard directory.
+ * 
+ * @author Luke Stevens
+ */
+public class ClasspathResourceRoot extends ResourceRoot {
+
+	public ClasspathResourceRoot(String path) {
+		super(path);
+	}
+	
+	public ClasspathResourceRoot(String path, ScanMode mode) {
+		super(path, mode);
+	}
+	
+	ClasspathResourceRoot(String path, ScanMode mode, ClassLoader loader) {
+		super(path, mode, loader);
+	}
+	
+	@Override
+	void loadClasses(){
+		File root = new File(path);
+		if(root.isDirectory()) classes.addAll(loadClasses(path, root, ""));
+		else addClass(classes, path, root);
+	}
+	
+	/**
+	 * Loads all classes recursively from within a given
+	 * directory. When running within a ForkJoinPool each
+	 * sub directory is scanned as a separate task.<br>
+	 * Files are scanned in name order, followed by sub directories,
+	 * so the order of classes is always the same. Directories for packages
+	 * excluded by the {@link ScanFilter} are never listed.
+	 * @param root The classpath root
+	 * @param dir The directory to scan
+	 * @param packageName The name of the package the directory represents
+	 * @return All classes within the directory
+	 */
+	private List<Class<?>> loadClasses(String root, File dir, String packageName){
+		List<Class<?>> found = new ArrayList<>();
+		List<ForkJoinTask<List<Class<?>>>> subdirectories = new ArrayList<>();
+		
+		File[] files = dir.listFiles();
+		if(files == null) return found;
+		Arrays.sort(files);
+		
+		for(File file : files){
+			if(file.isDirectory()) {
+				String subpackage = packageName.isEmpty()? file.getName() : packageName + "." + file.getName();
+				if(filter.acceptsPackage(subpackage)) subdirectories.add(fork(() -> loadClasses(root, file, subpackage)));
+			}
+			else addClass(found, root, file);
+		}
+		
+		for(ForkJoinTask<List<Class<?>>> subdirectory : subdirectories){
+			found.addAll(subdirectory.join());
+		}
+		return found;
+	}
+	
+	/**
+	 * Loads a single class file from within the directory
+	 * @param found The list to add the class to if loaded
+	 * @param root The classpath root
+	 * @param file The file to load
+	 */
+	private void addClass(List<Class<?>> found, String root, File file){
+		Class<?> c = loadClass(root, file.getPath(), () -> {
+			try(InputStream in = new FileInputStream(file)){
+				return ClassFile.read(in);
+			}
+		});
+		if(c != null) found.add(c);
+	}
+
+}
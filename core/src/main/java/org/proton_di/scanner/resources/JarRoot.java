@@ -0,0 +1,65 @@
+package org.proton_di.scanner.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.proton_di.scanner.ClassScanningException;
+
+/**
+ * A class for resolving classes with a 
+ * jar file on the classpath
+ * 
+ * @author Luke Stevens
+ */
+public class JarRoot extends ResourceRoot {
+
+	public JarRoot(String path) {
+		super(path);
+	}
+	
+	public JarRoot(String path, ScanMode mode) {
+		super(path, mode);
+	}
+	
+	JarRoot(String path, ScanMode mode, ClassLoader loader) {
+		super(path, mode, loader);
+	}
+	
+	/**
+	 * Loads all classes from the jar. Entry names are read from
+	 * the central directory, so only <code>.class</code> entries
+	 * are ever read or inflated.
+	 */
+	@Override
+	void loadClasses(){
+		try(ZipFile jar = new ZipFile(path)){
+			Enumeration<? extends ZipEntry> entries = jar.entries();
+			while(entries.hasMoreElements()){
+				ZipEntry entry = entries.nextElement();
+				if(!entry.isDirectory() && entry.getName().endsWith(".class")){
+					Class<?> c = loadClass("", entry.getName(), () -> read(jar, entry));
+					if(c != null) classes.add(c);
+				}
+			}
+		} catch(IOException e){
+			throw new ClassScanningException(e);
+		}
+	}
+	
+	/**
+	 * Reads a single class file from the jar
+	 * @param jar The jar to read from
+	 * @param entry The class file entry
+	 * @return The class file
+	 * @throws IOException If the entry cannot be read
+	 */
+	private ClassFile read(ZipFile jar, ZipEntry entry) throws IOException {
+		try(InputStream in = jar.getInputStream(entry)){
+			return ClassFile.read(in);
+		}
+	}
+
+}
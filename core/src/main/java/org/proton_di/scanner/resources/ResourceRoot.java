@@ -0,0 +1,219 @@
+package org.proton_di.scanner.resources;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+
+import org.proton_di.configuration.Configuration;
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.inject.config.Inject;
+
+/**
+ * An abstract class to represent a root resource
+ * on the classpath. This may be a standard directory
+ * or a jar.
+ * 
+ * @author Luke Stevens
+ */
+public abstract class ResourceRoot {
+	
+	/**
+	 * Annotations that mark a class as needing to be loaded when
+	 * scanning in {@link ScanMode#BYTECODE} mode.
+	 */
+	static final Set<String> CANDIDATE_ANNOTATIONS = new HashSet<>(Arrays.asList(
+			Dependency.class.getName(),
+			Configuration.class.getName(),
+			Qualifier.class.getName()));
+	
+	String path;
+	ScanMode mode;
+	ClassLoader loader;
+	ScanFilter filter = ScanFilter.fromProperties();
+	List<Class<?>> classes = new ArrayList<>();
+	
+	// Classes may be found concurrently, so are ordered by the classes list when retrieved
+	Set<Class<?>> staticInjection = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Constructs a new ResourceRoot and loads all classes from it
+	 * using the {@link ScanMode} set in the system properties.
+	 * @param path representation the path to the resource
+	 */
+	public ResourceRoot(String path) {
+		this(path, ScanMode.fromProperties());
+	}
+	
+	/**
+	 * Constructs a new ResourceRoot and loads all classes from it
+	 * @param path representation the path to the resource
+	 * @param mode How classes should be inspected when scanning
+	 */
+	public ResourceRoot(String path, ScanMode mode) {
+		this(path, mode, ClassLoader.getSystemClassLoader());
+	}
+	
+	/**
+	 * Constructs a new ResourceRoot and loads all classes from it
+	 * @param path representation the path to the resource
+	 * @param mode How classes should be inspected when scanning
+	 * @param loader The class loader to load classes with
+	 */
+	ResourceRoot(String path, ScanMode mode, ClassLoader loader) {
+		this.path = path;
+		this.mode = mode;
+		this.loader = loader;
+		loadClasses();
+	}
+	
+	/**
+	 * Loads a single class. If it is
+	 * not a <code>.class</code> file, is excluded by the {@link ScanFilter}
+	 * or cannot be found then it is simply ignored. In {@link ScanMode#BYTECODE} mode
+	 * the class is also ignored if it is not a candidate for injection.<br>
+	 * The class file is read in either mode, so classes with static fields
+	 * annotated with <code>@Inject</code> are recorded without reflection.
+	 * @param root The classpath root to be removed when
+	 * creating the fully qualified class name needed to
+	 * load the class.
+	 * @param path The path to the file to load.
+	 * @param source The source to read the class file from
+	 * @return The loaded class, or null if it has been ignored
+	 */
+	Class<?> loadClass(String root, String path, ClassFileSource source){
+		
+		// Removes line separators from root path
+		root = root.replaceAll("\\\\|\\/", ".");
+		
+		if(!path.endsWith(".class")) return null;
+
+		// Formats the path name to load it as a class
+		String name = path.replaceAll("\\\\|\\/", ".").replace(root, "").replace(".class", "");
+		if(name.startsWith(".")) name = name.substring(1);
+		
+		// Versions of classes in multi-release jars are loaded by their base name
+		if(name.startsWith("META-INF.")) return null;
+
+		if(!filter.acceptsClass(name)) return null;
+		
+		ClassFile file = read(source);
+		if(!isCandidate(file)) return null;
+		
+		Class<?> c = loadClass(name);
+		if(c != null && hasStaticInjection(file)) staticInjection.add(c);
+		return c;
+	}
+	
+	/**
+	 * Loads a single class by name. If it cannot be 
+	 * found then it is simply ignored.
+	 * @param name The binary name of the class
+	 * @return The loaded class, or null if it cannot be found
+	 */
+	Class<?> loadClass(String name){
+		try{
+			return Class.forName(name, false, loader);
+		} catch(NoClassDefFoundError | ClassNotFoundException e){
+			// Just don't load the class if it can't be found
+			return null;
+		}
+	}
+	
+	/**
+	 * Reads a class file, ignoring files that aren't valid classes
+	 * @param source The source to read the class file from
+	 * @return The class file, or null if it can't be read
+	 */
+	ClassFile read(ClassFileSource source){
+		try{
+			return source.read();
+		} catch(IOException e){
+			return null;
+		}
+	}
+	
+	/**
+	 * Checks whether a class should be loaded. In {@link ScanMode#REFLECTION}
+	 * mode every class is loaded. In {@link ScanMode#BYTECODE} mode only
+	 * classes annotated with a Proton annotation, or with static fields
+	 * annotated with <code>@Inject</code> are loaded.
+	 * @param file The class file, or null if it isn't a valid class
+	 * @return True if the class should be loaded
+	 */
+	boolean isCandidate(ClassFile file){
+		if(mode == ScanMode.REFLECTION) return true;
+		if(file == null) return false;
+		
+		for(String annotation : file.getAnnotations()){
+			if(CANDIDATE_ANNOTATIONS.contains(annotation)) return true;
+		}
+		return hasStaticInjection(file);
+	}
+	
+	/**
+	 * @param file The class file, or null if it isn't a valid class
+	 * @return True if the class declares static fields annotated with <code>@Inject</code>
+	 */
+	boolean hasStaticInjection(ClassFile file){
+		return file != null && file.getStaticFieldAnnotations().contains(Inject.class.getName());
+	}
+	
+	/**
+	 * Loads all classes from this resource
+	 */
+	abstract void loadClasses();
+	
+	/**
+	 * Runs part of a scan as a separate task. If the scan is
+	 * running within a ForkJoinPool then the task is forked so it
+	 * can run in parallel, otherwise it is run immediately.
+	 * @param scan The part of the scan to run
+	 * @return The task, which can be joined to get its result
+	 */
+	static <T> ForkJoinTask<T> fork(Callable<T> scan){
+		ForkJoinTask<T> task = ForkJoinTask.adapt(scan);
+		if(ForkJoinTask.inForkJoinPool()) task.fork();
+		else task.invoke();
+		return task;
+	}
+	
+	/**
+	 * @return All classes from this resource
+	 */
+	public List<Class<?>> getClasses(){
+		return classes;
+	}
+	
+	/**
+	 * @return All classes from this resource which declare static
+	 * fields annotated with <code>@Inject</code>, found while scanning
+	 */
+	public List<Class<?>> getClassesWithStaticInjection(){
+		List<Class<?>> found = new ArrayList<>();
+		for(Class<?> c : classes){
+			if(staticInjection.contains(c)) found.add(c);
+		}
+		return found;
+	}
+	
+	/**
+	 * A source to read a single class file from
+	 */
+	@FunctionalInterface
+	interface ClassFileSource {
+		
+		/**
+		 * @return The class file read from this source
+		 * @throws IOException If the class file cannot be read
+		 */
+		ClassFile read() throws IOException;
+	}
+
+}
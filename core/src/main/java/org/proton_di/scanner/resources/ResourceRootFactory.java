@@ -0,0 +1,233 @@
+package org.proton_di.scanner.resources;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+
+import org.proton_di.inject.Parallelism;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.scanner.ClassScanningException;
+
+/**
+ * A factory for creating ResourceRoots from 
+ * the paths in the <code>java.class.path</code>
+ * System variable.
+ * 
+ * @author Luke Stevens
+ */
+public class ResourceRootFactory {
+	
+	private String[] paths;
+	private ClassLoader loader;
+	private ScanMode mode = ScanMode.fromProperties();
+	private ScanCache cache = ScanCache.fromProperties(mode);
+	
+	/**
+	 * Constructs a new ResourceRootFactory, and retrieves the
+	 * class path resources using the <code>java.class.path</code>
+	 * system property.
+	 */
+	public ResourceRootFactory(){
+		this(System.getProperty("java.class.path"), ClassLoader.getSystemClassLoader());
+	}
+	
+	/**
+	 * Constructs a new ResourceRootFactory for a specific class path,
+	 * e.g. one loaded by a separate class loader.
+	 * @param classpath The class path resources, separated by the
+	 * system path separator
+	 * @param loader The class loader to load classes with, which
+	 * must be able to load classes from the class path
+	 */
+	public ResourceRootFactory(String classpath, ClassLoader loader){
+		this.paths = classpath.split(File.pathSeparator);
+		this.loader = loader;
+	}
+	
+	/**
+	 * Gets all ResourceRoots for the class path. The roots are
+	 * scanned concurrently on a ForkJoinPool, with parallelism set by
+	 * the property <code>proton.scan.parallelism</code> (defaulting to
+	 * the number of available processors).<br>
+	 * Roots are always returned in class path order.
+	 * @return Get all ResourceRoots for the class path
+	 */
+	public List<ResourceRoot> getRoots(){
+		int parallelism = getParallelism();
+		List<ResourceRoot> roots;
+		
+		if(parallelism <= 1) roots = getRoots(paths);
+		else {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try{
+				roots = pool.invoke(ForkJoinTask.adapt(() -> getRoots(paths)));
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		if(cache != null) writeCache(roots);
+		return roots;
+	}
+	
+	/**
+	 * Creates a fingerprint of every root on the class path, along with
+	 * the scan settings, without scanning them. Each root is fingerprinted
+	 * the same way as in the scan cache, so adding, removing or modifying
+	 * any file changes the fingerprint.
+	 * @return The fingerprint of the class path
+	 */
+	public String getFingerprint(){
+		CRC32 hash = new CRC32();
+		hash.update((mode.name() + " " + ScanFilter.fromProperties() + "\n").getBytes(StandardCharsets.UTF_8));
+		for(String path : paths){
+			String normalised = normalisePath(path);
+			String root = noPathPrefix(normalised)? getCodeSource() : normalised;
+			hash.update((root + "=" + ScanCache.fingerprint(new File(root)) + "\n").getBytes(StandardCharsets.UTF_8));
+		}
+		return Long.toHexString(hash.getValue());
+	}
+	
+	/**
+	 * Creates a fingerprint for a single jar or directory, from the size and
+	 * modification time of its files, without reading any of them. This is
+	 * the same fingerprint used for each root in the scan cache.
+	 * @param root The path of the jar or directory
+	 * @return The fingerprint for the root
+	 */
+	public static String getRootFingerprint(String root){
+		return ScanCache.fingerprint(new File(root));
+	}
+	
+	/**
+	 * Writes the classes found in each root to the scan cache
+	 * @param roots All roots on the class path
+	 */
+	private void writeCache(List<ResourceRoot> roots){
+		List<String> rootPaths = new ArrayList<>();
+		for(ResourceRoot root : roots){
+			rootPaths.add(root.path);
+		}
+		cache.write(rootPaths);
+	}
+	
+	/**
+	 * Creates a ResourceRoot for each path. When running within a
+	 * ForkJoinPool each root is scanned as a separate task.
+	 * @param paths The paths to create ResourceRoots for
+	 * @return A ResourceRoot for each path, in the same order
+	 */
+	private List<ResourceRoot> getRoots(String[] paths){
+		List<ForkJoinTask<ResourceRoot>> tasks = new ArrayList<>();
+		for(String path : paths){
+			String normalised = normalisePath(path);
+			tasks.add(ResourceRoot.fork(() -> getRoot(normalised)));
+		}
+		
+		List<ResourceRoot> roots = new ArrayList<>();
+		for(ForkJoinTask<ResourceRoot> task : tasks){
+			roots.add(task.join());
+		}
+		return roots;
+	}
+	
+	/**
+	 * @return The number of threads to use when scanning, from
+	 * the property <code>proton.scan.parallelism</code>
+	 */
+	private int getParallelism(){
+		return Parallelism.fromProperty("proton.scan.parallelism", Runtime.getRuntime().availableProcessors(), ClassScanningException::new);
+	}
+	
+	/**
+	 * Gets the relevant resource root associated with
+	 * this path.
+	 * @param path The resource path
+	 * @return A ResourceRoot implementation for the 
+	 * supplied resource path.
+	 */
+	private ResourceRoot getRoot(String path){
+		if(noPathPrefix(path)) return getRoot(getCodeSource(), true);
+		else return getRoot(path, isJar(path));
+	}
+	
+	/**
+	 * Gets the resource root for a path, using the scan
+	 * cache if enabled.
+	 * @param path The resource path
+	 * @param jar Whether the path represents a jar file
+	 * @return A ResourceRoot implementation for the 
+	 * supplied resource path.
+	 */
+	@SuppressWarnings("try")
+	private ResourceRoot getRoot(String path, boolean jar){
+		try(EventSpan event = ProtonEvents.beginScan(path)){
+			if(cache != null) return cache.getRoot(path, mode, loader, () -> scanRoot(path, jar));
+			else return scanRoot(path, jar);
+		}
+	}
+	
+	/**
+	 * Scans a resource root
+	 * @param path The resource path
+	 * @param jar Whether the path represents a jar file
+	 * @return The scanned ResourceRoot
+	 */
+	private ResourceRoot scanRoot(String path, boolean jar){
+		if(jar) return new JarRoot(path, mode, loader);
+		else return new ClasspathResourceRoot(path, mode, loader);
+	}
+	
+	/**
+	 * Checks if a root has a path prefix, or if it is a lone file
+	 * @param root The path representing this resource root
+	 * @return True if the root represents a file without
+	 * an absolute path.
+	 */
+	private boolean noPathPrefix(String root){
+		return !root.matches("(\\\\|\\/|[A-Z]:).*");
+	}
+	
+	/**
+	 * Checks if a resource root is a jar file
+	 * @param root The path representing this resource root
+	 * @return True if the resource root is a jar file, false
+	 * if not.
+	 */
+	private boolean isJar(String root){
+		return root.endsWith(".jar");
+	}
+	
+	/**
+	 * This matches windows file patterns (e.g. \C:) and removes
+	 * the leading '\'.
+	 * @param path The path to normalise
+	 * @return The normalised path
+	 */
+	private String normalisePath(String path){
+		return path.matches("(\\\\|\\/)[A-Z]:.*")? path.substring(1) : path;
+	}
+	
+	/**
+	 * @return The directory or file where the code is currently being executed from
+	 */
+	private String getCodeSource() {
+		try{
+			String path = this.getClass().getProtectionDomain().getCodeSource().getLocation().getPath();
+			String decodedPath = URLDecoder.decode(path, "UTF-8");
+			
+			return normalisePath(decodedPath);
+			
+		} catch(UnsupportedEncodingException e){
+			throw new ClassScanningException(e);
+		}
+	}
+
+}
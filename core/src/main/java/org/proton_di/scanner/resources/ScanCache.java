@@ -0,0 +1,270 @@
+package org.proton_di.scanner.resources;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent cache of the classes found in each {@link ResourceRoot},
+ * stored in the file set by the property <code>proton.scan.cache</code>.<br>
+ *
+ * Each root is stored with a fingerprint of its size, modification time
+ * and a hash of its contents listing, along with the classes found and those
+ * declaring static fields annotated with <code>@Inject</code>. On the next start, roots with an
+ * unchanged fingerprint are loaded from the cached class names rather
+ * than being scanned again.
+ *
+ * @author Luke Stevens
+ */
+class ScanCache {
+
+	private static final Logger LOGGER = Logger.getLogger(ScanCache.class.getName());
+
+	private static final String HEADER = "# Proton scan cache v2";
+	private static final String SETTINGS = "settings=";
+	private static final String ROOT = "root=";
+	private static final String CLASS = "class=";
+	private static final String STATIC_INJECTION = "static=";
+
+	private final Path file;
+	private final String settings;
+	private final Map<String, CachedRoot> cached = new ConcurrentHashMap<>();
+	private final Map<String, CachedRoot> current = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new ScanCache and reads any existing cache file.
+	 * If the existing cache was written with different scan settings
+	 * it is ignored.
+	 * @param file The location of the cache file
+	 * @param settings A description of the scan settings the cache is valid for
+	 */
+	ScanCache(Path file, String settings){
+		this.file = file;
+		this.settings = settings;
+		if(Files.isRegularFile(file)) read();
+	}
+
+	/**
+	 * @param mode The mode used when scanning
+	 * @return A ScanCache using the file set in the property <code>proton.scan.cache</code>,
+	 * or null if the property has not been set
+	 */
+	static ScanCache fromProperties(ScanMode mode){
+		String location = System.getProperty("proton.scan.cache");
+		String settings = mode.name() + " " + ScanFilter.fromProperties();
+		return location == null? null : new ScanCache(new File(location).toPath(), settings);
+	}
+
+	/**
+	 * Gets the ResourceRoot for a path, either from the cache if the
+	 * root is unchanged, or by scanning it.
+	 * @param path The path of the root
+	 * @param mode The mode to use if loading classes from the cache
+	 * @param loader The class loader to use if loading classes from the cache
+	 * @param scan Scans the root if it has changed
+	 * @return The ResourceRoot for the path
+	 */
+	ResourceRoot getRoot(String path, ScanMode mode, ClassLoader loader, Supplier<ResourceRoot> scan){
+		String fingerprint = fingerprint(new File(path));
+		CachedRoot entry = cached.get(path);
+
+		ResourceRoot root;
+		if(entry != null && entry.fingerprint.equals(fingerprint)){
+			root = new CachedResourceRoot(path, mode, loader, entry.classNames, new HashSet<>(entry.staticInjectionNames));
+		}
+		else {
+			root = scan.get();
+			List<String> classNames = new ArrayList<>();
+			for(Class<?> c : root.getClasses()) classNames.add(c.getName());
+			List<String> staticInjectionNames = new ArrayList<>();
+			for(Class<?> c : root.getClassesWithStaticInjection()) staticInjectionNames.add(c.getName());
+			entry = new CachedRoot(fingerprint, classNames, staticInjectionNames);
+		}
+
+		current.put(path, entry);
+		return root;
+	}
+
+	/**
+	 * Writes all roots retrieved since construction to the cache
+	 * file, if any have changed. The cache is written to a temporary
+	 * file, then moved over the existing cache, so readers never see
+	 * a partially written cache. If it cannot be written a warning is
+	 * logged, as the cache is only an optimisation.
+	 * @param paths The paths of all roots, in class path order
+	 */
+	void write(List<String> paths){
+		if(current.equals(cached)) return;
+
+		Path temp = null;
+		try{
+			Path parent = file.toAbsolutePath().getParent();
+			if(parent != null) Files.createDirectories(parent);
+
+			temp = Files.createTempFile(parent, "proton", ".tmp");
+			try(BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)){
+				writer.write(HEADER + "\n");
+				writer.write(SETTINGS + settings + "\n");
+				for(String path : paths){
+					CachedRoot entry = current.get(path);
+					if(entry == null) continue;
+
+					writer.write(ROOT + entry.fingerprint + "|" + path + "\n");
+					for(String className : entry.classNames){
+						writer.write(CLASS + className + "\n");
+					}
+					for(String className : entry.staticInjectionNames){
+						writer.write(STATIC_INJECTION + className + "\n");
+					}
+				}
+			}
+			move(temp, file);
+		} catch(IOException e){
+			LOGGER.log(Level.WARNING, "Failed to write scan cache " + file + ": " + e);
+		} finally {
+			if(temp != null) deleteQuietly(temp);
+		}
+	}
+
+	/**
+	 * Moves a file atomically, if the file system supports it.
+	 * @param source The file to move
+	 * @param target The file to replace
+	 * @throws IOException If the file cannot be moved
+	 */
+	private static void move(Path source, Path target) throws IOException {
+		try{
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch(AtomicMoveNotSupportedException e){
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Deletes a file if it still exists, ignoring any failure
+	 * @param path The file to delete
+	 */
+	private static void deleteQuietly(Path path){
+		try{
+			Files.deleteIfExists(path);
+		} catch(IOException e){
+			// Left for the operating system to clean up
+		}
+	}
+
+	/**
+	 * Reads the existing cache file. If it cannot be read, or was
+	 * written with different settings, it is ignored and all roots
+	 * will be scanned.
+	 */
+	private void read(){
+		try(BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)){
+			if(!HEADER.equals(reader.readLine()) || !(SETTINGS + settings).equals(reader.readLine())) return;
+
+			CachedRoot entry = null;
+			for(String line = reader.readLine(); line != null; line = reader.readLine()){
+				if(line.startsWith(ROOT)){
+					String[] root = line.substring(ROOT.length()).split("\\|", 2);
+					entry = new CachedRoot(root[0], new ArrayList<>(), new ArrayList<>());
+					cached.put(root[1], entry);
+				}
+				else if(line.startsWith(CLASS) && entry != null){
+					entry.classNames.add(line.substring(CLASS.length()));
+				}
+				else if(line.startsWith(STATIC_INJECTION) && entry != null){
+					entry.staticInjectionNames.add(line.substring(STATIC_INJECTION.length()));
+				}
+			}
+		} catch(IOException | RuntimeException e){
+			// An unreadable cache is ignored, and every root rescanned
+			cached.clear();
+		}
+	}
+
+	/**
+	 * Creates a fingerprint for a root. For files this is made up
+	 * of the size and modification time. For directories the
+	 * relative path, size and modification time of every file are hashed.
+	 * @param root The root file or directory
+	 * @return The fingerprint for the root
+	 */
+	static String fingerprint(File root){
+		if(!root.isDirectory()) return root.length() + ":" + root.lastModified();
+
+		CRC32 hash = new CRC32();
+		long[] totals = new long[2];
+		fingerprint(root, "", hash, totals);
+		return totals[0] + ":" + totals[1] + ":" + Long.toHexString(hash.getValue());
+	}
+
+	/**
+	 * Recursively adds every file within a directory to a fingerprint
+	 * @param dir The directory to add
+	 * @param prefix The path of the directory relative to the root
+	 * @param hash The hash of all file paths, sizes and modification times
+	 * @param totals The total size, and latest modification time, of all files
+	 */
+	private static void fingerprint(File dir, String prefix, CRC32 hash, long[] totals){
+		File[] files = dir.listFiles();
+		if(files == null) return;
+		Arrays.sort(files);
+
+		for(File file : files){
+			String name = prefix + file.getName();
+			if(file.isDirectory()) fingerprint(file, name + "/", hash, totals);
+			else {
+				long size = file.length();
+				long modified = file.lastModified();
+				hash.update((name + ":" + size + ":" + modified + "\n").getBytes(StandardCharsets.UTF_8));
+				totals[0] += size;
+				totals[1] = Math.max(totals[1], modified);
+			}
+		}
+	}
+
+	/**
+	 * The cached fingerprint, class names and static injection class names for a single root
+	 */
+	private static class CachedRoot {
+
+		final String fingerprint;
+		final List<String> classNames;
+		final List<String> staticInjectionNames;
+
+		CachedRoot(String fingerprint, List<String> classNames, List<String> staticInjectionNames){
+			this.fingerprint = fingerprint;
+			this.classNames = classNames;
+			this.staticInjectionNames = staticInjectionNames;
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(!(o instanceof CachedRoot)) return false;
+			CachedRoot other = (CachedRoot) o;
+			return fingerprint.equals(other.fingerprint) && classNames.equals(other.classNames)
+					&& staticInjectionNames.equals(other.staticInjectionNames);
+		}
+
+		@Override
+		public int hashCode(){
+			return fingerprint.hashCode();
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+package org.proton_di.scanner.resources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A filter to restrict which packages are scanned on the class path.<br>
+ * 
+ * Base packages to include are set using the property <code>proton.scan.packages</code>
+ * and packages to exclude using <code>proton.scan.exclude</code>, both as comma
+ * separated lists e.g. <code>-Dproton.scan.exclude=io.netty,com.fasterxml</code>.
+ * If no packages are included then every package not excluded is scanned.
+ * 
+ * @author Luke Stevens
+ */
+public class ScanFilter {
+	
+	private final List<String> includes;
+	private final List<String> excludes;
+	
+	/**
+	 * Constructs a new ScanFilter
+	 * @param includes The base packages to scan, or an empty
+	 * list to scan all packages
+	 * @param excludes The base packages to never scan
+	 */
+	public ScanFilter(List<String> includes, List<String> excludes) {
+		this.includes = includes;
+		this.excludes = excludes;
+	}
+	
+	/**
+	 * @return A ScanFilter using the packages set in the properties
+	 * <code>proton.scan.packages</code> and <code>proton.scan.exclude</code>
+	 */
+	public static ScanFilter fromProperties(){
+		return new ScanFilter(parse("proton.scan.packages"), parse("proton.scan.exclude"));
+	}
+	
+	/**
+	 * Checks whether a class should be scanned
+	 * @param className The binary name of the class
+	 * @return True if the class is within an included package
+	 * and not within an excluded one.
+	 */
+	public boolean acceptsClass(String className){
+		return !isWithin(className, excludes) && (includes.isEmpty() || isWithin(className, includes));
+	}
+	
+	/**
+	 * Checks whether a package should be scanned. A package is scanned if it
+	 * is not excluded, and either it is within an included package or 
+	 * contains an included package.
+	 * @param packageName The name of the package, or an empty String
+	 * for the default package
+	 * @return True if classes within this package, or any sub package, 
+	 * could be accepted by this filter.
+	 */
+	public boolean acceptsPackage(String packageName){
+		if(isWithin(packageName, excludes)) return false;
+		if(includes.isEmpty() || packageName.isEmpty() || isWithin(packageName, includes)) return true;
+		
+		for(String include : includes){
+			if(include.startsWith(packageName + ".")) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks if a class or package is within any of a list of packages
+	 * @param name The name of the class or package
+	 * @param packages The packages to check against
+	 * @return True if the name is one of the packages or within one of them
+	 */
+	private static boolean isWithin(String name, List<String> packages){
+		for(String p : packages){
+			if(name.equals(p) || name.startsWith(p + ".")) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Parses a comma separated list of packages from a property
+	 * @param property The property to parse
+	 * @return A List of package names, empty if the property is not set
+	 */
+	private static List<String> parse(String property){
+		List<String> packages = new ArrayList<>();
+		String value = System.getProperty(property);
+		if(value == null) return packages;
+		
+		for(String p : value.split(",")){
+			if(!p.trim().isEmpty()) packages.add(p.trim());
+		}
+		return packages;
+	}
+	
+	@Override
+	public String toString() {
+		return "include" + includes + " exclude" + excludes;
+	}
+
+}
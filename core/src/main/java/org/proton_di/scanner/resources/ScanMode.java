@@ -0,0 +1,36 @@
+package org.proton_di.scanner.resources;
+
+/**
+ * An enum to determine how classes found on the class
+ * path are inspected during scanning.<br>
+ * 
+ * The mode is set using the property <code>proton.scan.mode</code>
+ * and defaults to {@link #REFLECTION}.
+ * 
+ * @author Luke Stevens
+ */
+public enum ScanMode {
+	
+	/**
+	 * Every class found is loaded, so all classes on the
+	 * class path are available from the ClassPath.
+	 */
+	REFLECTION,
+	
+	/**
+	 * Class files are read directly from their bytes, and only
+	 * classes annotated with Proton annotations, or with static fields
+	 * annotated with <code>@Inject</code>, are loaded.
+	 */
+	BYTECODE;
+	
+	/**
+	 * @return The scan mode set by the property <code>proton.scan.mode</code>,
+	 * or {@link #REFLECTION} if it has not been set.
+	 */
+	public static ScanMode fromProperties(){
+		String mode = System.getProperty("proton.scan.mode");
+		return mode == null? REFLECTION : valueOf(mode.trim().toUpperCase());
+	}
+
+}
@@ -0,0 +1,179 @@
+package org.proton_di.report;
+
+import org.proton_di.report.ProtonEvents.Kind;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder event types recorded by {@link ProtonEvents}.
+ * This class is only loaded once Flight Recorder is known to be
+ * available, and is compiled for Java 11 into <code>META-INF/versions/11</code>.<br>
+ * 
+ * Whether each event is enabled is cached, and read again whenever a
+ * recording starts or stops, so disabled events cost a single read
+ * and allocate nothing.
+ * 
+ * @author Luke Stevens
+ */
+class FlightEvents {
+	
+	private static final Kind[] KINDS = Kind.values();
+	private static final boolean CACHED = listen();
+	
+	// Indexed by kind, with the scan event last
+	private static volatile boolean[] enabled = readEnabled();
+	
+	private FlightEvents(){/* Hide public constructor in static class */}
+	
+	/**
+	 * Starts an event for an operation on a dependency, if enabled
+	 * @param kind The operation being recorded
+	 * @param dependency The dependency class the operation is for
+	 * @param qualifier The qualifier of the injector performing the operation
+	 * @return The started event, or {@link EventSpan#NONE} if disabled
+	 */
+	static EventSpan begin(Kind kind, Class<?> dependency, String qualifier){
+		if(!isEnabled(kind.ordinal())) return EventSpan.NONE;
+		
+		DependencyEvent event = create(kind);
+		event.dependencyClass = dependency;
+		event.qualifier = qualifier;
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * Starts an event for the scan of a class path root, if enabled
+	 * @param path The path of the root being scanned
+	 * @return The started event, or {@link EventSpan#NONE} if disabled
+	 */
+	static EventSpan beginScan(String path){
+		if(!isEnabled(KINDS.length)) return EventSpan.NONE;
+		
+		RootScannedEvent event = new RootScannedEvent();
+		event.path = path;
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * @param index The index of the event, as used by {@link #readEnabled()}
+	 * @return True if the event is enabled in any recording
+	 */
+	private static boolean isEnabled(int index){
+		if(CACHED) return enabled[index];
+		return index < KINDS.length? create(KINDS[index]).isEnabled() : new RootScannedEvent().isEnabled();
+	}
+	
+	/**
+	 * @return Whether each event is currently enabled, indexed by
+	 * kind with the scan event last
+	 */
+	private static boolean[] readEnabled(){
+		boolean[] read = new boolean[KINDS.length + 1];
+		for(Kind kind : KINDS){
+			read[kind.ordinal()] = create(kind).isEnabled();
+		}
+		read[KINDS.length] = new RootScannedEvent().isEnabled();
+		return read;
+	}
+	
+	/**
+	 * Registers a listener to read which events are enabled
+	 * whenever a recording changes state
+	 * @return True if the listener was registered, otherwise
+	 * each event is checked every time it is started
+	 */
+	private static boolean listen(){
+		try{
+			FlightRecorder.addListener(new FlightRecorderListener(){
+				@Override
+				public void recordingStateChanged(Recording recording){
+					enabled = readEnabled();
+				}
+			});
+			return true;
+		} catch(SecurityException | IllegalStateException e){
+			return false;
+		}
+	}
+	
+	/**
+	 * @param kind The operation being recorded
+	 * @return A new event for the operation
+	 */
+	private static DependencyEvent create(Kind kind){
+		switch(kind){
+			case SUPPLIER_CREATED: return new SupplierCreatedEvent();
+			case SINGLETON_CONSTRUCTED: return new SingletonConstructedEvent();
+			case INSTANCE_CREATED: return new InstanceCreatedEvent();
+			case STATIC_FIELDS_INJECTED: return new StaticFieldsInjectedEvent();
+			default: return new DependenciesInjectedEvent();
+		}
+	}
+	
+	@Category("Proton")
+	@Enabled(false)
+	@StackTrace(false)
+	abstract static class ProtonEvent extends Event implements EventSpan {
+		
+		@Override
+		public void close(){
+			end();
+			if(shouldCommit()) commit();
+		}
+	}
+	
+	abstract static class DependencyEvent extends ProtonEvent {
+		
+		@Label("Dependency Class")
+		Class<?> dependencyClass;
+		
+		@Label("Qualifier")
+		String qualifier;
+	}
+	
+	@Name("org.proton_di.ClassPathRootScanned")
+	@Label("Class Path Root Scanned")
+	@Description("A jar or directory on the class path scanned for classes")
+	static class RootScannedEvent extends ProtonEvent {
+		
+		@Label("Path")
+		String path;
+	}
+	
+	@Name("org.proton_di.DependencySupplierCreated")
+	@Label("Dependency Supplier Created")
+	@Description("The supplier for a dependency created while wiring an injector")
+	static class SupplierCreatedEvent extends DependencyEvent {}
+	
+	@Name("org.proton_di.SingletonConstructed")
+	@Label("Singleton Constructed")
+	@Description("The single instance of a singleton dependency constructed")
+	static class SingletonConstructedEvent extends DependencyEvent {}
+	
+	@Name("org.proton_di.InstanceCreated")
+	@Label("Instance Created")
+	@Description("A new instance of a MULTIPLE dependency created")
+	static class InstanceCreatedEvent extends DependencyEvent {}
+	
+	@Name("org.proton_di.StaticFieldsInjected")
+	@Label("Static Fields Injected")
+	@Description("Dependencies injected into the static fields of a class")
+	static class StaticFieldsInjectedEvent extends DependencyEvent {}
+	
+	@Name("org.proton_di.DependenciesInjected")
+	@Label("Dependencies Injected")
+	@Description("Dependencies injected into the fields of an object")
+	static class DependenciesInjectedEvent extends DependencyEvent {}
+
+}
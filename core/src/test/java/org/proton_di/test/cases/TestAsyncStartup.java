@@ -0,0 +1,102 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.AsyncStartup;
+import org.proton_di.test.objects.SomeObject;
+
+public class TestAsyncStartup {
+	
+	AtomicInteger executed = new AtomicInteger();
+	Executor executor = task -> {
+		executed.incrementAndGet();
+		new Thread(task).start();
+	};
+	
+	@Test
+	public void completesWithRootInjector() throws Exception {
+		Injector injector = InjectionManager.startAsync(executor).get(10, TimeUnit.SECONDS);
+		assertSame("Future not completed with root injector", InjectionManager.getRootInjector(), injector);
+	}
+	
+	@Test
+	public void startsOnce() {
+		CompletableFuture<Injector> first = InjectionManager.startAsync(executor);
+		int uses = executed.get();
+		
+		assertSame("Startup future not reused", first, InjectionManager.startAsync(executor));
+		assertSame("Startup future not reused", first, InjectionManager.startAsync());
+		assertEquals("Executor used after startup requested", uses, executed.get());
+		assertTrue("Executor used more than once", uses <= 1);
+	}
+	
+	@Test
+	public void dependentStagesSeeWiredContainer() {
+		SingletonDependency dependency = InjectionManager.startAsync(executor)
+				.thenApply(injector -> injector.getDependency(SingletonDependency.class))
+				.join();
+		
+		assertNotNull("Dependency not available after startup", dependency);
+		assertSame("Static field not injected before startup completed", dependency, SomeObject.singletonStaticInjectionTest());
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void executorRequired() {
+		InjectionManager.startAsync(null);
+	}
+	
+	@Test
+	public void startsWithParallelStaticInjection() throws Exception {
+		List<String> output = start();
+		assertTrue("Future not completed with root injector", output.contains("root=true"));
+		assertTrue("Static field not injected", output.contains("static=true"));
+		assertTrue("InjectableObject not injected in parallel", output.contains("injectable=true"));
+	}
+	
+	/**
+	 * Starts the container asynchronously in a new JVM, injecting static
+	 * fields on several threads, with the same class path and Proton
+	 * properties as this JVM
+	 * @return Every line printed by {@link AsyncStartup}
+	 */
+	private List<String> start() throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		for(String property : System.getProperties().stringPropertyNames()){
+			if(property.startsWith("proton.")) command.add("-D" + property + "=" + System.getProperty(property));
+		}
+		command.add("-Dproton.inject.parallelism=4");
+		command.add(AsyncStartup.class.getName());
+		
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		List<String> output = new ArrayList<>();
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))){
+			for(String line = reader.readLine(); line != null; line = reader.readLine()){
+				output.add(line);
+			}
+		}
+		
+		assertTrue("Startup timed out", process.waitFor(60, TimeUnit.SECONDS));
+		assertEquals("Startup failed: " + output, 0, process.exitValue());
+		return output;
+	}
+
+}
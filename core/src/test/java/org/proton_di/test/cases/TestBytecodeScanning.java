@@ -0,0 +1,59 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.URISyntaxException;
+import java.util.List;
+
+import org.junit.Test;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.scanner.resources.ClassFile;
+import org.proton_di.scanner.resources.ClasspathResourceRoot;
+import org.proton_di.scanner.resources.ResourceRoot;
+import org.proton_di.scanner.resources.ScanMode;
+import org.proton_di.test.config.Config;
+import org.proton_di.test.dependencies.BlankSuperClass;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.SomeObject;
+
+public class TestBytecodeScanning {
+	
+	@Test
+	public void readClassAnnotations() throws IOException {
+		ClassFile file = read(SingletonDependency.class);
+		assertEquals("Class name not read", SingletonDependency.class.getName(), file.getName());
+		assertTrue("Dependency annotation not read", file.getAnnotations().contains(Dependency.class.getName()));
+		assertTrue("Interface not read", file.getInterfaces().contains(Serializable.class.getName()));
+	}
+	
+	@Test
+	public void readStaticFieldAnnotations() throws IOException {
+		ClassFile file = read(SomeObject.class);
+		assertTrue("Static field annotation not read", file.getStaticFieldAnnotations().contains(Inject.class.getName()));
+		assertTrue("Class annotations read for unannotated class", file.getAnnotations().isEmpty());
+	}
+	
+	@Test
+	public void scanCandidatesOnly() throws URISyntaxException {
+		String path = new File(getClass().getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+		ResourceRoot root = new ClasspathResourceRoot(path, ScanMode.BYTECODE);
+		List<Class<?>> classes = root.getClasses();
+		
+		assertTrue("Dependency not loaded", classes.contains(SingletonDependency.class));
+		assertTrue("Configuration not loaded", classes.contains(Config.class));
+		assertTrue("Static injection class not loaded", classes.contains(SomeObject.class));
+		assertFalse("Class without annotations loaded", classes.contains(BlankSuperClass.class));
+	}
+	
+	private ClassFile read(Class<?> c) throws IOException {
+		try(InputStream in = c.getResourceAsStream(c.getSimpleName() + ".class")){
+			return ClassFile.read(in);
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package org.proton_di.test.cases;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.proton_di.scanner.ClassPath;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+import org.proton_di.test.dependencies.BlankSuperClass;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.suites.InjectionSuiteRunner;
+import org.proton_di.test.suites.InjectionTestSuite;
+
+import java.io.File;
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestClassPath {
+	
+	ClassPath classpath = ClassPath.getInstance();
+
+	@Test
+	public void filterByAnnotation(){
+		List<Class<?>> classes = classpath.getClassesWithAnnotation(RunWith.class);
+		assertFalse("List of classes annotated by RunWith is empty", classes.isEmpty());
+		assertTrue("First element actually " + classes.get(0), classes.get(0).equals(InjectionTestSuite.class));
+	}
+	
+	@Test
+	public void filterByPackage(){
+		List<Class<?>> classes = classpath.getClassesInPackage("org.proton_di.test.suites");
+		assertTrue("Expected 2 classes in package. Actually " + classes.size(), classes.size() == 2);
+		assertTrue("List does not contain InjectionTestSuite.class", classes.contains(InjectionTestSuite.class));
+		assertTrue("List does not contain InjectionSuiteRunner.class", classes.contains(InjectionSuiteRunner.class));
+	}
+	
+	@Test
+	public void filterByInterface(){
+		List<Class<?>> classes = classpath.getImplementingClasses(Serializable.class);
+		assertFalse("List of classes implementing Serializable is empty", classes.isEmpty());
+		assertTrue("List does not contain MultipleDependency", classes.contains(MultipleDependency.class));
+		assertTrue("List does not contain SingletonDependency", classes.contains(SingletonDependency.class));
+	}
+	
+	@Test
+	public void filterByPartialPackage(){
+		List<Class<?>> classes = classpath.getClassesInPackage("org.proton_di.test.suite");
+		assertTrue("Expected no classes in partial package name. Actually " + classes.size(), classes.isEmpty());
+		
+		classes = classpath.getClassesInPackage("org.proton_di.test");
+		assertTrue("List does not contain sub package class InjectionTestSuite.class", classes.contains(InjectionTestSuite.class));
+	}
+	
+	@Test
+	public void filterReturnsCopy(){
+		classpath.getClassesWithAnnotation(RunWith.class).clear();
+		classpath.getImplementingClasses(Serializable.class).clear();
+		classpath.getClassesInPackage("org.proton_di.test.suites").clear();
+		
+		assertFalse("Annotation index modified by caller", classpath.getClassesWithAnnotation(RunWith.class).isEmpty());
+		assertFalse("Interface index modified by caller", classpath.getImplementingClasses(Serializable.class).isEmpty());
+		assertFalse("Package tree modified by caller", classpath.getClassesInPackage("org.proton_di.test.suites").isEmpty());
+	}
+	
+	@Test
+	public void separateClassLoader() throws Exception {
+		File root = new File(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+		try(URLClassLoader loader = new URLClassLoader(new URL[]{ root.toURI().toURL() }, getClass().getClassLoader().getParent())){
+			ClassPath separate = new ClassPath(new ResourceRootFactory(root.getPath(), loader));
+			List<Class<?>> classes = separate.getClasses();
+			
+			assertFalse("No classes loaded by separate class loader", classes.isEmpty());
+			assertFalse("Class loaded by system class loader", classes.contains(BlankSuperClass.class));
+			for(Class<?> c : classes){
+				assertTrue("Class not loaded by separate class loader: " + c, c.getClassLoader() == loader);
+			}
+		}
+	}
+}
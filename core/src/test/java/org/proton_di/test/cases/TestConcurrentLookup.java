@@ -0,0 +1,64 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.test.dependencies.BlankSuperClass;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.dependencies.qualified.QualifiedDependency;
+import org.proton_di.test.objects.SomeObject;
+
+public class TestConcurrentLookup {
+	
+	private static final int THREADS = 32;
+	private static final int ITERATIONS = 10000;
+	
+	@Test
+	public void concurrentLookups() throws Exception {
+		Injector root = InjectionManager.getRootInjector();
+		Injector qualified = InjectionManager.getInjector("qual");
+		SingletonDependency singleton = root.getDependency(SingletonDependency.class);
+		
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try{
+			List<Future<?>> results = new ArrayList<>();
+			for(int t = 0; t < THREADS; t++){
+				results.add(executor.submit(() -> {
+					start.await();
+					for(int i = 0; i < ITERATIONS; i++){
+						assertSame("Different singleton returned from root", singleton, root.getDependency(SingletonDependency.class));
+						assertSame("Different singleton returned from qualified", singleton, qualified.getDependency(SingletonDependency.class));
+						assertNotNull("Multiple dependency not created", root.getDependency(MultipleDependency.class));
+						assertTrue("Qualified dependency not returned", qualified.getDependency(BlankSuperClass.class) instanceof QualifiedDependency);
+						
+						SomeObject o = new SomeObject();
+						root.injectDependencies(o);
+						assertSame("Different singleton injected", singleton, o.singletonFieldTest());
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			
+			for(Future<?> result : results){
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
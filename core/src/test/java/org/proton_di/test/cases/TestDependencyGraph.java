@@ -0,0 +1,25 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.test.dependencies.loop.LoopA;
+import org.proton_di.test.dependencies.loop.LoopB;
+
+public class TestDependencyGraph {
+	
+	@Test
+	public void loopReportsPath(){
+		try{
+			InjectionManager.getInjector("loop");
+			fail("Dependency loop not detected");
+		} catch(DependencyCreationException e){
+			String loop = LoopA.class.getName() + " -> " + LoopB.class.getName() + " -> " + LoopA.class.getName();
+			assertEquals("Dependency loop detected: " + loop, e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.proton_di.configuration.Configuration;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.scanner.ClassPath;
+import org.proton_di.scanner.index.DependencyIndex;
+import org.proton_di.scanner.index.DependencyIndexProcessor;
+import org.proton_di.test.config.Config;
+import org.proton_di.test.objects.IndexLookup;
+import org.proton_di.test.objects.SomeObject;
+
+public class TestDependencyIndex {
+	
+	DependencyIndex index = DependencyIndex.getInstance();
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	@Test
+	public void indexPresent(){
+		assertTrue("Index was not generated for test classes", index.isPresent());
+	}
+	
+	@Test
+	public void indexMatchesScan(){
+		List<Class<?>> indexed = index.getClassesWithAnnotation(Dependency.class);
+		List<Class<?>> scanned = ClassPath.getInstance().getClassesWithAnnotation(Dependency.class);
+		assertEquals("Indexed dependencies differ from scanned", new HashSet<>(scanned), new HashSet<>(indexed));
+	}
+	
+	@Test
+	public void indexedConfiguration(){
+		List<Class<?>> classes = index.getClassesWithAnnotation(Configuration.class);
+		assertTrue("Index does not contain Config", classes.contains(Config.class));
+	}
+	
+	@Test
+	public void indexedStaticInjection(){
+		List<Class<?>> classes = index.getClassesWithStaticInjection();
+		assertTrue("Index does not contain SomeObject", classes.contains(SomeObject.class));
+		assertFalse("Index contains class without static injection", classes.contains(Config.class));
+	}
+
+	@Test
+	public void incrementalCompileMergesIndex() throws IOException {
+		File output = folder.newFolder("classes");
+		File first = source("First", "@org.proton_di.dependency.Dependency(type = org.proton_di.dependency.InstanceType.SINGLETON) public class First {}");
+		File second = source("Second", "@org.proton_di.dependency.Dependency(type = org.proton_di.dependency.InstanceType.SINGLETON) public class Second {}");
+		
+		compile(output, "-processor", DependencyIndexProcessor.class.getName(), first.getPath(), second.getPath());
+		
+		// Recompile one class, removing its annotation, then the other class alone
+		source("First", "public class First {}");
+		compile(output, "-processor", DependencyIndexProcessor.class.getName(), first.getPath());
+		compile(output, "-processor", DependencyIndexProcessor.class.getName(), second.getPath());
+		
+		List<String> lines = Files.readAllLines(new File(output, DependencyIndex.LOCATION).toPath(), StandardCharsets.UTF_8);
+		assertTrue("Recompiled class missing from index", lines.contains(Dependency.class.getName() + "=index.Second"));
+		assertFalse("Class without annotation kept in index", lines.contains(Dependency.class.getName() + "=index.First"));
+	}
+	
+	@Test
+	public void rootsWithoutIndexScanned() throws Exception {
+		File output = folder.newFolder("unindexed");
+		File unindexed = source("Unindexed", "@org.proton_di.dependency.Dependency(type = org.proton_di.dependency.InstanceType.SINGLETON) public class Unindexed {}");
+		compile(output, "-proc:none", unindexed.getPath());
+		
+		List<String> found = lookup(output.getPath() + File.pathSeparator + System.getProperty("java.class.path"));
+		assertTrue("Class in root without index not found", found.contains("index.Unindexed"));
+		assertTrue("Indexed classes not found", found.containsAll(names(index.getClassesWithAnnotation(Dependency.class))));
+	}
+	
+	@Test
+	public void fullScanWithoutIndex() throws Exception {
+		List<String> found = lookup(System.getProperty("java.class.path"), "-Dproton.scan.index=false");
+		assertTrue("Index used when disabled", found.contains("present=false"));
+		assertTrue("Dependencies not found by scanning", found.containsAll(names(index.getClassesWithAnnotation(Dependency.class))));
+		assertTrue("Static injection not found by scanning", found.contains("static=" + SomeObject.class.getName()));
+	}
+	
+	private File source(String name, String body) throws IOException {
+		Path path = folder.getRoot().toPath().resolve("src/index/" + name + ".java");
+		Files.createDirectories(path.getParent());
+		Files.write(path, ("package index;\n" + body + "\n").getBytes(StandardCharsets.UTF_8));
+		return path.toFile();
+	}
+	
+	private void compile(File output, String... args){
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		List<String> arguments = new ArrayList<>(Arrays.asList("-d", output.getPath(),
+				"-cp", output.getPath() + File.pathSeparator + System.getProperty("java.class.path")));
+		arguments.addAll(Arrays.asList(args));
+		assertEquals("Compilation failed", 0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+	}
+	
+	private List<String> names(List<Class<?>> classes){
+		List<String> names = new ArrayList<>();
+		for(Class<?> c : classes){
+			names.add(c.getName());
+		}
+		return names;
+	}
+	
+	/**
+	 * Looks up every dependency class using the index in a new JVM
+	 * @param classpath The class path to use
+	 * @param properties Any system properties to set, e.g. <code>-Dproton.scan.index=false</code>
+	 * @return Every line printed by {@link IndexLookup}
+	 */
+	private List<String> lookup(String classpath, String... properties) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		command.addAll(Arrays.asList(properties));
+		command.addAll(Arrays.asList("-cp", classpath, IndexLookup.class.getName()));
+		
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		List<String> output = new ArrayList<>();
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))){
+			for(String line = reader.readLine(); line != null; line = reader.readLine()){
+				output.add(line);
+			}
+		}
+		
+		assertTrue("Lookup timed out", process.waitFor(60, TimeUnit.SECONDS));
+		assertEquals("Lookup failed: " + output, 0, process.exitValue());
+		return output;
+	}
+
+}
@@ -0,0 +1,104 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.proton_di.codegen.GeneratedConfiguration;
+import org.proton_di.codegen.GeneratedFactory;
+import org.proton_di.codegen.GeneratedWiring;
+import org.proton_di.inject.InjectionTools;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.config.Config;
+import org.proton_di.test.dependencies.DependencyWithDependencies;
+import org.proton_di.test.dependencies.GeneratedDependency;
+import org.proton_di.test.dependencies.LazyDependency;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+public class TestGeneratedWiring {
+	
+	@Inject
+	static Injector injector;
+	
+	GeneratedWiring wiring = GeneratedWiring.getInstance();
+	InjectionTools tools = new InjectionTools();
+	
+	@Before
+	public void requireGeneratedWiring() {
+		// Tests are also run with proton.codegen=false, where nothing is loaded
+		assumeTrue(!"false".equals(System.getProperty("proton.codegen")));
+	}
+	
+	@Test
+	public void factoriesGeneratedForDependencies() {
+		assertTrue("No generated wiring found", wiring.isPresent());
+		assertNotNull("No factory for dependency", wiring.getFactory(MultipleDependency.class));
+		assertNotNull("No factory for dependency", wiring.getFactory(GeneratedDependency.class));
+	}
+	
+	@Test
+	public void factoryMatchesReflection() {
+		GeneratedFactory<GeneratedDependency> factory = wiring.getFactory(GeneratedDependency.class);
+		assertArrayEquals(tools.getGenericParameterTypes(tools.getInjectionConstructor(GeneratedDependency.class)), factory.getConstructorTypes());
+		assertEquals(tools.getAllInjectableFields(GeneratedDependency.class).stream().map(Field::getGenericType).collect(Collectors.toList()), Arrays.asList(factory.getFieldTypes()));
+		assertArrayEquals(new Class<?>[]{ Object.class }, factory.getAssignableClasses());
+	}
+	
+	@Test
+	public void genericTypesMatchReflection() {
+		Type[] expected = tools.getGenericParameterTypes(tools.getInjectionConstructor(GeneratedDependency.class));
+		Type[] generated = wiring.getFactory(GeneratedDependency.class).getConstructorTypes();
+		assertEquals(expected[1], generated[1]);
+		assertEquals(expected[1].hashCode(), generated[1].hashCode());
+		assertEquals(expected[1].getTypeName(), generated[1].getTypeName());
+	}
+	
+	@Test
+	public void factoryConstructsInstances() {
+		GeneratedDependency created = injector.newInstance(GeneratedDependency.class);
+		assertNotNull("Constructor not called", created.multipleConstructorTest());
+		assertEquals("Collection not passed to constructor", 3, created.handlerSetTest().size());
+		assertNotNull("Field not injected", created.singletonFieldTest());
+		assertEquals("Collection not injected", 3, created.handlerListTest().size());
+	}
+	
+	@Test
+	public void privateMembersFallBackToReflection() {
+		assertNull("Factory generated for private constructor", wiring.getFactory(LazyDependency.class));
+		assertNull("Factory generated for private fields", wiring.getFactory(DependencyWithDependencies.class));
+		assertNotNull(injector.getDependency(LazyDependency.class).singletonFieldTest());
+		assertNotNull(injector.newInstance(DependencyWithDependencies.class).singletonFieldTest());
+	}
+	
+	@Test
+	public void configurationMethodsGenerated() {
+		GeneratedConfiguration generated = wiring.getConfiguration(Config.class);
+		assertNotNull("No generated configuration", generated);
+		
+		List<GeneratedConfiguration.Method> methods = generated.getMethods();
+		Object config = generated.construct();
+		for(int i = 0; i < methods.size(); i++){
+			GeneratedConfiguration.Method m = methods.get(i);
+			if(m.getName().equals("integerDependency")) assertEquals(3, generated.invoke(i, config, new Object[0]));
+		}
+		
+		assertEquals(new HashSet<>(Arrays.asList("integerDependency", "defaultList", "complexDep")), 
+				new HashSet<>(Arrays.asList(methods.stream().map(GeneratedConfiguration.Method::getName).toArray())));
+		assertEquals(Integer.valueOf(3), injector.getDependency(Integer.class));
+	}
+
+}
@@ -0,0 +1,71 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.InjectionTools;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.dependencies.ProviderDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.dependencies.qualified.SupplierUsingDependency;
+import org.proton_di.test.objects.GenericObject;
+
+public class TestGenericTypes {
+	
+	@Inject
+	static Injector injector;
+	
+	@Test
+	public void typeVariableInjectedAsErasure() {
+		GenericObject<SingletonDependency> o = new GenericObject<>();
+		injector.injectDependencies(o);
+		assertSame("Type variable field not injected with its bound", injector.getDependency(SingletonDependency.class), o.genericFieldTest());
+	}
+	
+	@Test
+	public void registeredSupplierInjected() {
+		SupplierUsingDependency dep = InjectionManager.getInjector("supplier").getDependency(SupplierUsingDependency.class);
+		assertEquals("Registered supplier not injected", "registered", dep.greetingTest().get());
+	}
+	
+	@Test
+	public void registeredSupplierOnlyInjectedForItsType() {
+		Injector injector = InjectionManager.getInjector("supplier");
+		SupplierUsingDependency dep = injector.getDependency(SupplierUsingDependency.class);
+		assertSame("Registered supplier injected for another type", injector.getDependency(SingletonDependency.class), dep.singletonTest().get());
+		assertEquals("Registered supplier not injected", "registered", dep.greetingTest().get());
+	}
+	
+	@Test
+	public void supplierTypeIsSupplierDependency() {
+		List<Type> supplied = InstanceType.SINGLETON.createSupplier(ProviderDependency.class).getSupplierDependencies();
+		assertEquals(1, supplied.size());
+		assertSame(MultipleDependency.class, new InjectionTools().getWrappedType(supplied.get(0)));
+	}
+	
+	@Test
+	public void injectionSupplierDefaultsToRawType() {
+		Injector plain = new Injector(){
+			@Override public Object[] getDependencies(Class<?>[] classes){ return injector.getDependencies(classes); }
+			@Override public <T> T getDependency(Class<T> c){ return injector.getDependency(c); }
+			@Override public void injectDependencies(Object o){ injector.injectDependencies(o); }
+			@Override public <T> T newInstance(Class<T> c){ return injector.newInstance(c); }
+			@Override public boolean hasDependency(Class<?> c){ return injector.hasDependency(c); }
+			@Override public void injectIntoStaticFields(Class<?> c){ injector.injectIntoStaticFields(c); }
+		};
+		Supplier<?> supplier = plain.getInjectionSupplier(SingletonDependency.class);
+		assertSame(injector.getDependency(SingletonDependency.class), supplier.get());
+		assertNull("Default qualifier not null", plain.getQualifier());
+	}
+
+}
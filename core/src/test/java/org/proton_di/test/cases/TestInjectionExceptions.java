@@ -1,5 +1,7 @@
 package org.proton_di.test.cases;
 
+import static org.junit.Assert.*;
+
 import java.io.Serializable;
 
 import org.junit.Test;
@@ -8,10 +10,12 @@ import org.proton_di.dependency.exceptions.DependencyCreationException;
 import org.proton_di.dependency.exceptions.MissingConstructorException;
 import org.proton_di.dependency.exceptions.MissingDependencyException;
 import org.proton_di.inject.Injector;
+import org.proton_di.inject.exceptions.InjectionException;
 import org.proton_di.inject.config.Inject;
 import org.proton_di.test.objects.invalid.InvalidConstructorObject;
 import org.proton_di.test.objects.invalid.InvalidInjectionObject;
 import org.proton_di.test.objects.invalid.MultipleConstructorObject;
+import org.proton_di.test.objects.invalid.ThrowingConstructorDependency;
 
 public class TestInjectionExceptions {
 	
@@ -37,4 +41,24 @@ public class TestInjectionExceptions {
 	public void multipleAnnotatedConstructors(){
 		injector.newInstance(MultipleConstructorObject.class);
 	}
+	
+	@Test
+	public void constructorExceptionWrapped(){
+		try{
+			injector.getDependency(ThrowingConstructorDependency.class);
+			fail("Constructor exception not thrown");
+		} catch(MissingConstructorException e){
+			assertTrue("Cause not kept", e.getCause() instanceof IllegalStateException);
+		}
+	}
+	
+	@Test
+	public void injectionExceptionKeepsCause(){
+		Exception cause = new IllegalAccessException("Field is final");
+		InjectionException e = new InjectionException(cause, SomeClass.class);
+		assertSame("Cause not kept", cause, e.getCause());
+		assertEquals("Failed to inject into " + SomeClass.class.getName() + ". Root cause: Field is final", e.getMessage());
+	}
+	
+	static class SomeClass {}
 }
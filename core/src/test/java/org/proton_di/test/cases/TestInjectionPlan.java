@@ -0,0 +1,53 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.proton_di.dependency.exceptions.MissingDependencyException;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.objects.ExtendedObject;
+import org.proton_di.test.objects.invalid.InvalidInjectionObject;
+
+public class TestInjectionPlan {
+	
+	@Inject
+	static Injector injector;
+	
+	@Test
+	public void repeatedInjectionUsesSuppliers(){
+		ExtendedObject first = new ExtendedObject();
+		ExtendedObject second = new ExtendedObject();
+		injector.injectDependencies(first);
+		injector.injectDependencies(second);
+		
+		assertSame("Singleton dependency differs between injections", first.singletonFieldTest(), second.singletonFieldTest());
+		assertNotSame("Multiple dependency reused between injections", first.multipleFieldTest(), second.multipleFieldTest());
+		assertNotSame("Multiple dependency reused between injections", first.extendedFieldTest(), second.extendedFieldTest());
+	}
+	
+	@Test
+	public void superclassFieldsInjected(){
+		ExtendedObject o = new ExtendedObject();
+		injector.injectDependencies(o);
+		
+		assertNotNull("Subclass field not injected", o.extendedFieldTest());
+		assertNotNull("Superclass field not injected", o.singletonFieldTest());
+		assertNotNull("Superclass field not injected", o.multipleFieldTest());
+	}
+	
+	@Test
+	public void missingDependencyNotCached(){
+		for(int i = 0; i < 2; i++){
+			try{
+				injector.injectDependencies(new InvalidInjectionObject());
+				throw new AssertionError("Expected MissingDependencyException");
+			} catch(MissingDependencyException e){
+				// Expected on every attempt
+			}
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.List;
+
+import org.junit.Test;
+import org.proton_di.scanner.resources.JarRoot;
+import org.proton_di.scanner.resources.ScanMode;
+
+public class TestJarRoot {
+	
+	String junitJar = getJarPath(Test.class);
+	
+	@Test
+	public void loadClassesFromJar(){
+		List<Class<?>> classes = new JarRoot(junitJar, ScanMode.REFLECTION).getClasses();
+		assertTrue("Jar classes not loaded", classes.contains(Test.class));
+	}
+	
+	@Test
+	public void bytecodeScanSkipsJarClasses(){
+		List<Class<?>> classes = new JarRoot(junitJar, ScanMode.BYTECODE).getClasses();
+		assertTrue("Classes without Proton annotations loaded " + classes, classes.isEmpty());
+	}
+	
+	private static String getJarPath(Class<?> c){
+		try{
+			return new File(c.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+		} catch(URISyntaxException e){
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.LazyDependency;
+
+public class TestLazySingleton {
+	
+	@Inject
+	static Injector injector;
+	
+	@Test
+	public void createdOnceOnFirstUse() throws Exception {
+		assertEquals("Lazy singleton created before first use", 0, LazyDependency.getInstanceCount());
+		
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try{
+			List<Future<LazyDependency>> results = new ArrayList<>();
+			for(int i = 0; i < threads; i++){
+				Callable<LazyDependency> task = () -> {
+					start.await();
+					return injector.getDependency(LazyDependency.class);
+				};
+				results.add(executor.submit(task));
+			}
+			start.countDown();
+			
+			LazyDependency first = results.get(0).get();
+			assertNotNull("Lazy singleton field not injected", first.singletonFieldTest());
+			for(Future<LazyDependency> result : results){
+				assertSame("Different lazy singleton instances returned", first, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertEquals("Lazy singleton created more than once", 1, LazyDependency.getInstanceCount());
+	}
+
+}
@@ -0,0 +1,106 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.proton_di.dependency.exceptions.AmbiguousDependencyException;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.multi.FirstHandler;
+import org.proton_di.test.dependencies.multi.Handler;
+import org.proton_di.test.dependencies.multi.HandlerRegistry;
+import org.proton_di.test.dependencies.multi.ListenerRegistry;
+import org.proton_di.test.dependencies.multi.SecondHandler;
+import org.proton_di.test.dependencies.multi.UnorderedHandler;
+
+public class TestMultibinding {
+	
+	private static final List<String> ORDER = Arrays.asList(
+			FirstHandler.class.getSimpleName(),
+			SecondHandler.class.getSimpleName(),
+			UnorderedHandler.class.getSimpleName());
+	
+	@Inject
+	static Injector injector;
+	
+	@Inject
+	static HandlerRegistry registry;
+	
+	@Inject
+	static List<String> configuredList;
+	
+	@Test
+	public void listContainsAllImplementationsInOrder() {
+		assertEquals(ORDER, getNames(registry.handlerListTest()));
+		assertSame("Singleton implementation not shared", injector.getDependency(SecondHandler.class), registry.handlerListTest().get(1));
+	}
+	
+	@Test
+	public void arrayContainsAllImplementationsInOrder() {
+		assertEquals(ORDER, getNames(Arrays.asList(registry.handlerArrayTest())));
+	}
+	
+	@Test
+	public void setConstructorParameterContainsAllImplementations() {
+		assertEquals(ORDER, getNames(registry.handlerSetTest()));
+	}
+	
+	@Test
+	public void noImplementationsGivesEmptyArray() {
+		assertEquals("Unimplemented interface not injected as empty", 0, registry.unimplementedTest().length);
+	}
+	
+	@Test
+	public void registeredCollectionUsedWithoutImplementations() {
+		assertEquals("Configured list not injected", injector.getDependency(List.class), configuredList);
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void listIsImmutable() {
+		registry.handlerListTest().add(new UnorderedHandler());
+	}
+	
+	@Test(expected = AmbiguousDependencyException.class)
+	public void singleInjectionStillAmbiguous() {
+		injector.getDependency(Handler.class);
+	}
+	
+	@Test
+	public void newCollectionPerInjection() {
+		HandlerRegistry other = injector.newInstance(HandlerRegistry.class);
+		assertArrayEquals(getNames(registry.handlerListTest()).toArray(), getNames(other.handlerListTest()).toArray());
+		assertTrue("Multiple implementation shared between injections", registry.handlerListTest().get(0) != other.handlerListTest().get(0));
+	}
+	
+	@Test
+	public void singletonCollectionSharedBetweenInjections() {
+		ListenerRegistry first = injector.newInstance(ListenerRegistry.class);
+		ListenerRegistry second = injector.newInstance(ListenerRegistry.class);
+		assertEquals("Not every singleton implementation injected", 2, first.listenerListTest().size());
+		assertSame("Singleton collection rebuilt for each injection", first.listenerListTest(), second.listenerListTest());
+	}
+	
+	@Test
+	public void singletonArrayCopiedForEachInjection() {
+		ListenerRegistry first = injector.newInstance(ListenerRegistry.class);
+		ListenerRegistry second = injector.newInstance(ListenerRegistry.class);
+		assertNotSame("Mutable array shared between injections", first.listenerArrayTest(), second.listenerArrayTest());
+		assertArrayEquals(first.listenerArrayTest(), second.listenerArrayTest());
+	}
+	
+	private List<String> getNames(Collection<Handler> handlers) {
+		List<String> names = new ArrayList<>();
+		for(Handler handler : handlers) names.add(handler.getName());
+		return names;
+	}
+
+}
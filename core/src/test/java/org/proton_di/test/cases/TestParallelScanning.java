@@ -0,0 +1,33 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.Test;
+import org.proton_di.scanner.resources.ClasspathResourceRoot;
+import org.proton_di.scanner.resources.ScanMode;
+
+public class TestParallelScanning {
+	
+	@Test
+	public void parallelScanIsDeterministic() throws URISyntaxException {
+		String path = new File(getClass().getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+		List<Class<?>> sequential = new ClasspathResourceRoot(path, ScanMode.REFLECTION).getClasses();
+		
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try{
+			for(int i = 0; i < 5; i++){
+				List<Class<?>> parallel = pool.invoke(ForkJoinTask.adapt(() -> new ClasspathResourceRoot(path, ScanMode.REFLECTION).getClasses()));
+				assertEquals("Parallel scan returned classes in a different order", sequential, parallel);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
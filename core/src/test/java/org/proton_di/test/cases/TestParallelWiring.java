@@ -0,0 +1,86 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.proton_di.dependency.exceptions.DependencyCreationException;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.test.dependencies.parallel.CombinedDependency;
+import org.proton_di.test.dependencies.parallel.DependentOnFailingDependency;
+import org.proton_di.test.dependencies.parallel.FailingDependency;
+import org.proton_di.test.dependencies.parallel.SlowFirstDependency;
+import org.proton_di.test.dependencies.parallel.SlowSecondDependency;
+
+public class TestParallelWiring {
+	
+	@Before
+	public void enableParallelWiring(){
+		System.setProperty("proton.wiring.parallelism", "4");
+	}
+	
+	@After
+	public void disableParallelWiring(){
+		System.clearProperty("proton.wiring.parallelism");
+		InjectionManager.setWiringExecutor(null);
+	}
+	
+	@Test
+	public void independentSingletonsCreatedConcurrently(){
+		Injector injector = InjectionManager.getInjector("parallel");
+		SlowFirstDependency first = injector.getDependency(SlowFirstDependency.class);
+		SlowSecondDependency second = injector.getDependency(SlowSecondDependency.class);
+		
+		assertTrue("Singleton not created on wiring thread: " + first.getThread(), first.getThread().startsWith("proton-wiring-"));
+		assertTrue("Singleton not created on wiring thread: " + second.getThread(), second.getThread().startsWith("proton-wiring-"));
+		assertTrue("Independent singletons were not created concurrently", first.getStart() < second.getEnd() && second.getStart() < first.getEnd());
+		
+		CombinedDependency combined = injector.getDependency(CombinedDependency.class);
+		assertSame("Field prerequisite not injected", first, combined.getFirst());
+		assertSame("Constructor prerequisite not injected", second, combined.getSecond());
+	}
+	
+	@Test
+	public void failureReportsOriginatingClass(){
+		try{
+			InjectionManager.getInjector("parallelfail");
+			fail("Failing dependency created");
+		} catch(DependencyCreationException e){
+			String expected = "Dependency creation of " + FailingDependency.class.getName() + " failed.";
+			assertTrue("Exception does not report failing class: " + e.getMessage(), e.getMessage().startsWith(expected));
+		}
+	}
+
+	@Test
+	public void wiredOnConfiguredExecutor(){
+		System.clearProperty("proton.wiring.parallelism");
+		ExecutorService service = Executors.newSingleThreadExecutor();
+		AtomicInteger executed = new AtomicInteger();
+		InjectionManager.setWiringExecutor(task -> {
+			executed.incrementAndGet();
+			service.execute(task);
+		});
+		
+		try{
+			InjectionManager.getInjector("parallelfail");
+			fail("Failing dependency created");
+		} catch(DependencyCreationException e){
+			assertTrue("Dependencies not created on configured executor", executed.get() > 0);
+			assertFalse("Configured executor shut down", service.isShutdown());
+			assertEquals("Dependent of failed dependency created", 0, DependentOnFailingDependency.CREATED.get());
+		} finally {
+			service.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.proton_di.dependency.exceptions.PoolException;
+import org.proton_di.dependency.pool.BoundedPool;
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.inject.exceptions.InjectionException;
+import org.proton_di.test.dependencies.PooledDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.PoolUsingObject;
+
+public class TestPooledDependency {
+	
+	@Inject
+	static Injector injector;
+	
+	@Test
+	public void poolInjectedIntoField() {
+		PoolUsingObject o = new PoolUsingObject();
+		injector.injectDependencies(o);
+		assertSame("Injected pool differs from injector pool", injector.getPool(PooledDependency.class), o.poolFieldTest());
+	}
+	
+	@Test
+	public void releasedInstanceResetAndReused() {
+		Pool<PooledDependency> pool = injector.getPool(PooledDependency.class);
+		
+		PooledDependency first;
+		try(Pool.Lease<PooledDependency> lease = pool.lease()){
+			first = lease.get();
+			assertNotNull("Pooled dependency field not injected", first.singletonFieldTest());
+		}
+		int resets = first.getResetCount();
+		assertTrue("Reset method not called on release", resets > 0);
+		
+		PooledDependency second = pool.acquire();
+		assertSame("Released instance not reused", first, second);
+		pool.release(second);
+		assertEquals("Reset method not called on release", resets + 1, second.getResetCount());
+	}
+	
+	@Test
+	public void idleInstancesBounded() {
+		BoundedPool<PooledDependency> pool = (BoundedPool<PooledDependency>) injector.getPool(PooledDependency.class);
+		
+		List<PooledDependency> acquired = new ArrayList<>();
+		for(int i = 0; i < 3; i++) acquired.add(pool.acquire());
+		assertNotSame(acquired.get(0), acquired.get(1));
+		assertEquals("Instances left idle while all acquired", 0, pool.getIdleCount());
+		
+		for(PooledDependency instance : acquired) pool.release(instance);
+		assertEquals("Pool not bounded by pool size", 2, pool.getIdleCount());
+	}
+	
+	@Test
+	public void concurrentUseNeverShared() throws Exception {
+		Pool<PooledDependency> pool = injector.getPool(PooledDependency.class);
+		int before = PooledDependency.getInstanceCount();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<Boolean>> results = new ArrayList<>();
+			for(int t = 0; t < 4; t++){
+				Callable<Boolean> task = () -> {
+					for(int i = 0; i < 1000; i++){
+						try(Pool.Lease<PooledDependency> lease = pool.lease()){
+							if(!lease.get().inUse().compareAndSet(false, true)) return false;
+							lease.get().inUse().set(false);
+						}
+					}
+					return true;
+				};
+				results.add(executor.submit(task));
+			}
+			for(Future<Boolean> result : results){
+				assertTrue("Pooled instance used by two threads at once", result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertTrue("Pooled instances not reused", PooledDependency.getInstanceCount() - before < 4000);
+	}
+	
+	@Test(expected = InjectionException.class)
+	public void poolOfNonPooledDependency() {
+		injector.getPool(SingletonDependency.class);
+	}
+	
+	@Test(expected = InjectionException.class)
+	public void directRetrievalRejected() {
+		injector.getDependency(PooledDependency.class);
+	}
+	
+	@Test(expected = PoolException.class)
+	public void doubleReleaseRejectedWhenDebugging() {
+		Pool<Object> pool;
+		System.setProperty("proton.pool.debug", "true");
+		try{
+			pool = new BoundedPool<>(2, Object::new, o -> {});
+		} finally {
+			System.clearProperty("proton.pool.debug");
+		}
+		
+		Object instance = pool.acquire();
+		pool.release(instance);
+		pool.release(instance);
+	}
+	
+	@Test
+	public void releaseNotTrackedByDefault() {
+		BoundedPool<Object> pool = new BoundedPool<>(2, Object::new, o -> {});
+		pool.release(new Object());
+		assertEquals("Released instance not kept idle", 1, pool.getIdleCount());
+	}
+
+}
@@ -0,0 +1,63 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.inject.config.Provider;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.dependencies.ProviderDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+public class TestProviderInjection {
+	
+	@Inject
+	static Injector injector;
+	
+	@Inject
+	static ProviderDependency providerDependency;
+	
+	@Test
+	public void supplierFieldCreatesNewInstances() {
+		MultipleDependency first = providerDependency.multipleSupplierTest().get();
+		assertNotNull("Supplier returned no instance", first);
+		assertNotSame("Supplier reused multiple instance", first, providerDependency.multipleSupplierTest().get());
+	}
+	
+	@Test
+	public void providerConstructorParameterCreatesNewInstances() {
+		MultipleDependency first = providerDependency.multipleProviderTest().get();
+		assertNotNull("Provider returned no instance", first);
+		assertNotSame("Provider reused multiple instance", first, providerDependency.multipleProviderTest().get());
+	}
+	
+	@Test
+	public void providerBoundToSupplier() {
+		assertSame("Supplier not bound to dependency supplier", injector.getSupplier(MultipleDependency.class), providerDependency.multipleSupplierTest());
+		assertSame("Provider returned different singleton", injector.getDependency(SingletonDependency.class), providerDependency.singletonProviderTest().get());
+	}
+	
+	@Test
+	public void wrappedTypeIsSubDependency() {
+		List<Class<?>> subDependencies = InstanceType.SINGLETON.createSupplier(ProviderDependency.class).getSubDependencies();
+		assertTrue("Wrapped class not a sub dependency", subDependencies.contains(MultipleDependency.class));
+		assertTrue("Wrapped class not a sub dependency", subDependencies.contains(SingletonDependency.class));
+		assertFalse("Wrapper type treated as sub dependency", subDependencies.contains(Supplier.class));
+		assertFalse("Wrapper type treated as sub dependency", subDependencies.contains(Provider.class));
+	}
+	
+	@Test
+	public void plainDependenciesUnaffected() {
+		assertSame(injector.getDependency(SingletonDependency.class), injector.getInjectionSupplier(SingletonDependency.class).get());
+	}
+
+}
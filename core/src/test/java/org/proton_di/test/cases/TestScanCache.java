@@ -0,0 +1,80 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.proton_di.scanner.resources.ResourceRoot;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+public class TestScanCache {
+	
+	File cache;
+	
+	@Before
+	public void enableCache() throws IOException {
+		cache = File.createTempFile("proton", ".idx");
+		cache.delete();
+		System.setProperty("proton.scan.cache", cache.getPath());
+	}
+	
+	@After
+	public void disableCache(){
+		System.clearProperty("proton.scan.cache");
+		cache.delete();
+	}
+	
+	@Test
+	public void cacheWritten() throws IOException {
+		getClasses();
+		assertTrue("Cache file not written", cache.exists());
+		
+		List<String> lines = Files.readAllLines(cache.toPath(), StandardCharsets.UTF_8);
+		assertTrue("Cache does not contain SingletonDependency", lines.contains("class=" + SingletonDependency.class.getName()));
+	}
+	
+	@Test
+	public void unchangedRootsLoadedFromCache() throws IOException {
+		List<Class<?>> scanned = getClasses();
+		
+		// Remove a class from the cache, so it is only found if the root is rescanned
+		List<String> lines = Files.readAllLines(cache.toPath(), StandardCharsets.UTF_8).stream()
+				.filter(line -> !line.equals("class=" + SingletonDependency.class.getName()))
+				.collect(Collectors.toList());
+		Files.write(cache.toPath(), lines, StandardCharsets.UTF_8);
+		
+		List<Class<?>> cached = getClasses();
+		assertFalse("Unchanged root was rescanned", cached.contains(SingletonDependency.class));
+		assertTrue("Cached classes not loaded", cached.contains(MultipleDependency.class));
+		assertEquals("Unexpected number of cached classes", scanned.size() - 1, cached.size());
+	}
+	
+	@Test
+	public void unwritableCacheIgnored() throws IOException {
+		// The cache can't be written beneath a regular file
+		assertTrue(cache.createNewFile());
+		System.setProperty("proton.scan.cache", new File(cache, "cache.idx").getPath());
+		
+		assertTrue("Classes not found with unwritable cache", getClasses().contains(SingletonDependency.class));
+	}
+	
+	private List<Class<?>> getClasses(){
+		List<Class<?>> classes = new ArrayList<>();
+		for(ResourceRoot root : new ResourceRootFactory().getRoots()){
+			classes.addAll(root.getClasses());
+		}
+		return classes;
+	}
+
+}
@@ -0,0 +1,55 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.proton_di.scanner.resources.ClasspathResourceRoot;
+import org.proton_di.scanner.resources.ScanFilter;
+import org.proton_di.scanner.resources.ScanMode;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.dependencies.qualified.QualifiedDependency;
+import org.proton_di.test.objects.SomeObject;
+
+public class TestScanFilter {
+	
+	ScanFilter filter = new ScanFilter(Arrays.asList("com.acme"), Arrays.asList("com.acme.internal"));
+	
+	@Test
+	public void filterClasses(){
+		assertTrue("Included class not accepted", filter.acceptsClass("com.acme.Service"));
+		assertFalse("Excluded class accepted", filter.acceptsClass("com.acme.internal.Service"));
+		assertFalse("Class outside included package accepted", filter.acceptsClass("io.netty.Channel"));
+		assertFalse("Class with matching prefix accepted", filter.acceptsClass("com.acmex.Service"));
+	}
+	
+	@Test
+	public void filterPackages(){
+		assertTrue("Parent of included package not accepted", filter.acceptsPackage("com"));
+		assertTrue("Sub package of included package not accepted", filter.acceptsPackage("com.acme.web"));
+		assertFalse("Excluded package accepted", filter.acceptsPackage("com.acme.internal"));
+		assertFalse("Unrelated package accepted", filter.acceptsPackage("io"));
+	}
+	
+	@Test
+	public void scanWithFilter() throws URISyntaxException {
+		String path = new File(getClass().getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+		
+		System.setProperty("proton.scan.packages", "org.proton_di.test.dependencies");
+		System.setProperty("proton.scan.exclude", "org.proton_di.test.dependencies.qualified");
+		try{
+			List<Class<?>> classes = new ClasspathResourceRoot(path, ScanMode.REFLECTION).getClasses();
+			assertTrue("Included class not loaded", classes.contains(SingletonDependency.class));
+			assertFalse("Excluded class loaded", classes.contains(QualifiedDependency.class));
+			assertFalse("Class outside included package loaded", classes.contains(SomeObject.class));
+		} finally {
+			System.clearProperty("proton.scan.packages");
+			System.clearProperty("proton.scan.exclude");
+		}
+	}
+
+}
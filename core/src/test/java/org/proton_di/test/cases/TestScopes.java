@@ -0,0 +1,135 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.proton_di.dependency.exceptions.ScopeException;
+import org.proton_di.dependency.scope.Scope;
+import org.proton_di.dependency.scope.ScopedInstances;
+import org.proton_di.inject.Injector;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.ScopedDependency;
+import org.proton_di.test.dependencies.ThreadDependency;
+
+public class TestScopes {
+	
+	@Inject
+	static Injector injector;
+	
+	@Test
+	public void threadInstanceReusedOnSameThread() throws Exception {
+		ThreadDependency first = injector.getDependency(ThreadDependency.class);
+		assertNotNull("Thread dependency field not injected", first.singletonFieldTest());
+		assertSame("Thread dependency differs on same thread", first, injector.getDependency(ThreadDependency.class));
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try{
+			ThreadDependency other = executor.submit(() -> injector.getDependency(ThreadDependency.class)).get();
+			assertNotSame("Thread dependency shared between threads", first, other);
+			assertSame("Thread dependency differs on same thread", other, executor.submit(() -> injector.getDependency(ThreadDependency.class)).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void scopedInstanceReusedWithinScope() {
+		ScopedDependency first;
+		try(Scope scope = Scope.open()){
+			first = injector.getDependency(ScopedDependency.class);
+			assertSame("Scoped dependency differs within scope", first, injector.getDependency(ScopedDependency.class));
+			assertFalse("Scoped dependency closed before scope", first.isClosed());
+		}
+		assertTrue("Scoped dependency not closed with scope", first.isClosed());
+		assertNull("Scope still bound after close", Scope.current());
+		
+		try(Scope scope = Scope.open()){
+			assertNotSame("Scoped dependency shared between scopes", first, injector.getDependency(ScopedDependency.class));
+		}
+	}
+	
+	@Test
+	public void nestedScopeRestoresOuter() {
+		try(Scope outer = Scope.open()){
+			ScopedDependency outerInstance = injector.getDependency(ScopedDependency.class);
+			try(Scope inner = Scope.open()){
+				assertNotSame("Nested scope shares outer instance", outerInstance, injector.getDependency(ScopedDependency.class));
+			}
+			assertSame("Outer scope not restored", outer, Scope.current());
+			assertSame("Outer scope instance changed", outerInstance, injector.getDependency(ScopedDependency.class));
+		}
+	}
+	
+	@Test
+	public void scopeSharedWithOtherThreads() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try(Scope scope = Scope.open()){
+			ScopedDependency instance = injector.getDependency(ScopedDependency.class);
+			ScopedDependency other = executor.submit(() -> scope.call(() -> injector.getDependency(ScopedDependency.class))).get();
+			assertSame("Scoped dependency differs on another thread", instance, other);
+			assertNull("Scope left bound to other thread", executor.submit(Scope::current).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void threadInstanceReleased() {
+		ThreadDependency first = injector.getDependency(ThreadDependency.class);
+		ScopedInstances.releaseThread();
+		assertNotSame("Thread dependency kept after release", first, injector.getDependency(ThreadDependency.class));
+	}
+	
+	@Test
+	public void scopeClosedOnOtherThreadUnbound() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try(Scope outer = Scope.open()){
+			Scope inner = Scope.open();
+			ScopedDependency instance = injector.getDependency(ScopedDependency.class);
+			executor.submit(inner::close).get();
+			
+			assertTrue("Scoped dependency not closed with scope", instance.isClosed());
+			assertSame("Closed scope still bound", outer, Scope.current());
+		} finally {
+			executor.shutdown();
+		}
+		assertNull("Scope still bound after close", Scope.current());
+	}
+	
+	@Test
+	public void resolverSuppliesScope() {
+		ScopedDependency instance;
+		Scope scope = Scope.create();
+		Scope.setResolver(() -> scope);
+		try{
+			instance = injector.getDependency(ScopedDependency.class);
+			assertSame("Scoped dependency differs within resolved scope", instance, injector.getDependency(ScopedDependency.class));
+		} finally {
+			Scope.setResolver(null);
+			scope.close();
+		}
+		assertTrue("Scoped dependency not closed with resolved scope", instance.isClosed());
+		assertNull("Resolved scope bound to thread", Scope.current());
+	}
+	
+	@Test(expected = ScopeException.class)
+	public void scopedOutsideScope() {
+		injector.getDependency(ScopedDependency.class);
+	}
+	
+	@Test(expected = ScopeException.class)
+	public void closedScopeCannotBeUsed() {
+		Scope scope = Scope.open();
+		scope.close();
+		scope.run(() -> injector.getDependency(ScopedDependency.class));
+	}
+
+}
@@ -0,0 +1,102 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.report.StartupListener;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupRecorder;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupReport;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.RecordingStartupListener;
+import org.proton_di.test.objects.ThrowingStartupListener;
+
+public class TestStartupReport {
+	
+	@Test
+	public void phasesRecorded() {
+		List<String> phases = getNames(InjectionManager.getStartupReport().getMetrics(Type.PHASE));
+		assertTrue("Index read not recorded", phases.contains("Read dependency index"));
+		assertTrue("Dependency creation not recorded", phases.contains("Create dependencies [root]"));
+		assertTrue("Graph resolution not recorded", phases.contains("Resolve dependency graph [root]"));
+		assertTrue("Static injection not recorded", phases.contains("Inject static fields"));
+	}
+	
+	@Test
+	public void dependenciesRecorded() {
+		List<String> dependencies = getNames(InjectionManager.getStartupReport().getMetrics(Type.DEPENDENCY));
+		assertTrue("Dependency creation not recorded", dependencies.contains(SingletonDependency.class.getName()));
+	}
+	
+	@Test
+	public void metricsSortedByCost() {
+		StartupReport report = InjectionManager.getStartupReport();
+		assertTrue("Total startup time not recorded", report.getTotalTime() > 0);
+		
+		List<StartupMetric> sorted = report.getMetricsByCost();
+		assertEquals(report.getMetrics().size(), sorted.size());
+		for(int i = 1; i < sorted.size(); i++){
+			assertTrue("Metrics not sorted by cost", sorted.get(i - 1).getWallTime() >= sorted.get(i).getWallTime());
+		}
+	}
+	
+	@Test
+	public void listenerNotified() {
+		StartupReport report = RecordingStartupListener.getReport();
+		assertNotNull("Listener not notified of startup", report);
+		assertEquals(report.getTotalTime(), InjectionManager.getStartupReport().getTotalTime());
+		assertTrue("Listener not passed metrics", RecordingStartupListener.getMetrics().size() >= report.getMetrics().size());
+	}
+	
+	@Test
+	public void metricsAfterStartupNotKept() {
+		StartupReport report = InjectionManager.getStartupReport();
+		StartupRecorder.start(Type.PHASE, "After startup").close();
+		
+		assertEquals("Report changed after startup", report.getMetrics(), InjectionManager.getStartupReport().getMetrics());
+		assertFalse("Metric kept after startup", getNames(InjectionManager.getStartupReport().getMetrics(Type.PHASE)).contains("After startup"));
+		assertTrue("Listener not passed metric after startup", getNames(RecordingStartupListener.getMetrics()).contains("After startup"));
+	}
+	
+	@Test
+	public void failingListenerIsolated() {
+		List<StartupMetric> recorded = new CopyOnWriteArrayList<>();
+		StartupListener recording = new StartupListener(){
+			@Override
+			public void metricRecorded(StartupMetric metric) {
+				recorded.add(metric);
+			}
+			
+			@Override
+			public void startupComplete(StartupReport startupReport) {}
+		};
+		StartupListener throwing = new ThrowingStartupListener();
+		
+		StartupRecorder.addListener(throwing);
+		StartupRecorder.addListener(recording);
+		try{
+			StartupRecorder.start(Type.PHASE, "Failing listener").close();
+		} finally {
+			StartupRecorder.removeListener(throwing);
+			StartupRecorder.removeListener(recording);
+		}
+		
+		assertTrue("Listener not passed metric after another failed", getNames(recorded).contains("Failing listener"));
+	}
+	
+	private List<String> getNames(List<StartupMetric> metrics) {
+		List<String> names = new ArrayList<>();
+		for(StartupMetric metric : metrics) names.add(metric.getName());
+		return names;
+	}
+
+}
@@ -3,8 +3,10 @@ package org.proton_di.test.cases;
 import org.junit.Test;
 import org.proton_di.inject.Injector;
 import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.InjectableDependency;
 import org.proton_di.test.dependencies.MultipleDependency;
 import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.InjectableDependencyHolder;
 import org.proton_di.test.objects.SomeInjectableObject;
 import org.proton_di.test.objects.SomeObject;
 
@@ -15,6 +17,10 @@ public class TestStaticInjection {
 	@Inject
 	static Injector injector;
 	
+	// Injected alongside InjectableDependencyHolder, concurrently when proton.inject.parallelism is greater than 1
+	@Inject
+	static InjectableDependency injectable;
+	
 	@Test
 	public void testSingletonDependency(){
 		SingletonDependency s = SomeObject.singletonStaticInjectionTest();
@@ -28,5 +34,15 @@ public class TestStaticInjection {
 		assertNotNull("Dependency not injected", m);
 		assertTrue("New instance of dependency not created", m.isUniqueInstance());
 	}
+	
+	@Test
+	public void testInjectableObjectDependency(){
+		InjectableDependency other = InjectableDependencyHolder.injectableStaticInjectionTest();
+		assertNotNull("Dependency not injected", injectable);
+		assertNotNull("Dependency not injected", other);
+		assertNotSame("New instance of dependency not created", injectable, other);
+		assertSame("Dependencies not injected into InjectableObject", injector.getDependency(SingletonDependency.class), injectable.singletonFieldTest());
+		assertSame("Dependencies not injected into InjectableObject", injectable.singletonFieldTest(), other.singletonFieldTest());
+	}
 
 }
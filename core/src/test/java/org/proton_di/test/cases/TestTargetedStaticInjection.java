@@ -0,0 +1,85 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.scanner.ClassPath;
+import org.proton_di.scanner.index.DependencyIndex;
+import org.proton_di.scanner.resources.ClasspathResourceRoot;
+import org.proton_di.scanner.resources.ResourceRoot;
+import org.proton_di.scanner.resources.ResourceRootFactory;
+import org.proton_di.scanner.resources.ScanMode;
+import org.proton_di.test.config.Config;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.SomeObject;
+
+public class TestTargetedStaticInjection {
+	
+	String testClasses = new File("target/test-classes").getAbsolutePath();
+	
+	@Test
+	public void staticInjectionRecordedWhileScanning() {
+		for(ScanMode mode : ScanMode.values()){
+			List<Class<?>> classes = new ClasspathResourceRoot(testClasses, mode).getClassesWithStaticInjection();
+			assertTrue("Static injection not recorded in " + mode, classes.contains(SomeObject.class));
+			assertFalse("Class without static injection recorded in " + mode, classes.contains(Config.class));
+			assertFalse("Class without static injection recorded in " + mode, classes.contains(SingletonDependency.class));
+		}
+	}
+	
+	@Test
+	public void scanMatchesIndex() {
+		assertEquals("Scanned static injection differs from index",
+				new HashSet<>(DependencyIndex.getInstance().getClassesWithStaticInjection()),
+				new HashSet<>(ClassPath.getInstance().getClassesWithStaticInjection()));
+	}
+	
+	@Test
+	public void staticInjectionCached() throws IOException {
+		File cache = File.createTempFile("proton", ".idx");
+		cache.delete();
+		System.setProperty("proton.scan.cache", cache.getPath());
+		try{
+			List<Class<?>> scanned = getClassesWithStaticInjection();
+			List<String> lines = Files.readAllLines(cache.toPath(), StandardCharsets.UTF_8);
+			assertTrue("Static injection not cached", lines.contains("static=" + SomeObject.class.getName()));
+			
+			assertEquals("Cached static injection differs from scan", scanned, getClassesWithStaticInjection());
+		} finally {
+			System.clearProperty("proton.scan.cache");
+			cache.delete();
+		}
+	}
+	
+	@Test
+	public void onlyStaticInjectionClassesVisited() {
+		List<String> visited = InjectionManager.getStartupReport().getMetrics(Type.STATIC_INJECTION).stream()
+				.map(StartupMetric::getName)
+				.collect(Collectors.toList());
+		
+		assertTrue("Static injection not reported", visited.contains(SomeObject.class.getName()));
+		assertFalse("Class without static injection visited", visited.contains(Config.class.getName()));
+		assertEquals("Classes visited more than once", new HashSet<>(visited).size(), visited.size());
+	}
+	
+	private List<Class<?>> getClassesWithStaticInjection(){
+		List<Class<?>> classes = new ArrayList<>();
+		for(ResourceRoot root : new ResourceRootFactory().getRoots()){
+			classes.addAll(root.getClassesWithStaticInjection());
+		}
+		return classes;
+	}
+
+}
@@ -0,0 +1,172 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.proton_di.test.dependencies.SingletonDependency;
+import org.proton_di.test.objects.PlannedStartup;
+
+public class TestWiringPlan {
+	
+	File plan;
+	
+	@Before
+	public void createPlan() throws IOException {
+		plan = File.createTempFile("proton", ".plan");
+		plan.delete();
+	}
+	
+	@After
+	public void deletePlan(){
+		plan.delete();
+	}
+	
+	@Test
+	public void planWrittenOnFirstStart() throws Exception {
+		List<String> output = start();
+		assertTrue("Dependencies not resolved without a plan", output.contains("phase=Resolve dependency graph [root]"));
+		assertTrue("Plan not written", plan.exists());
+		
+		List<String> lines = Files.readAllLines(plan.toPath(), StandardCharsets.UTF_8);
+		assertTrue("Dependency not planned", lines.contains("dependency=" + SingletonDependency.class.getName() + "|SINGLETON|"));
+		String root = "|" + getRoot();
+		assertTrue("Class root not recorded", lines.stream().anyMatch(line -> line.startsWith("root=") && line.endsWith(root)));
+		assertEquals("Plan not written once", 1, output.stream().filter(line -> line.startsWith("phase=Write wiring plan")).count());
+	}
+	
+	@Test
+	public void planExecutedOnRepeatStart() throws Exception {
+		start();
+		List<String> written = Files.readAllLines(plan.toPath(), StandardCharsets.UTF_8);
+		
+		List<String> output = start();
+		assertFalse("Dependencies resolved with a valid plan", output.contains("phase=Resolve dependency graph [root]"));
+		assertFalse("Dependencies discovered with a valid plan", output.contains("phase=Load dependencies [root]"));
+		assertTrue("Planned dependencies not created", output.contains("phase=Create dependencies [root]"));
+		assertWired(output);
+		assertEquals("Unchanged plan rewritten", written, Files.readAllLines(plan.toPath(), StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void changedClassIgnoresPlan() throws Exception {
+		start();
+		
+		// Change the recorded fingerprint, as if a class in the root had been recompiled
+		String path = "|" + getRoot();
+		String root = "root=0" + path;
+		List<String> lines = Files.readAllLines(plan.toPath(), StandardCharsets.UTF_8).stream()
+				.map(line -> line.startsWith("root=") && line.endsWith(path)? root : line)
+				.collect(Collectors.toList());
+		Files.write(plan.toPath(), lines, StandardCharsets.UTF_8);
+		
+		List<String> output = start();
+		assertTrue("Plan used after class changed", output.contains("phase=Resolve dependency graph [root]"));
+		assertWired(output);
+		assertFalse("Plan not rewritten", Files.readAllLines(plan.toPath(), StandardCharsets.UTF_8).contains(root));
+	}
+	
+	@Test
+	public void changedIndexIgnoresPlan() throws Exception {
+		start();
+		
+		List<String> lines = Files.readAllLines(plan.toPath(), StandardCharsets.UTF_8).stream()
+				.map(line -> line.startsWith("settings=")? "settings=changed" : line)
+				.collect(Collectors.toList());
+		Files.write(plan.toPath(), lines, StandardCharsets.UTF_8);
+		
+		List<String> output = start();
+		assertTrue("Plan used after index changed", output.contains("phase=Resolve dependency graph [root]"));
+		assertWired(output);
+	}
+	
+	@Test
+	public void changedSettingsIgnorePlan() throws Exception {
+		start();
+		
+		List<String> output = start("-Dproton.scan.exclude=org.proton_di.unused");
+		assertTrue("Plan used after scan filter changed", output.contains("phase=Resolve dependency graph [root]"));
+		assertWired(output);
+		
+		output = start("-Dproton.injector.default=supplier");
+		assertTrue("Plan used after default injector changed", output.contains("phase=Resolve dependency graph [root]"));
+		assertWired(output);
+	}
+	
+	@Test
+	public void unwritablePlanDoesNotFailStartup() throws Exception {
+		File dir = Files.createTempDirectory("proton").toFile();
+		plan = new File(dir, "plan");
+		File blocking = new File(plan, "file");
+		try{
+			// A non-empty directory can't be replaced by the plan
+			assertTrue(blocking.mkdirs());
+			
+			List<String> output = start();
+			assertWired(output);
+			assertArrayEquals("Temporary plan not removed", new String[]{plan.getName()}, dir.list());
+		} finally {
+			blocking.delete();
+			plan.delete();
+			dir.delete();
+		}
+	}
+	
+	private void assertWired(List<String> output){
+		assertTrue("Static field not injected", output.contains("static=true"));
+		assertTrue("Constructor not injected", output.contains("constructor=true"));
+		assertTrue("Fields not injected", output.contains("field=true"));
+	}
+	
+	/**
+	 * @return The directory test classes are loaded from
+	 */
+	private String getRoot() throws URISyntaxException {
+		return new File(SingletonDependency.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+	}
+	
+	/**
+	 * Starts the container in a new JVM using the plan, with the
+	 * same class path and Proton properties as this JVM
+	 * @return Every line printed by {@link PlannedStartup}
+	 */
+	private List<String> start(String...properties) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		for(String property : System.getProperties().stringPropertyNames()){
+			if(property.startsWith("proton.")) command.add("-D" + property + "=" + System.getProperty(property));
+		}
+		command.add("-Dproton.wiring.plan=" + plan.getPath());
+		command.addAll(Arrays.asList(properties));
+		command.add(PlannedStartup.class.getName());
+		
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		List<String> output = new ArrayList<>();
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))){
+			for(String line = reader.readLine(); line != null; line = reader.readLine()){
+				output.add(line);
+			}
+		}
+		
+		assertTrue("Startup timed out", process.waitFor(60, TimeUnit.SECONDS));
+		assertEquals("Startup failed: " + output, 0, process.exitValue());
+		return output;
+	}
+
+}
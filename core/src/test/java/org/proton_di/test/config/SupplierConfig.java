@@ -0,0 +1,14 @@
+package org.proton_di.test.config;
+
+import java.util.function.Supplier;
+
+import org.proton_di.configuration.Configuration;
+
+@Configuration(qualifier = "supplier")
+public class SupplierConfig {
+	
+	Supplier<String> greeting(){
+		return () -> "registered";
+	}
+
+}
@@ -0,0 +1,46 @@
+package org.proton_di.test.dependencies;
+
+import java.util.List;
+import java.util.Set;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.multi.Handler;
+
+@Dependency(type = InstanceType.MULTIPLE)
+public class GeneratedDependency {
+
+	@Inject
+	SingletonDependency singletonField;
+
+	@Inject
+	List<Handler> handlerList;
+
+	private final MultipleDependency multipleConstructor;
+
+	private final Set<Handler> handlerSet;
+
+	@Inject
+	public GeneratedDependency(MultipleDependency multipleConstructor, Set<Handler> handlerSet){
+		this.multipleConstructor = multipleConstructor;
+		this.handlerSet = handlerSet;
+	}
+
+	public SingletonDependency singletonFieldTest() {
+		return singletonField;
+	}
+
+	public List<Handler> handlerListTest() {
+		return handlerList;
+	}
+
+	public MultipleDependency multipleConstructorTest() {
+		return multipleConstructor;
+	}
+
+	public Set<Handler> handlerSetTest() {
+		return handlerSet;
+	}
+
+}
@@ -0,0 +1,18 @@
+package org.proton_di.test.dependencies;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.inject.config.InjectableObject;
+
+@Dependency(type = InstanceType.MULTIPLE)
+public class InjectableDependency extends InjectableObject {
+	
+	@Inject
+	private SingletonDependency singletonField;
+	
+	public SingletonDependency singletonFieldTest() {
+		return singletonField;
+	}
+
+}
@@ -0,0 +1,30 @@
+package org.proton_di.test.dependencies;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.LAZY_SINGLETON)
+public class LazyDependency {
+	
+	private static final AtomicInteger instanceCount = new AtomicInteger();
+	
+	@Inject
+	private SingletonDependency singletonField;
+	
+	private LazyDependency() throws InterruptedException {
+		instanceCount.incrementAndGet();
+		Thread.sleep(50);
+	}
+	
+	public static int getInstanceCount() {
+		return instanceCount.get();
+	}
+
+	public SingletonDependency singletonFieldTest() {
+		return singletonField;
+	}
+
+}
@@ -0,0 +1,47 @@
+package org.proton_di.test.dependencies;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.Reset;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.POOLED, poolSize = 2)
+public class PooledDependency {
+	
+	private static final AtomicInteger instanceCount = new AtomicInteger();
+	
+	private final AtomicBoolean inUse = new AtomicBoolean();
+	private int resetCount;
+	
+	@Inject
+	private SingletonDependency singletonField;
+	
+	public PooledDependency() {
+		instanceCount.incrementAndGet();
+	}
+	
+	@Reset
+	private void reset() {
+		resetCount++;
+	}
+	
+	public static int getInstanceCount() {
+		return instanceCount.get();
+	}
+	
+	public int getResetCount() {
+		return resetCount;
+	}
+	
+	public AtomicBoolean inUse() {
+		return inUse;
+	}
+
+	public SingletonDependency singletonFieldTest() {
+		return singletonField;
+	}
+
+}
@@ -0,0 +1,38 @@
+package org.proton_di.test.dependencies;
+
+import java.util.function.Supplier;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.inject.config.Provider;
+
+@Dependency(type = InstanceType.SINGLETON)
+public class ProviderDependency {
+	
+	@Inject
+	private Supplier<MultipleDependency> multipleSupplier;
+	
+	@Inject
+	private Provider<SingletonDependency> singletonProvider;
+	
+	private final Provider<MultipleDependency> multipleProvider;
+	
+	@Inject
+	public ProviderDependency(Provider<MultipleDependency> multipleProvider){
+		this.multipleProvider = multipleProvider;
+	}
+
+	public Supplier<MultipleDependency> multipleSupplierTest() {
+		return multipleSupplier;
+	}
+
+	public Provider<SingletonDependency> singletonProviderTest() {
+		return singletonProvider;
+	}
+
+	public Provider<MultipleDependency> multipleProviderTest() {
+		return multipleProvider;
+	}
+
+}
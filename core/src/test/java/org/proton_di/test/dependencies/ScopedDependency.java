@@ -0,0 +1,20 @@
+package org.proton_di.test.dependencies;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SCOPED)
+public class ScopedDependency implements AutoCloseable {
+	
+	private boolean closed;
+
+	@Override
+	public void close() {
+		closed = true;
+	}
+	
+	public boolean isClosed() {
+		return closed;
+	}
+
+}
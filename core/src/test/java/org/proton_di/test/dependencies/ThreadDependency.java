@@ -0,0 +1,17 @@
+package org.proton_di.test.dependencies;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.THREAD)
+public class ThreadDependency {
+	
+	@Inject
+	private SingletonDependency singletonField;
+
+	public SingletonDependency singletonFieldTest() {
+		return singletonField;
+	}
+
+}
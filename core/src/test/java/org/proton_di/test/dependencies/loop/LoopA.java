@@ -0,0 +1,15 @@
+package org.proton_di.test.dependencies.loop;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier("loop")
+public class LoopA {
+	
+	@Inject
+	LoopB loopB;
+
+}
@@ -0,0 +1,16 @@
+package org.proton_di.test.dependencies.multi;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.dependency.Order;
+
+@Dependency(type = InstanceType.MULTIPLE)
+@Order(1)
+public class FirstHandler implements Handler {
+
+	@Override
+	public String getName() {
+		return "FirstHandler";
+	}
+
+}
@@ -0,0 +1,7 @@
+package org.proton_di.test.dependencies.multi;
+
+public interface Handler {
+	
+	String getName();
+
+}
@@ -0,0 +1,45 @@
+package org.proton_di.test.dependencies.multi;
+
+import java.util.List;
+import java.util.Set;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.SINGLETON)
+public class HandlerRegistry {
+	
+	@Inject
+	private List<Handler> handlerList;
+	
+	@Inject
+	private Handler[] handlerArray;
+	
+	@Inject
+	private Unimplemented[] unimplemented;
+	
+	private final Set<Handler> handlerSet;
+	
+	@Inject
+	public HandlerRegistry(Set<Handler> handlerSet) {
+		this.handlerSet = handlerSet;
+	}
+
+	public List<Handler> handlerListTest() {
+		return handlerList;
+	}
+
+	public Handler[] handlerArrayTest() {
+		return handlerArray;
+	}
+
+	public Unimplemented[] unimplementedTest() {
+		return unimplemented;
+	}
+
+	public Set<Handler> handlerSetTest() {
+		return handlerSet;
+	}
+
+}
@@ -0,0 +1,24 @@
+package org.proton_di.test.dependencies.multi;
+
+import java.util.List;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.MULTIPLE)
+public class ListenerRegistry {
+	
+	@Inject
+	private List<Listener> listenerList;
+	
+	@Inject
+	private Listener[] listenerArray;
+	
+	public List<Listener> listenerListTest() {
+		return listenerList;
+	}
+	public Listener[] listenerArrayTest() {
+		return listenerArray;
+	}
+}
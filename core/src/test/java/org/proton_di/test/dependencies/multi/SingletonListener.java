@@ -0,0 +1,7 @@
+package org.proton_di.test.dependencies.multi;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SINGLETON)
+public class SingletonListener implements Listener {}
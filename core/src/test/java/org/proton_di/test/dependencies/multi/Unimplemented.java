@@ -0,0 +1,3 @@
+package org.proton_di.test.dependencies.multi;
+
+public interface Unimplemented {}
@@ -0,0 +1,14 @@
+package org.proton_di.test.dependencies.multi;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SINGLETON)
+public class UnorderedHandler implements Handler {
+
+	@Override
+	public String getName() {
+		return "UnorderedHandler";
+	}
+
+}
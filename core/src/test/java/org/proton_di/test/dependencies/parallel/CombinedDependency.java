@@ -0,0 +1,30 @@
+package org.proton_di.test.dependencies.parallel;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier("parallel")
+public class CombinedDependency {
+	
+	@Inject
+	private SlowFirstDependency first;
+	
+	private final SlowSecondDependency second;
+	
+	@Inject
+	private CombinedDependency(SlowSecondDependency second){
+		this.second = second;
+	}
+
+	public SlowFirstDependency getFirst() {
+		return first;
+	}
+
+	public SlowSecondDependency getSecond() {
+		return second;
+	}
+
+}
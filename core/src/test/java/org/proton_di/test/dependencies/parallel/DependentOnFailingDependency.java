@@ -0,0 +1,21 @@
+package org.proton_di.test.dependencies.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier("parallelfail")
+public class DependentOnFailingDependency {
+	
+	public static final AtomicInteger CREATED = new AtomicInteger();
+	
+	@Inject
+	private DependentOnFailingDependency(FailingDependency failing){
+		CREATED.incrementAndGet();
+	}
+
+}
@@ -0,0 +1,15 @@
+package org.proton_di.test.dependencies.parallel;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier("parallelfail")
+public class FailingDependency {
+	
+	private FailingDependency(){
+		throw new IllegalStateException("Failed on purpose");
+	}
+
+}
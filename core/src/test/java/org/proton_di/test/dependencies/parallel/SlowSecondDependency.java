@@ -0,0 +1,32 @@
+package org.proton_di.test.dependencies.parallel;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier("parallel")
+public class SlowSecondDependency {
+	
+	private final long start = System.nanoTime();
+	private final String thread = Thread.currentThread().getName();
+	private final long end;
+	
+	private SlowSecondDependency() throws InterruptedException {
+		Thread.sleep(200);
+		end = System.nanoTime();
+	}
+
+	public long getStart() {
+		return start;
+	}
+
+	public long getEnd() {
+		return end;
+	}
+
+	public String getThread() {
+		return thread;
+	}
+
+}
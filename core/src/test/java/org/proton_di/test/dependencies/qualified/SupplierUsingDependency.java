@@ -0,0 +1,29 @@
+package org.proton_di.test.dependencies.qualified;
+
+import java.util.function.Supplier;
+
+import org.proton_di.configuration.Qualifier;
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+@Dependency(type = InstanceType.SINGLETON)
+@Qualifier("supplier")
+public class SupplierUsingDependency {
+	
+	@Inject
+	private Supplier<String> greeting;
+	
+	@Inject
+	private Supplier<SingletonDependency> singleton;
+	
+	public Supplier<String> greetingTest(){
+		return greeting;
+	}
+	
+	public Supplier<SingletonDependency> singletonTest(){
+		return singleton;
+	}
+
+}
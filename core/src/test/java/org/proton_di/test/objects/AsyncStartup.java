@@ -0,0 +1,27 @@
+package org.proton_di.test.objects;
+
+import java.util.concurrent.TimeUnit;
+
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.test.dependencies.InjectableDependency;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+/**
+ * Starts the container asynchronously in a separate JVM, printing
+ * whether static fields were injected before startup completed
+ */
+public class AsyncStartup {
+	
+	public static void main(String[] args) throws Exception {
+		// Startup threads are daemons, so a startup that never completes fails here
+		Injector injector = InjectionManager.startAsync().get(30, TimeUnit.SECONDS);
+		
+		SingletonDependency singleton = injector.getDependency(SingletonDependency.class);
+		InjectableDependency injectable = InjectableDependencyHolder.injectableStaticInjectionTest();
+		System.out.println("root=" + (injector == InjectionManager.getRootInjector()));
+		System.out.println("static=" + (SomeObject.singletonStaticInjectionTest() == singleton));
+		System.out.println("injectable=" + (injectable != null && injectable.singletonFieldTest() == singleton));
+	}
+
+}
@@ -0,0 +1,15 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.MultipleDependency;
+
+public class ExtendedObject extends SomeObject {
+	
+	@Inject
+	private MultipleDependency extendedField;
+
+	public MultipleDependency extendedFieldTest() {
+		return extendedField;
+	}
+	
+}
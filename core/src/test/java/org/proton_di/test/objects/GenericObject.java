@@ -0,0 +1,15 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+public class GenericObject<T extends SingletonDependency> {
+	
+	@Inject
+	private T genericField;
+	
+	public T genericFieldTest() {
+		return genericField;
+	}
+
+}
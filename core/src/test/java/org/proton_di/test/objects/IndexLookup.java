@@ -0,0 +1,23 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.scanner.index.DependencyIndex;
+
+/**
+ * Prints whether the index is used, then every dependency class,
+ * and every class with static injection, found in a separate JVM
+ */
+public class IndexLookup {
+	
+	public static void main(String[] args) {
+		DependencyIndex index = DependencyIndex.getInstance();
+		System.out.println("present=" + index.isPresent());
+		for(Class<?> c : index.getClassesWithAnnotation(Dependency.class)){
+			System.out.println(c.getName());
+		}
+		for(Class<?> c : index.getClassesWithStaticInjection()){
+			System.out.println("static=" + c.getName());
+		}
+	}
+
+}
@@ -0,0 +1,15 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.InjectableDependency;
+
+public class InjectableDependencyHolder {
+	
+	@Inject
+	private static InjectableDependency injectableStatic;
+	
+	public static InjectableDependency injectableStaticInjectionTest(){
+		return injectableStatic;
+	}
+
+}
@@ -0,0 +1,29 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.test.dependencies.DependencyWithDependencies;
+import org.proton_di.test.dependencies.SingletonDependency;
+
+/**
+ * Starts the container in a separate JVM, printing each startup
+ * phase and whether dependencies were wired correctly
+ */
+public class PlannedStartup {
+	
+	public static void main(String[] args) {
+		Injector injector = InjectionManager.getRootInjector();
+		for(StartupMetric metric : InjectionManager.getStartupReport().getMetrics(Type.PHASE)){
+			System.out.println("phase=" + metric.getName());
+		}
+		
+		SingletonDependency singleton = injector.getDependency(SingletonDependency.class);
+		DependencyWithDependencies dep = injector.getDependency(DependencyWithDependencies.class);
+		System.out.println("static=" + (SomeObject.singletonStaticInjectionTest() == singleton));
+		System.out.println("constructor=" + (dep.singletonConstructorTest() == singleton));
+		System.out.println("field=" + (dep.singletonFieldTest() == singleton && dep.getInteger() != 0));
+	}
+
+}
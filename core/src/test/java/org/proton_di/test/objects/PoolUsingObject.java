@@ -0,0 +1,16 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.dependency.pool.Pool;
+import org.proton_di.inject.config.Inject;
+import org.proton_di.test.dependencies.PooledDependency;
+
+public class PoolUsingObject {
+	
+	@Inject
+	private Pool<PooledDependency> pool;
+
+	public Pool<PooledDependency> poolFieldTest() {
+		return pool;
+	}
+
+}
@@ -0,0 +1,33 @@
+package org.proton_di.test.objects;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.proton_di.report.StartupListener;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupReport;
+
+public class RecordingStartupListener implements StartupListener {
+	
+	private static final List<StartupMetric> METRICS = new CopyOnWriteArrayList<>();
+	private static volatile StartupReport report;
+
+	@Override
+	public void metricRecorded(StartupMetric metric) {
+		METRICS.add(metric);
+	}
+
+	@Override
+	public void startupComplete(StartupReport startupReport) {
+		report = startupReport;
+	}
+	
+	public static List<StartupMetric> getMetrics() {
+		return METRICS;
+	}
+	
+	public static StartupReport getReport() {
+		return report;
+	}
+
+}
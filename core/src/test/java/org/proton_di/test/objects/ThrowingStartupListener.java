@@ -0,0 +1,20 @@
+package org.proton_di.test.objects;
+
+import org.proton_di.report.StartupListener;
+import org.proton_di.report.StartupMetric;
+import org.proton_di.report.StartupMetric.Type;
+import org.proton_di.report.StartupReport;
+
+public class ThrowingStartupListener implements StartupListener {
+
+	@Override
+	public void metricRecorded(StartupMetric metric) {
+		if(metric.getType() == Type.PHASE) throw new IllegalStateException("Failed to record " + metric.getName());
+	}
+
+	@Override
+	public void startupComplete(StartupReport startupReport) {
+		throw new IllegalStateException("Failed on startup complete");
+	}
+
+}
@@ -0,0 +1,13 @@
+package org.proton_di.test.objects.invalid;
+
+import org.proton_di.dependency.Dependency;
+import org.proton_di.dependency.InstanceType;
+
+@Dependency(type = InstanceType.MULTIPLE)
+public class ThrowingConstructorDependency {
+	
+	public ThrowingConstructorDependency(){
+		throw new IllegalStateException("Constructor failed");
+	}
+
+}
@@ -0,0 +1,75 @@
+package org.proton_di.test.suites;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.proton_di.test.cases.TestAsyncStartup;
+import org.proton_di.test.cases.TestBytecodeScanning;
+import org.proton_di.test.cases.TestClassPath;
+import org.proton_di.test.cases.TestConcurrentLookup;
+import org.proton_di.test.cases.TestConfiguration;
+import org.proton_di.test.cases.TestDependenciesWithDependencies;
+import org.proton_di.test.cases.TestDependencyGraph;
+import org.proton_di.test.cases.TestDependencyIndex;
+import org.proton_di.test.cases.TestExtensionInjection;
+import org.proton_di.test.cases.TestGeneratedWiring;
+import org.proton_di.test.cases.TestGenericTypes;
+import org.proton_di.test.cases.TestInjectionExceptions;
+import org.proton_di.test.cases.TestInjectionPlan;
+import org.proton_di.test.cases.TestInjectorManagedConstruction;
+import org.proton_di.test.cases.TestInvalidQualifiedInjection;
+import org.proton_di.test.cases.TestJarRoot;
+import org.proton_di.test.cases.TestLazySingleton;
+import org.proton_di.test.cases.TestManualInjection;
+import org.proton_di.test.cases.TestMultibinding;
+import org.proton_di.test.cases.TestParallelScanning;
+import org.proton_di.test.cases.TestParallelWiring;
+import org.proton_di.test.cases.TestPooledDependency;
+import org.proton_di.test.cases.TestProviderInjection;
+import org.proton_di.test.cases.TestQualifiedConfiguration;
+import org.proton_di.test.cases.TestQualifiedInjection;
+import org.proton_di.test.cases.TestScanCache;
+import org.proton_di.test.cases.TestScanFilter;
+import org.proton_di.test.cases.TestScopes;
+import org.proton_di.test.cases.TestStartupReport;
+import org.proton_di.test.cases.TestStaticInjection;
+import org.proton_di.test.cases.TestTargetedStaticInjection;
+import org.proton_di.test.cases.TestWiringPlan;
+
+@RunWith(InjectionSuiteRunner.class)
+@Suite.SuiteClasses({
+	TestClassPath.class,
+	TestStaticInjection.class,
+	TestManualInjection.class,
+	TestDependenciesWithDependencies.class,
+	TestExtensionInjection.class,
+	TestInjectionExceptions.class,
+	TestInjectorManagedConstruction.class,
+	TestConfiguration.class,
+	TestQualifiedConfiguration.class,
+	TestQualifiedInjection.class,
+	TestInvalidQualifiedInjection.class,
+	TestDependencyIndex.class,
+	TestBytecodeScanning.class,
+	TestParallelScanning.class,
+	TestJarRoot.class,
+	TestScanCache.class,
+	TestScanFilter.class,
+	TestInjectionPlan.class,
+	TestDependencyGraph.class,
+	TestParallelWiring.class,
+	TestLazySingleton.class,
+	TestConcurrentLookup.class,
+	TestStartupReport.class,
+	TestScopes.class,
+	TestPooledDependency.class,
+	TestProviderInjection.class,
+	TestMultibinding.class,
+	TestGeneratedWiring.class,
+	TestTargetedStaticInjection.class,
+	TestAsyncStartup.class,
+	TestWiringPlan.class,
+	TestGenericTypes.class
+	})
+public class InjectionTestSuite {
+
+}
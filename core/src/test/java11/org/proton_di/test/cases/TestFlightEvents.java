@@ -0,0 +1,93 @@
+package org.proton_di.test.cases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.proton_di.inject.InjectionManager;
+import org.proton_di.inject.Injector;
+import org.proton_di.report.EventSpan;
+import org.proton_di.report.ProtonEvents;
+import org.proton_di.report.ProtonEvents.Kind;
+import org.proton_di.test.dependencies.MultipleDependency;
+import org.proton_di.test.objects.ExtendedObject;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class TestFlightEvents {
+	
+	private static final String INJECTED = "org.proton_di.DependenciesInjected";
+	private static final String INSTANCE_CREATED = "org.proton_di.InstanceCreated";
+	
+	// Compiled separately from the other tests, so isn't included in the generated wiring
+	private final Injector injector = InjectionManager.getRootInjector();
+	
+	@Test
+	public void eventsRecordedWhenEnabled() throws IOException {
+		List<RecordedEvent> events;
+		try(Recording recording = new Recording()){
+			recording.enable(INJECTED).withoutThreshold();
+			recording.enable(INSTANCE_CREATED).withoutThreshold();
+			recording.start();
+			injector.injectDependencies(new ExtendedObject());
+			recording.stop();
+			events = getEvents(recording);
+		}
+		
+		RecordedEvent injected = find(events, INJECTED, ExtendedObject.class);
+		assertEquals(InjectionManager.ROOT_QUALIFIER, injected.getString("qualifier"));
+		assertTrue("Duration not recorded", !injected.getDuration().isNegative());
+		find(events, INSTANCE_CREATED, MultipleDependency.class);
+	}
+	
+	@Test
+	public void eventsDisabledByDefault() throws IOException {
+		List<RecordedEvent> events;
+		try(Recording recording = new Recording()){
+			recording.start();
+			injector.injectDependencies(new ExtendedObject());
+			recording.stop();
+			events = getEvents(recording);
+		}
+		
+		for(RecordedEvent event : events){
+			assertTrue("Event recorded without being enabled", !event.getEventType().getName().startsWith("org.proton_di"));
+		}
+	}
+	
+	@Test
+	public void disabledEventsShareSpan() {
+		assertSame(EventSpan.NONE, ProtonEvents.begin(Kind.DEPENDENCIES_INJECTED, ExtendedObject.class, InjectionManager.ROOT_QUALIFIER));
+		assertSame(EventSpan.NONE, ProtonEvents.beginScan("classes"));
+	}
+	
+	private List<RecordedEvent> getEvents(Recording recording) throws IOException {
+		Path file = Files.createTempFile("proton", ".jfr");
+		try{
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	private RecordedEvent find(List<RecordedEvent> events, String name, Class<?> dependency){
+		List<String> found = new ArrayList<>();
+		for(RecordedEvent event : events){
+			String eventClass = event.getClass("dependencyClass").getName();
+			if(event.getEventType().getName().equals(name) && eventClass.equals(dependency.getName())) return event;
+			found.add(event.getEventType().getName() + " " + eventClass);
+		}
+		throw new AssertionError("No " + name + " event for " + dependency.getName() + " in " + found);
+	}
+
+}